@@ -0,0 +1,103 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.audit;
+
+import cloud.commandframework.Command;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.Instant;
+
+/**
+ * An audited command, as it is queued for the writer. The command is only formatted once the entry is written,
+ * so that formatting does not happen on the command thread
+ */
+final class AuditEntry {
+
+    private final long timestamp;
+    private final String sender;
+    private final String input;
+    private final Command<?> command;
+    private final String outcome;
+
+    AuditEntry(
+            final long timestamp,
+            final @NonNull String sender,
+            final @NonNull String input,
+            final @Nullable Command<?> command,
+            final @NonNull String outcome
+    ) {
+        this.timestamp = timestamp;
+        this.sender = sender;
+        this.input = input;
+        this.command = command;
+        this.outcome = outcome;
+    }
+
+    /**
+     * Append the entry as a single line, with tab separated fields in the order timestamp, sender, outcome, command
+     * and input. Tabs, line breaks and backslashes in the fields are escaped, and absent commands are written as
+     * {@code -}
+     *
+     * @param builder Builder to append the line to
+     */
+    void appendTo(final @NonNull StringBuilder builder) {
+        builder.append(Instant.ofEpochMilli(this.timestamp)).append('\t');
+        appendEscaped(builder, this.sender);
+        builder.append('\t');
+        appendEscaped(builder, this.outcome);
+        builder.append('\t');
+        if (this.command == null) {
+            builder.append('-');
+        } else {
+            appendEscaped(builder, this.command.toString());
+        }
+        builder.append('\t');
+        appendEscaped(builder, this.input);
+        builder.append('\n');
+    }
+
+    private static void appendEscaped(final @NonNull StringBuilder builder, final @NonNull String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.audit;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Append-only audit log file, which is rotated once it reaches a maximum size or age. Rotated files are renamed
+ * to the name of the log file, followed by the time of the rotation. This is only used by the writer thread
+ */
+final class AuditLogWriter implements Closeable {
+
+    private static final DateTimeFormatter ROTATION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+            .withZone(ZoneOffset.UTC);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final long maxFileSize;
+    private final long maxFileAge;
+    private OutputStream stream;
+    private long size;
+    private long openedAt;
+
+    /**
+     * Create a new writer. The file is opened when the first entry is written
+     *
+     * @param file        Log file
+     * @param maxFileSize Size in bytes at which the file is rotated
+     * @param maxFileAge  Time in milliseconds after which the file is rotated
+     */
+    AuditLogWriter(final @NonNull Path file, final long maxFileSize, final long maxFileAge) {
+        this.file = file;
+        this.maxFileSize = maxFileSize;
+        this.maxFileAge = maxFileAge;
+    }
+
+    /**
+     * Append an encoded entry, rotating the file first if the entry would make it exceed its maximum size
+     *
+     * @param entry Encoded entry
+     * @return {@code true} if the file was rotated
+     * @throws IOException If the entry could not be written
+     */
+    boolean write(final byte @NonNull [] entry) throws IOException {
+        boolean rotated = false;
+        if (this.stream == null) {
+            this.open();
+        } else if (this.size > 0 && this.size + entry.length > this.maxFileSize) {
+            this.rotate();
+            rotated = true;
+        }
+        this.stream.write(entry);
+        this.size += entry.length;
+        return rotated;
+    }
+
+    /**
+     * Rotate the file if it has been open for longer than its maximum age and is not empty
+     *
+     * @param now Current time in milliseconds since the epoch
+     * @return {@code true} if the file was rotated
+     * @throws IOException If the file could not be rotated
+     */
+    boolean rotateIfExpired(final long now) throws IOException {
+        if (this.stream == null || this.size == 0 || now - this.openedAt < this.maxFileAge) {
+            return false;
+        }
+        this.rotate();
+        return true;
+    }
+
+    /**
+     * Flush buffered entries to the file
+     *
+     * @throws IOException If the entries could not be written
+     */
+    void flush() throws IOException {
+        if (this.stream != null) {
+            this.stream.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.stream == null) {
+            return;
+        }
+        try {
+            this.stream.close();
+        } finally {
+            this.stream = null;
+        }
+    }
+
+    private void open() throws IOException {
+        this.stream = new BufferedOutputStream(Files.newOutputStream(
+                this.file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND
+        ), BUFFER_SIZE);
+        this.size = Files.size(this.file);
+        this.openedAt = System.currentTimeMillis();
+    }
+
+    private void rotate() throws IOException {
+        this.close();
+        final String name = this.file.getFileName() + "." + ROTATION_FORMAT.format(Instant.now());
+        Path target = this.file.resolveSibling(name);
+        for (int i = 1; Files.exists(target); i++) {
+            target = this.file.resolveSibling(name + "." + i);
+        }
+        Files.move(this.file, target);
+        this.open();
+    }
+
+}
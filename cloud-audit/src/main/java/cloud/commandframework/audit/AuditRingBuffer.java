@@ -0,0 +1,133 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.audit;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue with any number of producers and a single consumer. Producers claim a slot by
+ * advancing the tail, and then publish their element into it. The consumer takes published elements in
+ * the order that the slots were claimed, and releases each slot by advancing the head
+ *
+ * @param <E> Element type
+ */
+final class AuditRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Create a new ring buffer
+     *
+     * @param capacity Minimum capacity, which is rounded up to the next power of two
+     */
+    AuditRingBuffer(final int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("The capacity must be between 1 and 2^30, was " + capacity);
+        }
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Get the number of slots in the buffer
+     *
+     * @return Capacity
+     */
+    int capacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * Get the number of claimed slots that have not yet been released by the consumer
+     *
+     * @return Number of queued elements
+     */
+    int size() {
+        final long head = this.head.get();
+        return (int) Math.max(0L, Math.min(this.tail.get() - head, this.capacity()));
+    }
+
+    /**
+     * Attempt to add an element to the buffer. This never blocks
+     *
+     * @param element Element
+     * @return {@code true} if the element was added, {@code false} if the buffer is full
+     */
+    boolean offer(final @NonNull E element) {
+        final int capacity = this.mask + 1;
+        long tail;
+        do {
+            tail = this.tail.get();
+            if (tail - this.head.get() >= capacity) {
+                return false;
+            }
+        } while (!this.tail.compareAndSet(tail, tail + 1));
+        this.slots.lazySet((int) tail & this.mask, element);
+        return true;
+    }
+
+    /**
+     * Take the next element from the buffer. This may only be called by the consumer thread
+     *
+     * @return Element, or {@code null} if the buffer is empty or the next element has not been published yet
+     */
+    @Nullable E poll() {
+        final long head = this.head.get();
+        final int index = (int) head & this.mask;
+        final E element = this.slots.get(index);
+        if (element == null) {
+            return null;
+        }
+        this.slots.lazySet(index, null);
+        this.head.lazySet(head + 1);
+        return element;
+    }
+
+    /**
+     * Move up to {@code limit} elements into a list. This may only be called by the consumer thread
+     *
+     * @param target List that the elements are added to
+     * @param limit  Maximum number of elements to move
+     * @return Number of elements that were moved
+     */
+    int drainTo(final @NonNull List<? super E> target, final int limit) {
+        int drained = 0;
+        E element;
+        while (drained < limit && (element = this.poll()) != null) {
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+}
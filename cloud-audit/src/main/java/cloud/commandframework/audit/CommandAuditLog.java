@@ -0,0 +1,408 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.audit;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.exceptions.ExceptionHandlerRegistry;
+import cloud.commandframework.execution.postprocessor.CommandPostprocessingContext;
+import cloud.commandframework.execution.postprocessor.CommandPostprocessor;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * {@link CommandPostprocessor} that writes an audit log of executed commands. Register it using
+ * {@link cloud.commandframework.CommandManager#registerCommandPostProcessor(CommandPostprocessor)}, after any
+ * postprocessors that may reject commands, so that it only records commands that are about to be executed.
+ * <p>
+ * Recording a command only captures the sender identity and enqueues the entry into a bounded lock-free ring buffer.
+ * A background thread drains the buffer in batches, formats the entries and appends them to the log file, which is
+ * rotated once it reaches its maximum size or age. When the buffer is full, entries are dropped and counted rather
+ * than blocking the command thread. The number of queued and dropped entries can be monitored to detect a writer
+ * that does not keep up.
+ * <p>
+ * Each entry is a line of tab separated fields: the time of the execution, the sender identity, the outcome, the
+ * resolved command and the raw input. Commands that reach the postprocessor have the outcome {@link #OUTCOME_ACCEPTED}.
+ * Failures that happen before postprocessing, such as invalid syntax or missing permissions, never reach
+ * postprocessors, and can be recorded using {@link #recordFailure(Object, String, Throwable)}, for example from
+ * an exception handler.
+ * <p>
+ * The log must be {@link #close() closed} on shutdown, so that queued entries are written
+ *
+ * @param <C> Command sender type
+ * @since 1.4.0
+ */
+public final class CommandAuditLog<C> implements CommandPostprocessor<C>, Closeable {
+
+    /**
+     * Outcome of commands that were accepted for execution
+     */
+    public static final String OUTCOME_ACCEPTED = "ACCEPTED";
+
+    private final AuditRingBuffer<AuditEntry> buffer;
+    private final Function<@NonNull C, @NonNull String> senderIdentity;
+    private final AuditLogWriter writer;
+    private final int batchSize;
+    private final long flushInterval;
+    private final Thread thread;
+    private final AtomicInteger activeProducers = new AtomicInteger();
+    private final LongAdder droppedEntries = new LongAdder();
+    private final AtomicLong writtenEntries = new AtomicLong();
+    private final AtomicLong writeFailures = new AtomicLong();
+    private final AtomicLong rotations = new AtomicLong();
+    private volatile boolean running = true;
+    private long lastFlush;
+
+    private CommandAuditLog(final @NonNull Builder<C> builder) {
+        this.buffer = new AuditRingBuffer<>(builder.capacity);
+        this.senderIdentity = builder.senderIdentity;
+        this.writer = new AuditLogWriter(builder.file, builder.maxFileSize, builder.maxFileAge.toMillis());
+        this.batchSize = builder.batchSize;
+        this.flushInterval = builder.flushInterval.toNanos();
+        this.thread = new Thread(this::run, "cloud-audit-writer");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Create a new audit log builder
+     *
+     * @param file           Log file. Entries are appended to the file if it already exists
+     * @param senderIdentity Function that identifies senders in the log, such as by their name or unique id. This
+     *                       is called on the command thread, and should therefore be cheap
+     * @param <C>            Command sender type
+     * @return Builder
+     */
+    public static <C> @NonNull Builder<C> builder(
+            final @NonNull Path file,
+            final @NonNull Function<@NonNull C, @NonNull String> senderIdentity
+    ) {
+        return new Builder<>(file, senderIdentity);
+    }
+
+    @Override
+    public void accept(final @NonNull CommandPostprocessingContext<C> context) {
+        final CommandContext<C> commandContext = context.getCommandContext();
+        final String input = commandContext.getInput();
+        this.enqueue(commandContext.getSender(), input == null ? "" : input, context.getCommand(), OUTCOME_ACCEPTED);
+    }
+
+    /**
+     * Record a command that failed. The outcome of the entry is the simple name of the exception type, after
+     * {@link java.util.concurrent.CompletionException completion exceptions} have been unwrapped
+     *
+     * @param sender  Command sender
+     * @param input   Command input
+     * @param failure Exception that the command failed with
+     */
+    public void recordFailure(final @NonNull C sender, final @NonNull String input, final @NonNull Throwable failure) {
+        this.enqueue(sender, input, null, ExceptionHandlerRegistry.unwrap(failure).getClass().getSimpleName());
+    }
+
+    private void enqueue(
+            final @NonNull C sender,
+            final @NonNull String input,
+            final @Nullable Command<C> command,
+            final @NonNull String outcome
+    ) {
+        /*
+         * The writer only stops once the log is closed and no producer is between checking the flag and
+         * offering its entry, so every entry is either written or counted as dropped
+         */
+        this.activeProducers.incrementAndGet();
+        try {
+            if (!this.running || !this.buffer.offer(new AuditEntry(
+                    System.currentTimeMillis(),
+                    this.senderIdentity.apply(sender),
+                    input,
+                    command,
+                    outcome
+            ))) {
+                this.droppedEntries.increment();
+            }
+        } finally {
+            this.activeProducers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Get the number of entries that the buffer can hold
+     *
+     * @return Buffer capacity
+     */
+    public int getCapacity() {
+        return this.buffer.capacity();
+    }
+
+    /**
+     * Get the number of entries that are waiting to be written. A queue that stays close to the
+     * {@link #getCapacity() capacity} means that the writer does not keep up, and that entries will be dropped
+     *
+     * @return Number of queued entries
+     */
+    public int getQueuedEntries() {
+        return this.buffer.size();
+    }
+
+    /**
+     * Get the number of entries that were dropped, because the buffer was full or the log was closed
+     *
+     * @return Dropped entry count
+     */
+    public long getDroppedEntries() {
+        return this.droppedEntries.sum();
+    }
+
+    /**
+     * Get the number of entries that have been written to the log
+     *
+     * @return Written entry count
+     */
+    public long getWrittenEntries() {
+        return this.writtenEntries.get();
+    }
+
+    /**
+     * Get the number of entries that could not be written, because writing to the log file failed
+     *
+     * @return Failed entry count
+     */
+    public long getWriteFailures() {
+        return this.writeFailures.get();
+    }
+
+    /**
+     * Get the number of times that the log file has been rotated
+     *
+     * @return Rotation count
+     */
+    public long getRotations() {
+        return this.rotations.get();
+    }
+
+    /**
+     * Stop accepting entries, and wait for the queued entries to be written and the log file to be closed
+     */
+    @Override
+    public void close() {
+        this.running = false;
+        LockSupport.unpark(this.thread);
+        try {
+            this.thread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        final List<AuditEntry> batch = new ArrayList<>(this.batchSize);
+        final StringBuilder line = new StringBuilder();
+        this.lastFlush = System.nanoTime();
+        while (true) {
+            /* Read the flag before draining, so that entries that were queued before closing are written */
+            final boolean running = this.running;
+            if (this.buffer.drainTo(batch, this.batchSize) > 0) {
+                this.write(batch, line);
+                batch.clear();
+                this.maintain(false);
+            } else if (running) {
+                this.maintain(true);
+                LockSupport.parkNanos(this, this.flushInterval);
+            } else if (this.activeProducers.get() > 0 || this.buffer.size() > 0) {
+                /* Wait for producers that are still offering entries, or for claimed slots to be published */
+                Thread.yield();
+            } else {
+                break;
+            }
+        }
+        try {
+            this.writer.close();
+        } catch (final IOException e) {
+            this.writeFailures.incrementAndGet();
+        }
+    }
+
+    private void write(final @NonNull List<@NonNull AuditEntry> batch, final @NonNull StringBuilder line) {
+        int written = 0;
+        try {
+            for (final AuditEntry entry : batch) {
+                line.setLength(0);
+                entry.appendTo(line);
+                if (this.writer.write(line.toString().getBytes(StandardCharsets.UTF_8))) {
+                    this.rotations.incrementAndGet();
+                }
+                written++;
+            }
+        } catch (final IOException e) {
+            this.writeFailures.addAndGet(batch.size() - written);
+            this.closeAfterFailure();
+        } finally {
+            this.writtenEntries.addAndGet(written);
+        }
+    }
+
+    private void maintain(final boolean idle) {
+        try {
+            final long now = System.nanoTime();
+            if (idle || now - this.lastFlush >= this.flushInterval) {
+                this.writer.flush();
+                this.lastFlush = now;
+            }
+            if (this.writer.rotateIfExpired(System.currentTimeMillis())) {
+                this.rotations.incrementAndGet();
+            }
+        } catch (final IOException e) {
+            this.closeAfterFailure();
+        }
+    }
+
+    private void closeAfterFailure() {
+        /* The file is reopened when the next entry is written */
+        try {
+            this.writer.close();
+        } catch (final IOException ignored) {
+        }
+    }
+
+
+    /**
+     * Builder for {@link CommandAuditLog}
+     *
+     * @param <C> Command sender type
+     */
+    public static final class Builder<C> {
+
+        private final Path file;
+        private final Function<@NonNull C, @NonNull String> senderIdentity;
+        private int capacity = 8192;
+        private int batchSize = 512;
+        private Duration flushInterval = Duration.ofSeconds(1L);
+        private long maxFileSize = Long.MAX_VALUE;
+        private Duration maxFileAge = Duration.ofMillis(Long.MAX_VALUE);
+
+        private Builder(final @NonNull Path file, final @NonNull Function<@NonNull C, @NonNull String> senderIdentity) {
+            this.file = file;
+            this.senderIdentity = senderIdentity;
+        }
+
+        /**
+         * Set the number of entries that can be queued before entries are dropped. This is rounded up to the next
+         * power of two. Defaults to {@code 8192}
+         *
+         * @param capacity Buffer capacity. Must be between 1 and 2^30
+         * @return Builder instance
+         */
+        public @NonNull Builder<C> capacity(final int capacity) {
+            if (capacity < 1 || capacity > (1 << 30)) {
+                throw new IllegalArgumentException("The capacity must be between 1 and 2^30, was " + capacity);
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of entries that are written at once. Defaults to {@code 512}
+         *
+         * @param batchSize Batch size. Must be at least 1
+         * @return Builder instance
+         */
+        public @NonNull Builder<C> batchSize(final int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("The batch size must be at least 1, was " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum time that written entries stay buffered before they are flushed to the file. This is also
+         * how often an idle writer checks for new entries. Defaults to one second
+         *
+         * @param flushInterval Flush interval. Must be positive
+         * @return Builder instance
+         */
+        public @NonNull Builder<C> flushInterval(final @NonNull Duration flushInterval) {
+            if (flushInterval.isNegative() || flushInterval.isZero()) {
+                throw new IllegalArgumentException("The flush interval must be positive, was " + flushInterval);
+            }
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * Set the size at which the log file is rotated. A file is rotated before an entry would make it exceed
+         * this size. By default, files are not rotated by size
+         *
+         * @param maxFileSize Maximum file size in bytes. Must be positive
+         * @return Builder instance
+         */
+        public @NonNull Builder<C> maxFileSize(final long maxFileSize) {
+            if (maxFileSize < 1L) {
+                throw new IllegalArgumentException("The maximum file size must be positive, was " + maxFileSize);
+            }
+            this.maxFileSize = maxFileSize;
+            return this;
+        }
+
+        /**
+         * Set the time after which the log file is rotated, counted from when the file was opened. Empty files are
+         * not rotated. By default, files are not rotated by age
+         *
+         * @param maxFileAge Maximum file age. Must be positive
+         * @return Builder instance
+         */
+        public @NonNull Builder<C> maxFileAge(final @NonNull Duration maxFileAge) {
+            if (maxFileAge.isNegative() || maxFileAge.isZero()) {
+                throw new IllegalArgumentException("The maximum file age must be positive, was " + maxFileAge);
+            }
+            this.maxFileAge = maxFileAge;
+            return this;
+        }
+
+        /**
+         * Build the audit log and start its writer thread. The log file is opened when the first entry is written
+         *
+         * @return Audit log
+         */
+        public @NonNull CommandAuditLog<C> build() {
+            final CommandAuditLog<C> auditLog = new CommandAuditLog<>(this);
+            auditLog.thread.start();
+            return auditLog;
+        }
+
+    }
+
+}
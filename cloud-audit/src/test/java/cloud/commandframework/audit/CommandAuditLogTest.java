@@ -0,0 +1,223 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.audit;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.exceptions.NoSuchCommandException;
+import cloud.commandframework.execution.CommandExecutionCoordinator;
+import cloud.commandframework.internal.CommandRegistrationHandler;
+import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class CommandAuditLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testAuditLog() throws IOException {
+        final Path file = this.directory.resolve("audit.log");
+        final CommandManager<String> manager = createManager();
+        final CommandAuditLog<String> auditLog = CommandAuditLog.<String>builder(file, sender -> sender)
+                .maxFileSize(100L)
+                .build();
+        manager.registerCommandPostProcessor(auditLog);
+        manager.executeCommand("alice", "count 1").join();
+        manager.executeCommand("b\tob", "count 2").join();
+        final CompletionException failure = Assertions.assertThrows(
+                CompletionException.class,
+                () -> manager.executeCommand("alice", "missing").join()
+        );
+        auditLog.recordFailure("alice", "missing", failure);
+        auditLog.close();
+
+        Assertions.assertEquals(3L, auditLog.getWrittenEntries());
+        Assertions.assertEquals(0L, auditLog.getDroppedEntries());
+        Assertions.assertEquals(0L, auditLog.getWriteFailures());
+        Assertions.assertEquals(2L, auditLog.getRotations());
+
+        final List<String[]> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (final Path path : files.sorted().collect(Collectors.toList())) {
+                for (final String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                    entries.add(line.split("\t"));
+                }
+            }
+        }
+        /* The current file sorts first, followed by the rotated files in the order they were rotated */
+        Assertions.assertEquals(3, entries.size());
+        Assertions.assertArrayEquals(
+                new String[]{"alice", CommandAuditLog.OUTCOME_ACCEPTED, "count value", "count 1"},
+                tail(entries.get(1))
+        );
+        Assertions.assertArrayEquals(
+                new String[]{"b\\tob", CommandAuditLog.OUTCOME_ACCEPTED, "count value", "count 2"},
+                tail(entries.get(2))
+        );
+        Assertions.assertArrayEquals(
+                new String[]{"alice", NoSuchCommandException.class.getSimpleName(), "-", "missing"},
+                tail(entries.get(0))
+        );
+
+        /* Closed logs drop entries */
+        auditLog.recordFailure("alice", "missing", failure);
+        Assertions.assertEquals(1L, auditLog.getDroppedEntries());
+    }
+
+    @Test
+    void testRingBuffer() {
+        final AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(3);
+        Assertions.assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(buffer.offer(i));
+        }
+        Assertions.assertFalse(buffer.offer(4));
+        Assertions.assertEquals(4, buffer.size());
+        Assertions.assertEquals(0, buffer.poll());
+        Assertions.assertTrue(buffer.offer(4));
+
+        final List<Integer> drained = new ArrayList<>();
+        Assertions.assertEquals(3, buffer.drainTo(drained, 3));
+        Assertions.assertEquals(1, buffer.drainTo(drained, 3));
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 4), drained);
+        Assertions.assertEquals(0, buffer.size());
+        Assertions.assertNull(buffer.poll());
+    }
+
+    @Test
+    void testConcurrentRingBuffer() throws InterruptedException {
+        final int producers = 4;
+        final int entries = 5000;
+        final AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(16);
+        final List<Thread> threads = new ArrayList<>();
+        for (int producer = 0; producer < producers; producer++) {
+            final int offset = producer * entries;
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < entries; i++) {
+                    while (!buffer.offer(offset + i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        /* Every producer's entries must arrive exactly once, and in the order that they were offered */
+        final int[] next = new int[producers];
+        final List<Integer> drained = new ArrayList<>();
+        int received = 0;
+        while (received < producers * entries) {
+            drained.clear();
+            if (buffer.drainTo(drained, 8) == 0) {
+                Thread.yield();
+                continue;
+            }
+            for (final int entry : drained) {
+                final int producer = entry / entries;
+                Assertions.assertEquals(next[producer]++, entry % entries);
+            }
+            received += drained.size();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertNull(buffer.poll());
+        Assertions.assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void testConcurrentClose() throws InterruptedException {
+        final int producers = 4;
+        final int entries = 2000;
+        final CommandAuditLog<String> auditLog = CommandAuditLog.<String>builder(
+                this.directory.resolve("audit.log"),
+                sender -> sender
+        ).capacity(64).build();
+        final Throwable failure = new IllegalStateException();
+        final List<Thread> threads = new ArrayList<>();
+        for (int producer = 0; producer < producers; producer++) {
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < entries; i++) {
+                    auditLog.recordFailure("alice", "missing", failure);
+                    if (i % 16 == 0) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        auditLog.close();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        /* Entries that were recorded while the log was closing are either written or counted as dropped */
+        Assertions.assertEquals((long) producers * entries, auditLog.getWrittenEntries() + auditLog.getDroppedEntries());
+        Assertions.assertEquals(0L, auditLog.getWriteFailures());
+    }
+
+    private static String[] tail(final String[] entry) {
+        final String[] tail = new String[entry.length - 1];
+        System.arraycopy(entry, 1, tail, 0, tail.length);
+        return tail;
+    }
+
+    private static CommandManager<String> createManager() {
+        final CommandManager<String> manager = new CommandManager<String>(
+                CommandExecutionCoordinator.simpleCoordinator(),
+                CommandRegistrationHandler.nullCommandRegistrationHandler()
+        ) {
+            @Override
+            public boolean hasPermission(final String sender, final String permission) {
+                return true;
+            }
+
+            @Override
+            public CommandMeta createDefaultCommandMeta() {
+                return SimpleCommandMeta.empty();
+            }
+        };
+        manager.command(manager.commandBuilder("count").argument(IntegerArgument.of("value")).handler(c -> {
+        }));
+        return manager;
+    }
+
+}
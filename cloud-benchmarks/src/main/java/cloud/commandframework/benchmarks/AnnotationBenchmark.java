@@ -0,0 +1,149 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.annotations.AnnotationParser;
+import cloud.commandframework.annotations.Argument;
+import cloud.commandframework.annotations.CommandMethod;
+import cloud.commandframework.annotations.Flag;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.execution.CommandResult;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution of commands with annotated handler methods, compared to the same command built using a builder
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnnotationBenchmark {
+
+    private CommandManager<BenchmarkSender> manager;
+    private BenchmarkSender sender;
+
+    /**
+     * Parse the annotated commands and register the builder command
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.sender = new BenchmarkSender();
+        new AnnotationParser<>(this.manager, BenchmarkSender.class, parameters -> SimpleCommandMeta.empty())
+                .parse(new AnnotatedCommands());
+        this.manager.command(this.manager.commandBuilder("built")
+                .argument(IntegerArgument.of("value"))
+                .handler(c -> AnnotatedCommands.consume(c.<Integer>get("value"))));
+    }
+
+    /**
+     * Execute an annotated command with an argument
+     *
+     * @return Command result
+     */
+    @Benchmark
+    public CommandResult<BenchmarkSender> annotated() {
+        return this.manager.executeCommand(this.sender, "annotated 42").join();
+    }
+
+    /**
+     * Execute an annotated command with flags
+     *
+     * @return Command result
+     */
+    @Benchmark
+    public CommandResult<BenchmarkSender> annotatedFlags() {
+        return this.manager.executeCommand(this.sender, "annotatedflags --print --word cloud").join();
+    }
+
+    /**
+     * Execute the builder equivalent of {@link #annotated()}
+     *
+     * @return Command result
+     */
+    @Benchmark
+    public CommandResult<BenchmarkSender> builder() {
+        return this.manager.executeCommand(this.sender, "built 42").join();
+    }
+
+
+    /**
+     * Annotated command handlers
+     */
+    public static final class AnnotatedCommands {
+
+        private static int sink;
+
+        static void consume(final int value) {
+            sink += value;
+        }
+
+        /**
+         * Handler with an argument
+         *
+         * @param sender Command sender
+         * @param value  Value
+         */
+        @CommandMethod("annotated <value>")
+        public void annotated(final BenchmarkSender sender, @Argument("value") final int value) {
+            consume(value);
+        }
+
+        /**
+         * Handler with flags
+         *
+         * @param sender Command sender
+         * @param print  Presence flag
+         * @param word   Value flag
+         */
+        @CommandMethod("annotatedflags")
+        public void annotatedFlags(
+                final BenchmarkSender sender,
+                @Flag("print") final boolean print,
+                @Flag("word") final String word
+        ) {
+            if (print) {
+                consume(word.length());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,133 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.standard.DoubleArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.execution.CommandResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the standard argument types that are the most common in real commands
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentParsingBenchmark {
+
+    private CommandManager<BenchmarkSender> manager;
+    private BenchmarkSender sender;
+
+    /**
+     * Register one command per argument type
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.sender = new BenchmarkSender();
+        this.manager.command(this.manager.commandBuilder("int").argument(IntegerArgument.of("value")).handler(c -> {
+        }));
+        this.manager.command(this.manager.commandBuilder("double").argument(DoubleArgument.of("value")).handler(c -> {
+        }));
+        this.manager.command(this.manager.commandBuilder("quoted").argument(StringArgument.quoted("value")).handler(c -> {
+        }));
+        this.manager.command(this.manager.commandBuilder("greedy").argument(StringArgument.greedy("value")).handler(c -> {
+        }));
+        this.manager.command(this.manager.commandBuilder("flags")
+                .flag(this.manager.flagBuilder("silent").withAliases("s"))
+                .flag(this.manager.flagBuilder("force").withAliases("f"))
+                .flag(this.manager.flagBuilder("count").withArgument(IntegerArgument.of("count")))
+                .flag(this.manager.flagBuilder("name").withArgument(StringArgument.of("name")))
+                .handler(c -> {
+                }));
+    }
+
+    /**
+     * Parse an integer
+     *
+     * @return Command result
+     */
+    @Benchmark
+    public CommandResult<BenchmarkSender> integer() {
+        return this.manager.executeCommand(this.sender, "int 1234").join();
+    }
+
+    /**
+     * Parse a double
+     *
+     * @return Command result
+     */
+    @Benchmark
+    public CommandResult<BenchmarkSender> decimal() {
+        return this.manager.executeCommand(this.sender, "double 3.14159").join();
+    }
+
+    /**
+     * Parse a quoted string that spans several tokens
+     *
+     * @return Command result
+     */
+    @Benchmark
+    public CommandResult<BenchmarkSender> quotedString() {
+        return this.manager.executeCommand(this.sender, "quoted \"a quoted string with spaces\"").join();
+    }
+
+    /**
+     * Parse a greedy string that spans several tokens
+     *
+     * @return Command result
+     */
+    @Benchmark
+    public CommandResult<BenchmarkSender> greedyString() {
+        return this.manager.executeCommand(this.sender, "greedy a greedy string with spaces").join();
+    }
+
+    /**
+     * Parse combined presence flags and value flags
+     *
+     * @return Command result
+     */
+    @Benchmark
+    public CommandResult<BenchmarkSender> flags() {
+        return this.manager.executeCommand(this.sender, "flags -sf --count 5 --name cloud").join();
+    }
+
+}
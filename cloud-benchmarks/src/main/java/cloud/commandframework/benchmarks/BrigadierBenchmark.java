@@ -0,0 +1,109 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.standard.BooleanArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.brigadier.CloudBrigadierManager;
+import cloud.commandframework.context.CommandContext;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of cloud command trees into Brigadier command nodes, as done by platforms that register their commands
+ * with Brigadier
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrigadierBenchmark {
+
+    /**
+     * Number of sub commands of the converted command
+     */
+    @Param({"10", "100"})
+    private int width;
+
+    private CloudBrigadierManager<BenchmarkSender, BenchmarkSender> brigadierManager;
+    private Command<BenchmarkSender> command;
+
+    /**
+     * Register the command
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final CommandManager<BenchmarkSender> manager = new BenchmarkCommandManager();
+        for (int i = 0; i < this.width; i++) {
+            this.command = manager.commandBuilder("brigadier")
+                    .literal("sub" + i)
+                    .argument(IntegerArgument.of("number"))
+                    .argument(StringArgument.of("word"))
+                    .argument(BooleanArgument.optional("toggle"))
+                    .handler(c -> {
+                    })
+                    .build();
+            manager.command(this.command);
+        }
+        this.brigadierManager = new CloudBrigadierManager<>(
+                manager,
+                () -> new CommandContext<>(new BenchmarkSender(), manager)
+        );
+    }
+
+    /**
+     * Convert the command tree of the command into a Brigadier node
+     *
+     * @return Brigadier node
+     */
+    @Benchmark
+    public LiteralCommandNode<BenchmarkSender> createLiteralCommandNode() {
+        return this.brigadierManager.createLiteralCommandNode(
+                "brigadier",
+                this.command,
+                (sender, permission) -> true,
+                true,
+                context -> com.mojang.brigadier.Command.SINGLE_SUCCESS
+        );
+    }
+
+}
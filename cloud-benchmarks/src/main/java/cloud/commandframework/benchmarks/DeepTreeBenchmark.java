@@ -0,0 +1,115 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.execution.CommandResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of long chains of arguments. This replaces the literal chain benchmark that used to live in the
+ * cloud-core tests
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeepTreeBenchmark {
+
+    /**
+     * Number of arguments after the root literal
+     */
+    @Param({"1", "10", "100"})
+    private int depth;
+
+    private CommandManager<BenchmarkSender> manager;
+    private BenchmarkSender sender;
+    private String literalInput;
+    private String integerInput;
+
+    /**
+     * Register a chain of literals and a chain of integer arguments
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.sender = new BenchmarkSender();
+
+        final StringBuilder literalInput = new StringBuilder("literals");
+        final StringBuilder integerInput = new StringBuilder("integers");
+        Command.Builder<BenchmarkSender> literals = this.manager.commandBuilder("literals");
+        Command.Builder<BenchmarkSender> integers = this.manager.commandBuilder("integers");
+        for (int i = 1; i <= this.depth; i++) {
+            final String literal = Integer.toString(i);
+            literals = literals.literal(literal);
+            literalInput.append(' ').append(literal);
+            integers = integers.argument(IntegerArgument.of("value" + i));
+            integerInput.append(' ').append(i);
+        }
+        this.manager.command(literals.handler(c -> {
+        }));
+        this.manager.command(integers.handler(c -> {
+        }));
+        this.literalInput = literalInput.toString();
+        this.integerInput = integerInput.toString();
+    }
+
+    /**
+     * Execute the literal chain
+     *
+     * @return Command result
+     */
+    @Benchmark
+    public CommandResult<BenchmarkSender> executeLiterals() {
+        return this.manager.executeCommand(this.sender, this.literalInput).join();
+    }
+
+    /**
+     * Execute the integer chain
+     *
+     * @return Command result
+     */
+    @Benchmark
+    public CommandResult<BenchmarkSender> executeIntegers() {
+        return this.manager.executeCommand(this.sender, this.integerInput).join();
+    }
+
+}
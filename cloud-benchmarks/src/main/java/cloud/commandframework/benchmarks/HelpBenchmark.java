@@ -0,0 +1,124 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.CommandHelpHandler;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.meta.CommandMeta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Help queries against a command tree with commands in groups of ten
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HelpBenchmark {
+
+    /**
+     * Number of registered commands
+     */
+    @Param({"100", "1000"})
+    private int commands;
+
+    private CommandHelpHandler<BenchmarkSender> helpHandler;
+    private BenchmarkSender sender;
+
+    /**
+     * Register the commands
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final CommandManager<BenchmarkSender> manager = new BenchmarkCommandManager();
+        this.sender = new BenchmarkSender();
+        for (int i = 0; i < this.commands; i++) {
+            manager.command(manager.commandBuilder("group" + (i / 10))
+                    .literal("command" + i)
+                    .argument(IntegerArgument.optional("value"))
+                    .permission("benchmark.command" + (i % 4))
+                    .meta(CommandMeta.DESCRIPTION, "Command number " + i)
+                    .handler(c -> {
+                    }));
+        }
+        this.helpHandler = manager.getCommandHelpHandler();
+    }
+
+    /**
+     * Query the root index
+     *
+     * @return Help topic
+     */
+    @Benchmark
+    public CommandHelpHandler.HelpTopic<BenchmarkSender> rootIndex() {
+        return this.helpHandler.queryHelp("");
+    }
+
+    /**
+     * Query the root index, filtered by the permissions of a sender
+     *
+     * @return Help topic
+     */
+    @Benchmark
+    public CommandHelpHandler.HelpTopic<BenchmarkSender> rootIndexForSender() {
+        return this.helpHandler.queryHelp(this.sender, "");
+    }
+
+    /**
+     * Query a group of commands
+     *
+     * @return Help topic
+     */
+    @Benchmark
+    public CommandHelpHandler.HelpTopic<BenchmarkSender> group() {
+        return this.helpHandler.queryHelp("group1");
+    }
+
+    /**
+     * Query a single command
+     *
+     * @return Help topic
+     */
+    @Benchmark
+    public CommandHelpHandler.HelpTopic<BenchmarkSender> command() {
+        return this.helpHandler.queryHelp("group1 command15");
+    }
+
+}
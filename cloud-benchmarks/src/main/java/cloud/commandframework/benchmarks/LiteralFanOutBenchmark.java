@@ -0,0 +1,131 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.execution.CommandResult;
+import cloud.commandframework.internal.CommandInputTokenizer;
+import cloud.commandframework.types.tuples.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of a root command with a wide range of literal sub commands, such as an administration command
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LiteralFanOutBenchmark {
+
+    /**
+     * Number of literal sub commands
+     */
+    @Param({"10", "100", "1000"})
+    private int width;
+
+    private CommandManager<BenchmarkSender> manager;
+    private BenchmarkSender sender;
+    private String firstInput;
+    private String lastInput;
+
+    /**
+     * Register the sub commands
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.sender = new BenchmarkSender();
+        for (int i = 0; i < this.width; i++) {
+            this.manager.command(this.manager.commandBuilder("fan").literal("sub" + i).handler(c -> {
+            }));
+        }
+        this.firstInput = "fan sub0";
+        this.lastInput = "fan sub" + (this.width - 1);
+    }
+
+    /**
+     * Execute the first registered sub command
+     *
+     * @return Command result
+     */
+    @Benchmark
+    public CommandResult<BenchmarkSender> executeFirst() {
+        return this.manager.executeCommand(this.sender, this.firstInput).join();
+    }
+
+    /**
+     * Execute the last registered sub command
+     *
+     * @return Command result
+     */
+    @Benchmark
+    public CommandResult<BenchmarkSender> executeLast() {
+        return this.manager.executeCommand(this.sender, this.lastInput).join();
+    }
+
+    /**
+     * Parse the input of the last registered sub command without executing it
+     *
+     * @return Parse result
+     */
+    @Benchmark
+    public Pair<Command<BenchmarkSender>, Exception> parseLast() {
+        return this.manager.getCommandTree().parse(
+                new CommandContext<>(this.sender, this.manager),
+                new CommandInputTokenizer(this.lastInput).tokenize()
+        );
+    }
+
+    /**
+     * Execute input that does not match any sub command
+     *
+     * @return Command result, or the exception that the execution failed with
+     */
+    @Benchmark
+    public Object executeUnknown() {
+        try {
+            return this.manager.executeCommand(this.sender, "fan unknown").join();
+        } catch (final RuntimeException exception) {
+            return exception;
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.services.ServicePipeline;
+import cloud.commandframework.services.State;
+import cloud.commandframework.services.types.Service;
+import cloud.commandframework.services.types.SideEffectService;
+import io.leangen.geantyref.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Pumping contexts through service pipelines with a growing number of implementations. Command managers pump every
+ * command through the pre- and postprocessor pipelines, which are side effect services
+ */
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServicePipelineBenchmark {
+
+    /**
+     * Number of implementations registered in addition to the default implementation
+     */
+    @Param({"0", "4", "16"})
+    private int implementations;
+
+    private ServicePipeline pipeline;
+
+    /**
+     * Register the services. The registered result service implementations pass every context on to the next
+     * implementation, so that every pump goes through the whole chain
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.pipeline = ServicePipeline.builder().build();
+        this.pipeline.registerServiceType(TypeToken.get(ResultService.class), (ResultService) String::length);
+        this.pipeline.registerServiceType(TypeToken.get(ProcessorService.class), (ProcessorService) context -> State.ACCEPTED);
+        final Predicate<String> filter = context -> !context.isEmpty();
+        for (int i = 0; i < this.implementations; i++) {
+            this.pipeline.registerServiceImplementation(
+                    ResultService.class,
+                    (ResultService) context -> null,
+                    Collections.singleton(filter)
+            );
+            this.pipeline.registerServiceImplementation(
+                    ProcessorService.class,
+                    (ProcessorService) context -> State.ACCEPTED,
+                    Collections.emptyList()
+            );
+        }
+    }
+
+    /**
+     * Pump a context through the result service
+     *
+     * @return Result
+     */
+    @Benchmark
+    public Integer result() {
+        return this.pipeline.pump("context").through(ResultService.class).getResult();
+    }
+
+    /**
+     * Pump a context through the side effect service
+     *
+     * @return State
+     */
+    @Benchmark
+    public State sideEffect() {
+        return this.pipeline.pump("context").through(ProcessorService.class).getResult();
+    }
+
+
+    /**
+     * Service that produces a result
+     */
+    @FunctionalInterface
+    public interface ResultService extends Service<String, Integer> {
+
+    }
+
+    /**
+     * Service that acts on its context, like command preprocessors do
+     */
+    @FunctionalInterface
+    public interface ProcessorService extends SideEffectService<String> {
+
+    }
+
+}
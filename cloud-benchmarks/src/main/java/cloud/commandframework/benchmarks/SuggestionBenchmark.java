@@ -0,0 +1,124 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suggestions at increasing depths of a command tree. Every level below the root has ten literals, and the
+ * leaves take an integer argument
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SuggestionBenchmark {
+
+    private static final int LEVELS = 3;
+    private static final int WIDTH = 10;
+
+    /**
+     * Number of literals in the input before the argument that is being completed
+     */
+    @Param({"0", "1", "2", "3"})
+    private int depth;
+
+    private CommandManager<BenchmarkSender> manager;
+    private BenchmarkSender sender;
+    private String input;
+    private String partialInput;
+
+    /**
+     * Register the command tree
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.sender = new BenchmarkSender();
+        this.register(new String[LEVELS], 0);
+
+        final StringBuilder input = new StringBuilder("suggest");
+        for (int i = 0; i < this.depth; i++) {
+            input.append(" level").append(i).append('-').append(WIDTH - 1);
+        }
+        this.input = input.append(' ').toString();
+        this.partialInput = this.depth == LEVELS ? this.input + "1" : this.input + "level";
+    }
+
+    private void register(final String[] path, final int level) {
+        if (level == path.length) {
+            this.manager.command(this.manager.commandBuilder("suggest")
+                    .literal(path[0])
+                    .literal(path[1])
+                    .literal(path[2])
+                    .argument(IntegerArgument.<BenchmarkSender>newBuilder("value").withMin(0).withMax(100))
+                    .handler(c -> {
+                    }));
+            return;
+        }
+        for (int i = 0; i < WIDTH; i++) {
+            path[level] = "level" + level + "-" + i;
+            this.register(path, level + 1);
+        }
+    }
+
+    /**
+     * Suggest all values of the next argument
+     *
+     * @return Suggestions
+     */
+    @Benchmark
+    public List<String> suggest() {
+        return this.manager.suggest(this.sender, this.input);
+    }
+
+    /**
+     * Suggest the values of the next argument that start with a partial input
+     *
+     * @return Suggestions
+     */
+    @Benchmark
+    public List<String> suggestPartial() {
+        return this.manager.suggest(this.sender, this.partialInput);
+    }
+
+}
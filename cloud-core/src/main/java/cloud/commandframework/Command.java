@@ -41,7 +41,6 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -234,16 +233,14 @@ public class Command<C> {
             final @NonNull Description description,
             final @NonNull String... aliases
     ) {
-        final List<CommandComponent<C>> commands = new ArrayList<>();
-        commands.add(CommandComponent.of(StaticArgument.of(commandName, aliases), description));
         return new Builder<>(
                 null,
                 commandMeta,
                 null,
-                commands,
+                Chain.append(null, CommandComponent.of(StaticArgument.of(commandName, aliases), description)),
                 new CommandExecutionHandler.NullCommandExecutionHandler<>(),
                 Permission.empty(),
-                Collections.emptyList()
+                null
         );
     }
 
@@ -262,16 +259,14 @@ public class Command<C> {
             final @NonNull CommandMeta commandMeta,
             final @NonNull String... aliases
     ) {
-        final List<CommandComponent<C>> commands = new ArrayList<>();
-        commands.add(CommandComponent.of(StaticArgument.of(commandName, aliases), Description.empty()));
         return new Builder<>(
                 null,
                 commandMeta,
                 null,
-                commands,
+                Chain.append(null, CommandComponent.of(StaticArgument.of(commandName, aliases), Description.empty())),
                 new CommandExecutionHandler.NullCommandExecutionHandler<>(),
                 Permission.empty(),
-                Collections.emptyList()
+                null
         );
     }
 
@@ -369,6 +364,47 @@ public class Command<C> {
     }
 
 
+    /**
+     * Immutable singly linked list that is extended at its end. Appending an element creates a single
+     * link that shares all previous links, so that builders do not have to copy their components
+     *
+     * @param <E> Element type
+     */
+    private static final class Chain<E> {
+
+        private final Chain<E> previous;
+        private final E element;
+        private final int size;
+
+        private Chain(final @Nullable Chain<E> previous, final @NonNull E element) {
+            this.previous = previous;
+            this.element = element;
+            this.size = previous == null ? 1 : previous.size + 1;
+        }
+
+        private static <E> @NonNull Chain<E> append(final @Nullable Chain<E> chain, final @NonNull E element) {
+            return new Chain<>(chain, element);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <E> @NonNull List<E> toList(final @Nullable Chain<E> chain, final int extraCapacity) {
+            if (chain == null) {
+                return new ArrayList<>(extraCapacity);
+            }
+            final Object[] elements = new Object[chain.size];
+            for (Chain<E> link = chain; link != null; link = link.previous) {
+                elements[link.size - 1] = link.element;
+            }
+            final List<E> list = new ArrayList<>(chain.size + extraCapacity);
+            for (final Object element : elements) {
+                list.add((E) element);
+            }
+            return list;
+        }
+
+    }
+
+
     /**
      * Builder for {@link Command} instances. The builder is immutable, and each
      * setter method will return a new builder instance.
@@ -378,21 +414,21 @@ public class Command<C> {
     public static final class Builder<C> {
 
         private final CommandMeta commandMeta;
-        private final List<CommandComponent<C>> commandComponents;
+        private final Chain<CommandComponent<C>> commandComponents;
         private final CommandExecutionHandler<C> commandExecutionHandler;
         private final Class<? extends C> senderType;
         private final CommandPermission commandPermission;
         private final CommandManager<C> commandManager;
-        private final Collection<CommandFlag<?>> flags;
+        private final Chain<CommandFlag<?>> flags;
 
         private Builder(
                 final @Nullable CommandManager<C> commandManager,
                 final @NonNull CommandMeta commandMeta,
                 final @Nullable Class<? extends C> senderType,
-                final @NonNull List<@NonNull CommandComponent<C>> commandComponents,
+                final @NonNull Chain<@NonNull CommandComponent<C>> commandComponents,
                 final @NonNull CommandExecutionHandler<@NonNull C> commandExecutionHandler,
                 final @NonNull CommandPermission commandPermission,
-                final @NonNull Collection<CommandFlag<?>> flags
+                final @Nullable Chain<CommandFlag<?>> flags
         ) {
             this.commandManager = commandManager;
             this.senderType = senderType;
@@ -400,7 +436,7 @@ public class Command<C> {
             this.commandExecutionHandler = Objects.requireNonNull(commandExecutionHandler, "Execution handler may not be null");
             this.commandPermission = Objects.requireNonNull(commandPermission, "Permission may not be null");
             this.commandMeta = Objects.requireNonNull(commandMeta, "Meta may not be null");
-            this.flags = Objects.requireNonNull(flags, "Flags may not be null");
+            this.flags = flags;
         }
 
         /**
@@ -561,8 +597,10 @@ public class Command<C> {
                         + " Use CommandArgument#copy to create a copy of the argument.");
             }
             argument.setArgumentRegistered();
-            final List<CommandComponent<C>> commandComponents = new ArrayList<>(this.commandComponents);
-            commandComponents.add(CommandComponent.of(argument, description));
+            final Chain<CommandComponent<C>> commandComponents = Chain.append(
+                    this.commandComponents,
+                    CommandComponent.of(argument, description)
+            );
             return new Builder<>(
                     this.commandManager,
                     this.commandMeta,
@@ -587,8 +625,10 @@ public class Command<C> {
                 final CommandArgument.@NonNull Builder<C, T> builder,
                 final @NonNull Description description
         ) {
-            final List<CommandComponent<C>> commandComponents = new ArrayList<>(this.commandComponents);
-            commandComponents.add(CommandComponent.of(builder.build(), description));
+            final Chain<CommandComponent<C>> commandComponents = Chain.append(
+                    this.commandComponents,
+                    CommandComponent.of(builder.build(), description)
+            );
             return new Builder<>(
                     this.commandManager,
                     this.commandMeta,
@@ -878,8 +918,6 @@ public class Command<C> {
          * @return New builder instance that uses the provided flag
          */
         public @NonNull <T> Builder<C> flag(final @NonNull CommandFlag<T> flag) {
-            final List<CommandFlag<?>> flags = new ArrayList<>(this.flags);
-            flags.add(flag);
             return new Builder<>(
                     this.commandManager,
                     this.commandMeta,
@@ -887,7 +925,7 @@ public class Command<C> {
                     this.commandComponents,
                     this.commandExecutionHandler,
                     this.commandPermission,
-                    Collections.unmodifiableList(flags)
+                    Chain.append(this.flags, flag)
             );
         }
 
@@ -908,10 +946,10 @@ public class Command<C> {
          * @return Built command
          */
         public @NonNull Command<C> build() {
-            final List<CommandComponent<C>> commandComponents = new ArrayList<>(this.commandComponents);
+            final List<CommandComponent<C>> commandComponents = Chain.toList(this.commandComponents, 1);
             /* Construct flag node */
-            if (!flags.isEmpty()) {
-                final FlagArgument<C> flagArgument = new FlagArgument<>(this.flags);
+            if (this.flags != null) {
+                final FlagArgument<C> flagArgument = new FlagArgument<>(Chain.toList(this.flags, 0));
                 commandComponents.add(CommandComponent.of(flagArgument, Description.of("Command flags")));
             }
             return new Command<>(
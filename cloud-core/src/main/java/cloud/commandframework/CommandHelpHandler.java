@@ -24,24 +24,38 @@
 package cloud.commandframework;
 
 import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.CommandSyntaxFormatter;
 import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.permission.CommandPermission;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class CommandHelpHandler<C> {
 
+    /**
+     * Maximum number of permission filtered views that are cached
+     */
+    private static final int MAX_CACHED_VIEWS = 64;
+
     private final CommandManager<C> commandManager;
+    private volatile HelpIndex<C> index;
 
     CommandHelpHandler(final @NonNull CommandManager<C> commandManager) {
         this.commandManager = commandManager;
@@ -53,19 +67,26 @@ public final class CommandHelpHandler<C> {
      * @return Syntax hints for all registered commands, order in lexicographical order
      */
     public @NonNull List<@NonNull VerboseHelpEntry<C>> getAllCommands() {
-        final List<VerboseHelpEntry<C>> syntaxHints = new ArrayList<>();
-        for (final Command<C> command : this.commandManager.getCommands()) {
-            final List<CommandArgument<C, ?>> arguments = command.getArguments();
-            final String description = command.getCommandMeta().getOrDefault(CommandMeta.DESCRIPTION, "");
-            syntaxHints.add(new VerboseHelpEntry<>(
-                    command,
-                    this.commandManager.getCommandSyntaxFormatter()
-                            .apply(arguments, null),
-                    description
-            ));
+        return new ArrayList<>(this.getIndex().entries);
+    }
+
+    /**
+     * Get the help index, updating it if commands have been registered or the syntax formatter has been replaced
+     * since it was last built
+     *
+     * @return Help index
+     */
+    private @NonNull HelpIndex<C> getIndex() {
+        final HelpIndex<C> index = this.index;
+        if (index != null && index.isCurrent(this.commandManager)) {
+            return index;
+        }
+        synchronized (this) {
+            if (this.index == null || !this.index.isCurrent(this.commandManager)) {
+                this.index = HelpIndex.update(this.index, this.commandManager);
+            }
+            return this.index;
         }
-        syntaxHints.sort(Comparator.comparing(VerboseHelpEntry::getSyntaxString));
-        return syntaxHints;
     }
 
     /**
@@ -80,8 +101,8 @@ public final class CommandHelpHandler<C> {
         this.commandManager.getCommandTree().getRootNodes().forEach(node ->
                 chains.add(Objects.requireNonNull(node.getValue())
                         .getName() + this.commandManager
-                        .getCommandSyntaxFormatter()
-                        .apply(
+                        .getCommandTree()
+                        .formatSyntax(
                                 Collections
                                         .emptyList(),
                                 node
@@ -111,70 +132,47 @@ public final class CommandHelpHandler<C> {
             final @Nullable C recipient,
             final @NonNull String query
     ) {
-        final List<VerboseHelpEntry<C>> commands = this.getAllCommands();
-        commands.removeIf(command -> recipient != null && !this.commandManager.hasPermission(
-                recipient,
-                command.getCommand().getCommandPermission()
-        ));
+        final HelpIndex<C> helpIndex = this.getIndex();
+        final BitSet permissions = recipient == null ? null : helpIndex.getPermissionFingerprint(this.commandManager, recipient);
         if (query.replace(" ", "").isEmpty()) {
-            return new IndexHelpTopic<>(commands);
+            return new IndexHelpTopic<>(helpIndex.getView(permissions));
         }
 
         final String[] queryFragments = query.split(" ");
         final String rootFragment = queryFragments[0];
+        final String lowerRootFragment = rootFragment.toLowerCase(Locale.ENGLISH);
 
-        /* Determine which command we are querying for */
-        final List<Command<C>> availableCommands = new LinkedList<>();
-        final Set<String> availableCommandLabels = new HashSet<>();
-
+        /* Determine which command we are querying for, using the sorted alias index */
+        final BitSet availableCommands = new BitSet(helpIndex.entries.size());
         boolean exactMatch = false;
-
-        for (final VerboseHelpEntry<C> entry : commands) {
-            final Command<C> command = entry.getCommand();
-            @SuppressWarnings("unchecked") final StaticArgument<C> staticArgument = (StaticArgument<C>) command.getArguments()
-                    .get(0);
-            for (final String alias : staticArgument.getAliases()) {
-                if (alias.toLowerCase(Locale.ENGLISH).startsWith(rootFragment.toLowerCase(Locale.ENGLISH))) {
-                    availableCommands.add(command);
-                    availableCommandLabels.add(staticArgument.getName());
-                    break;
-                }
-            }
-
-            for (final String alias : staticArgument.getAliases()) {
-                if (alias.equalsIgnoreCase(rootFragment)) {
-                    exactMatch = true;
-                    break;
-                }
+        for (int i = helpIndex.lowerBound(lowerRootFragment);
+             i < helpIndex.aliases.length && helpIndex.aliases[i].startsWith(lowerRootFragment); i++) {
+            final int entry = helpIndex.aliasEntries[i];
+            if (helpIndex.isPermitted(entry, permissions)) {
+                availableCommands.set(entry);
+                exactMatch |= helpIndex.aliases[i].length() == lowerRootFragment.length();
             }
+        }
 
-            if (rootFragment.equalsIgnoreCase(staticArgument.getName())) {
+        final Set<String> availableCommandLabels = new HashSet<>();
+        for (int entry = availableCommands.nextSetBit(0); entry >= 0; entry = availableCommands.nextSetBit(entry + 1)) {
+            final String label = helpIndex.getRootName(entry);
+            if (rootFragment.equalsIgnoreCase(label)) {
                 availableCommandLabels.clear();
-                availableCommands.clear();
-                availableCommandLabels.add(staticArgument.getName());
-                availableCommands.add(command);
+                availableCommandLabels.add(label);
                 break;
             }
+            availableCommandLabels.add(label);
         }
 
         /* No command found, return all possible commands */
         if (availableCommands.isEmpty()) {
             return new IndexHelpTopic<>(Collections.emptyList());
         } else if (!exactMatch || availableCommandLabels.size() > 1) {
-            final List<VerboseHelpEntry<C>> syntaxHints = new ArrayList<>();
-            for (final Command<C> command : availableCommands) {
-                final List<CommandArgument<C, ?>> arguments = command.getArguments();
-                final String description = command.getCommandMeta().getOrDefault(CommandMeta.DESCRIPTION, "");
-                syntaxHints.add(new VerboseHelpEntry<>(
-                        command,
-                        this.commandManager.getCommandSyntaxFormatter()
-                                .apply(arguments, null),
-                        description
-                ));
+            final List<VerboseHelpEntry<C>> syntaxHints = new ArrayList<>(availableCommands.cardinality());
+            for (int entry = availableCommands.nextSetBit(0); entry >= 0; entry = availableCommands.nextSetBit(entry + 1)) {
+                syntaxHints.add(helpIndex.entries.get(entry));
             }
-            syntaxHints.sort(Comparator.comparing(VerboseHelpEntry::getSyntaxString));
-            syntaxHints.removeIf(command -> recipient != null
-                    && !this.commandManager.hasPermission(recipient, command.getCommand().getCommandPermission()));
             return new IndexHelpTopic<>(syntaxHints);
         }
 
@@ -229,7 +227,7 @@ public final class CommandHelpHandler<C> {
                         continue;
                     }
                 }
-                final String currentDescription = this.commandManager.getCommandSyntaxFormatter().apply(traversedNodes, null);
+                final String currentDescription = this.commandManager.getCommandTree().formatSyntax(traversedNodes, null);
                 /* Attempt to parse the longest possible description for the children */
                 final List<String> childSuggestions = new LinkedList<>();
                 for (final CommandTree.Node<CommandArgument<C, ?>> child : head.getChildren()) {
@@ -242,7 +240,7 @@ public final class CommandHelpHandler<C> {
                             child.getValue().getOwningCommand().getCommandPermission()
                     )) {
                         traversedNodesSub.add(child.getValue());
-                        childSuggestions.add(this.commandManager.getCommandSyntaxFormatter().apply(traversedNodesSub, child));
+                        childSuggestions.add(this.commandManager.getCommandTree().formatSyntax(traversedNodesSub, child));
                     }
                 }
                 return new MultiHelpTopic<>(currentDescription, childSuggestions);
@@ -252,6 +250,174 @@ public final class CommandHelpHandler<C> {
         return new IndexHelpTopic<>(Collections.emptyList());
     }
 
+    /**
+     * Index of the registered commands. Entries are sorted by their syntax strings, which are computed once per
+     * command, and the root aliases of all commands are kept in a sorted array for prefix lookups. Permission
+     * filtered views of the entries are cached per permission fingerprint, which is the set of distinct command
+     * permissions that a recipient holds.
+     *
+     * @param <C> Command sender type
+     */
+    private static final class HelpIndex<C> {
+
+        private final CommandSyntaxFormatter<C> formatter;
+        private final int commandCount;
+        private final List<VerboseHelpEntry<C>> entries;
+        private final CommandPermission[] permissions;
+        private final int[] entryPermissions;
+        private final String[] aliases;
+        private final int[] aliasEntries;
+        private final Map<BitSet, List<VerboseHelpEntry<C>>> views = new ConcurrentHashMap<>();
+
+        private HelpIndex(
+                final @NonNull CommandSyntaxFormatter<C> formatter,
+                final int commandCount,
+                final @NonNull List<@NonNull VerboseHelpEntry<C>> entries
+        ) {
+            this.formatter = formatter;
+            this.commandCount = commandCount;
+            this.entries = Collections.unmodifiableList(entries);
+            final Map<CommandPermission, Integer> permissionIndices = new HashMap<>();
+            this.entryPermissions = new int[entries.size()];
+            final List<Map.Entry<String, Integer>> aliases = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                final Command<C> command = entries.get(i).getCommand();
+                final Integer permission = permissionIndices.computeIfAbsent(
+                        command.getCommandPermission(),
+                        key -> permissionIndices.size()
+                );
+                this.entryPermissions[i] = permission;
+                for (final String alias : getRootArgument(command).getAliases()) {
+                    aliases.add(new AbstractMap.SimpleImmutableEntry<>(alias.toLowerCase(Locale.ENGLISH), i));
+                }
+            }
+            this.permissions = new CommandPermission[permissionIndices.size()];
+            permissionIndices.forEach((permission, index) -> this.permissions[index] = permission);
+            aliases.sort(Map.Entry.comparingByKey());
+            this.aliases = new String[aliases.size()];
+            this.aliasEntries = new int[aliases.size()];
+            for (int i = 0; i < aliases.size(); i++) {
+                this.aliases[i] = aliases.get(i).getKey();
+                this.aliasEntries[i] = aliases.get(i).getValue();
+            }
+        }
+
+        /**
+         * Create an index containing all commands registered to the manager. Entries of the previous index are
+         * reused if it was built with the same syntax formatter, so that only new commands are formatted
+         *
+         * @param previous Previous index
+         * @param manager  Command manager
+         * @param <C>      Command sender type
+         * @return Updated index
+         */
+        private static <C> @NonNull HelpIndex<C> update(
+                final @Nullable HelpIndex<C> previous,
+                final @NonNull CommandManager<C> manager
+        ) {
+            final CommandSyntaxFormatter<C> formatter = manager.getCommandSyntaxFormatter();
+            final Collection<Command<C>> commands = manager.getCommands();
+            final int reused = previous != null && previous.formatter == formatter ? previous.commandCount : 0;
+            final List<VerboseHelpEntry<C>> added = new ArrayList<>(commands.size() - reused);
+            int skipped = 0;
+            for (final Command<C> command : commands) {
+                if (skipped++ < reused) {
+                    continue;
+                }
+                added.add(new VerboseHelpEntry<>(
+                        command,
+                        formatter.apply(command.getArguments(), null),
+                        command.getCommandMeta().getOrDefault(CommandMeta.DESCRIPTION, "")
+                ));
+            }
+            added.sort(Comparator.comparing(VerboseHelpEntry::getSyntaxString));
+            if (reused == 0) {
+                return new HelpIndex<>(formatter, commands.size(), added);
+            }
+            /* Merge the new entries into the sorted entries of the previous index */
+            final List<VerboseHelpEntry<C>> existing = previous.entries;
+            final List<VerboseHelpEntry<C>> entries = new ArrayList<>(existing.size() + added.size());
+            int i = 0;
+            int j = 0;
+            while (i < existing.size() && j < added.size()) {
+                if (added.get(j).getSyntaxString().compareTo(existing.get(i).getSyntaxString()) < 0) {
+                    entries.add(added.get(j++));
+                } else {
+                    entries.add(existing.get(i++));
+                }
+            }
+            entries.addAll(existing.subList(i, existing.size()));
+            entries.addAll(added.subList(j, added.size()));
+            return new HelpIndex<>(formatter, commands.size(), entries);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <C> @NonNull StaticArgument<C> getRootArgument(final @NonNull Command<C> command) {
+            return (StaticArgument<C>) command.getArguments().get(0);
+        }
+
+        private boolean isCurrent(final @NonNull CommandManager<C> manager) {
+            return this.commandCount == manager.getCommands().size() && this.formatter == manager.getCommandSyntaxFormatter();
+        }
+
+        private @NonNull String getRootName(final int entry) {
+            return getRootArgument(this.entries.get(entry).getCommand()).getName();
+        }
+
+        private int lowerBound(final @NonNull String alias) {
+            int low = 0;
+            int high = this.aliases.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (this.aliases[mid].compareTo(alias) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private @NonNull BitSet getPermissionFingerprint(
+                final @NonNull CommandManager<C> manager,
+                final @NonNull C recipient
+        ) {
+            final BitSet fingerprint = new BitSet(this.permissions.length);
+            for (int i = 0; i < this.permissions.length; i++) {
+                if (manager.hasPermission(recipient, this.permissions[i])) {
+                    fingerprint.set(i);
+                }
+            }
+            return fingerprint;
+        }
+
+        private boolean isPermitted(final int entry, final @Nullable BitSet fingerprint) {
+            return fingerprint == null || fingerprint.get(this.entryPermissions[entry]);
+        }
+
+        private @NonNull List<@NonNull VerboseHelpEntry<C>> getView(final @Nullable BitSet fingerprint) {
+            if (fingerprint == null) {
+                return this.entries;
+            }
+            final List<VerboseHelpEntry<C>> view = this.views.get(fingerprint);
+            if (view != null) {
+                return view;
+            }
+            final List<VerboseHelpEntry<C>> filtered = new ArrayList<>();
+            for (int i = 0; i < this.entryPermissions.length; i++) {
+                if (fingerprint.get(this.entryPermissions[i])) {
+                    filtered.add(this.entries.get(i));
+                }
+            }
+            final List<VerboseHelpEntry<C>> result = Collections.unmodifiableList(filtered);
+            if (this.views.size() < MAX_CACHED_VIEWS) {
+                this.views.putIfAbsent(fingerprint, result);
+            }
+            return result;
+        }
+
+    }
+
     /**
      * Something that can be returned as the result of a help query
      * <p>
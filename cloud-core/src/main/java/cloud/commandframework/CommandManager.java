@@ -39,6 +39,7 @@ import cloud.commandframework.captions.SimpleCaptionRegistryFactory;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.context.CommandContextFactory;
 import cloud.commandframework.context.StandardCommandContextFactory;
+import cloud.commandframework.exceptions.ExceptionHandlerRegistry;
 import cloud.commandframework.execution.CommandExecutionCoordinator;
 import cloud.commandframework.execution.CommandResult;
 import cloud.commandframework.execution.CommandSuggestionProcessor;
@@ -52,6 +53,9 @@ import cloud.commandframework.execution.preprocessor.CommandPreprocessor;
 import cloud.commandframework.internal.CommandInputTokenizer;
 import cloud.commandframework.internal.CommandRegistrationHandler;
 import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.metrics.CommandMetrics;
+import cloud.commandframework.metrics.CommandTracer;
+import cloud.commandframework.metrics.ParseTimingRecorder;
 import cloud.commandframework.permission.CommandPermission;
 import cloud.commandframework.permission.OrPermission;
 import cloud.commandframework.permission.Permission;
@@ -64,11 +68,8 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
@@ -81,7 +82,7 @@ import java.util.function.Function;
  */
 public abstract class CommandManager<C> {
 
-    private final Map<Class<? extends Exception>, BiConsumer<C, ? extends Exception>> exceptionHandlers = new HashMap<>();
+    private final ExceptionHandlerRegistry<C> exceptionHandlers = new ExceptionHandlerRegistry<>();
     private final EnumSet<ManagerSettings> managerSettings = EnumSet.of(
             ManagerSettings.ENFORCE_INTERMEDIARY_PERMISSIONS);
 
@@ -92,10 +93,14 @@ public abstract class CommandManager<C> {
     private final ParameterInjectorRegistry<C> parameterInjectorRegistry = new ParameterInjectorRegistry<>();
     private final CommandExecutionCoordinator<C> commandExecutionCoordinator;
     private final CommandTree<C> commandTree;
-    private final CommandSuggestionEngine<C> commandSuggestionEngine;
+    private final CommandHelpHandler<C> commandHelpHandler = new CommandHelpHandler<>(this);
+    private final CommandMetrics<C> metrics = new CommandMetrics<>();
+    private volatile CommandTracer commandTracer = CommandTracer.none();
+    private volatile ParseTimingRecorder<C> parseTimingRecorder = ParseTimingRecorder.none();
 
     private CommandSyntaxFormatter<C> commandSyntaxFormatter = new StandardCommandSyntaxFormatter<>();
     private CommandSuggestionProcessor<C> commandSuggestionProcessor = new FilteringCommandSuggestionProcessor<>();
+    private CommandSuggestionEngine<C> commandSuggestionEngine;
     private CommandRegistrationHandler commandRegistrationHandler;
     private CaptionRegistry<C> captionRegistry;
     private final AtomicReference<RegistrationState> state = new AtomicReference<>(RegistrationState.BEFORE_REGISTRATION);
@@ -167,17 +172,45 @@ public abstract class CommandManager<C> {
                 commandSender,
                 this
         );
-        final LinkedList<String> inputQueue = new CommandInputTokenizer(input).tokenize();
+        context.setInput(input);
+        final LinkedList<String> inputQueue = new CommandInputTokenizer(
+                input,
+                this.getSetting(ManagerSettings.TOKENIZE_QUOTED_STRINGS)
+        ).tokenize();
+        final boolean recordMetrics = this.getSetting(ManagerSettings.RECORD_METRICS);
+        final long start = recordMetrics ? System.nanoTime() : 0L;
+        final CommandTracer.Span span = this.commandTracer.begin(CommandTracer.Phase.EXECUTE);
         try {
             if (this.preprocessContext(context, inputQueue) == State.ACCEPTED) {
-                return this.commandExecutionCoordinator.coordinateExecution(context, inputQueue);
+                final CompletableFuture<CommandResult<C>> future =
+                        this.commandExecutionCoordinator.coordinateExecution(context, inputQueue);
+                if (recordMetrics || span != null) {
+                    future.whenComplete((result, failure) -> {
+                        if (recordMetrics) {
+                            this.metrics.recordCompletion(context.getCommand(), System.nanoTime() - start, failure);
+                        }
+                        if (span != null) {
+                            span.complete(commandSender.getClass(), context.getCommand(), null, failure);
+                        }
+                    });
+                }
+                return future;
             }
         } catch (final Exception e) {
+            if (recordMetrics) {
+                this.metrics.recordCompletion(context.getCommand(), System.nanoTime() - start, e);
+            }
+            if (span != null) {
+                span.complete(commandSender.getClass(), context.getCommand(), null, e);
+            }
             final CompletableFuture<CommandResult<C>> future = new CompletableFuture<>();
             future.completeExceptionally(e);
             return future;
         }
         /* Wasn't allowed to execute the command */
+        if (span != null) {
+            span.complete(commandSender.getClass(), null, null, null);
+        }
         return CompletableFuture.completedFuture(null);
     }
 
@@ -200,7 +233,16 @@ public abstract class CommandManager<C> {
                 commandSender,
                 this
         );
-        return this.commandSuggestionEngine.getSuggestions(context, input);
+        context.setInput(input);
+        if (!this.getSetting(ManagerSettings.RECORD_METRICS)) {
+            return this.commandSuggestionEngine.getSuggestions(context, input);
+        }
+        final long start = System.nanoTime();
+        try {
+            return this.commandSuggestionEngine.getSuggestions(context, input);
+        } finally {
+            this.metrics.recordSuggestions(System.nanoTime() - start);
+        }
     }
 
     /**
@@ -660,6 +702,29 @@ public abstract class CommandManager<C> {
         this.commandSuggestionProcessor = commandSuggestionProcessor;
     }
 
+    /**
+     * Get the command suggestion engine used in this command manager
+     *
+     * @return Command suggestion engine
+     * @see #setCommandSuggestionEngine(CommandSuggestionEngine) Setting the suggestion engine
+     * @since 1.4.0
+     */
+    public final @NonNull CommandSuggestionEngine<C> getCommandSuggestionEngine() {
+        return this.commandSuggestionEngine;
+    }
+
+    /**
+     * Set the command suggestion engine for this command manager. The engine is responsible for producing the
+     * suggestions returned by {@link #suggest(Object, String)}. This may be used to decorate the current engine,
+     * for example using {@link cloud.commandframework.arguments.CoalescingCommandSuggestionEngine}
+     *
+     * @param commandSuggestionEngine New command suggestion engine
+     * @since 1.4.0
+     */
+    public final void setCommandSuggestionEngine(final @NonNull CommandSuggestionEngine<C> commandSuggestionEngine) {
+        this.commandSuggestionEngine = commandSuggestionEngine;
+    }
+
     /**
      * Get the parser registry instance. The parser registry contains default
      * mappings to {@link ArgumentParser}
@@ -689,27 +754,26 @@ public abstract class CommandManager<C> {
 
 
     /**
-     * Get the exception handler for an exception type, if one has been registered
+     * Get the exception handler for an exception type, if one has been registered for the type or
+     * any of its super classes. The handler of the closest super class is returned
      *
      * @param clazz Exception class
      * @param <E>   Exception type
      * @return Exception handler, or {@code null}
-     * @see #registerCommandPreProcessor(CommandPreprocessor) Registering an exception handler
+     * @see #registerExceptionHandler(Class, BiConsumer) Registering an exception handler
      */
     @SuppressWarnings("unchecked")
     public final <E extends Exception> @Nullable BiConsumer<@NonNull C, @NonNull E>
     getExceptionHandler(final @NonNull Class<E> clazz) {
-        final BiConsumer<C, ? extends Exception> consumer = this.exceptionHandlers.get(clazz);
-        if (consumer == null) {
-            return null;
-        }
-        return (BiConsumer<C, E>) consumer;
+        return (BiConsumer<C, E>) this.exceptionHandlers.resolve(clazz);
     }
 
     /**
      * Register an exception handler for an exception type. This will then be used
-     * when {@link #handleException(Object, Class, Exception, BiConsumer)} is called
-     * for the particular exception type
+     * when {@link #handleException(Object, Class, Exception, BiConsumer)} or
+     * {@link #handleExecutionFailure(Object, Throwable, BiConsumer)} is called
+     * for the particular exception type, or any of its subclasses that do not have
+     * an exception handler of their own
      *
      * @param clazz   Exception class
      * @param handler Exception handler
@@ -719,27 +783,53 @@ public abstract class CommandManager<C> {
             final @NonNull Class<E> clazz,
             final @NonNull BiConsumer<@NonNull C, @NonNull E> handler
     ) {
-        this.exceptionHandlers.put(clazz, handler);
+        this.exceptionHandlers.register(clazz, handler);
     }
 
     /**
-     * Handle an exception using the registered exception handler for the exception type, or using the
-     * provided default handler if no exception handler has been registered for the exception type
+     * Handle an exception using the exception handler that has been registered for the runtime class of the
+     * exception or its closest super class, or using the provided default handler if there is none.
+     * The handler is resolved from {@code exception.getClass()}, so {@code clazz} is not used for the lookup
+     * and only determines the type of the default handler
      *
      * @param sender         Executing command sender
-     * @param clazz          Exception class
+     * @param clazz          Exception class. This is ignored when resolving the handler
      * @param exception      Exception instance
      * @param defaultHandler Default exception handler. Will be called if there is no exception
-     *                       handler stored for the exception type
+     *                       handler stored for the class of the exception or any of its super classes
      * @param <E>            Exception type
      */
+    @SuppressWarnings("unchecked")
     public final <E extends Exception> void handleException(
             final @NonNull C sender,
             final @NonNull Class<E> clazz,
             final @NonNull E exception,
             final @NonNull BiConsumer<C, E> defaultHandler
     ) {
-        Optional.ofNullable(this.getExceptionHandler(clazz)).orElse(defaultHandler).accept(sender, exception);
+        final BiConsumer<C, E> handler = (BiConsumer<C, E>) this.exceptionHandlers.resolve(exception.getClass());
+        (handler == null ? defaultHandler : handler).accept(sender, exception);
+    }
+
+    /**
+     * Handle the failure of a command execution. This is meant to be called by platform implementations
+     * when the future returned by {@link #executeCommand(Object, String)} completes exceptionally.
+     * {@link java.util.concurrent.CompletionException Completion exceptions} are unwrapped, after which the
+     * failure is passed to the exception handler that has been registered for its type or closest super class.
+     * If there is none, the failure is passed to the default handler
+     *
+     * @param sender         Executing command sender
+     * @param failure        Failure
+     * @param defaultHandler Handler of failures that no exception handler has been registered for
+     * @since 1.4.0
+     */
+    public final void handleExecutionFailure(
+            final @NonNull C sender,
+            final @NonNull Throwable failure,
+            final @NonNull BiConsumer<@NonNull C, @NonNull Throwable> defaultHandler
+    ) {
+        if (!this.exceptionHandlers.handle(sender, failure)) {
+            defaultHandler.accept(sender, ExceptionHandlerRegistry.unwrap(failure));
+        }
     }
 
     /**
@@ -755,11 +845,63 @@ public abstract class CommandManager<C> {
      * Get a command help handler instance. This can be used to assist in the production
      * of command help menus, etc.
      *
-     * @return Command help handler. A new instance will be created
-     *         each time this method is called.
+     * @return Command help handler. The same instance is returned on every call, and it keeps an index of the
+     *         registered commands that is updated when new commands are registered
      */
     public final @NonNull CommandHelpHandler<C> getCommandHelpHandler() {
-        return new CommandHelpHandler<>(this);
+        return this.commandHelpHandler;
+    }
+
+    /**
+     * Get the command metrics. Metrics are only recorded when {@link ManagerSettings#RECORD_METRICS} is enabled
+     *
+     * @return Command metrics
+     * @since 1.4.0
+     */
+    public final @NonNull CommandMetrics<C> metrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Get the command tracer
+     *
+     * @return Command tracer
+     * @since 1.4.0
+     */
+    public final @NonNull CommandTracer getCommandTracer() {
+        return this.commandTracer;
+    }
+
+    /**
+     * Set the tracer that is notified of the execution, parsing, argument parsing, suggestion and handler phases
+     * of command processing. Nothing is traced by default
+     *
+     * @param commandTracer Command tracer
+     * @since 1.4.0
+     */
+    public final void setCommandTracer(final @NonNull CommandTracer commandTracer) {
+        this.commandTracer = commandTracer;
+    }
+
+    /**
+     * Get the recorder that times the parsing of individual arguments
+     *
+     * @return Parse timing recorder
+     * @since 1.4.0
+     */
+    public final @NonNull ParseTimingRecorder<C> getParseTimingRecorder() {
+        return this.parseTimingRecorder;
+    }
+
+    /**
+     * Set the recorder that times the parsing of individual arguments. Arguments are not timed by default, use
+     * {@link ParseTimingRecorder#sampled(int)} to time a fraction of all parses
+     *
+     * @param parseTimingRecorder Parse timing recorder
+     * @since 1.4.0
+     */
+    public final void setParseTimingRecorder(final @NonNull ParseTimingRecorder<C> parseTimingRecorder) {
+        this.parseTimingRecorder = parseTimingRecorder;
     }
 
     /**
@@ -895,7 +1037,44 @@ public abstract class CommandManager<C> {
          *
          * @since 1.2.0
          */
-        OVERRIDE_EXISTING_COMMANDS
+        OVERRIDE_EXISTING_COMMANDS,
+
+        /**
+         * Cache the successful results of {@link ArgumentParser#isCacheable() cacheable} argument parsers, so that
+         * repeated input tokens are not parsed again. Each parser gets a bounded cache, which can be inspected using
+         * {@link CommandTree#getParseResultCaches()}
+         *
+         * @since 1.4.0
+         */
+        CACHE_PARSE_RESULTS,
+
+        /**
+         * Cache the outcome of parsing complete command inputs, keyed by the input and the class of the sender, so that
+         * identical commands can skip the tree walk. Only inputs whose arguments all use
+         * {@link ArgumentParser#isCacheable() cacheable} parsers without preprocessors are cached, and permissions are
+         * checked again every time a cached plan is used. The cache can be inspected using
+         * {@link CommandTree#getParsePlanCache()}
+         *
+         * @since 1.4.0
+         */
+        CACHE_PARSE_PLANS,
+
+        /**
+         * Tokenize command inputs so that quoted spans, such as {@code "hello world"}, become single tokens that keep
+         * their quotes. This lets {@link cloud.commandframework.arguments.standard.StringArgument.StringMode#QUOTED quoted}
+         * string arguments be parsed from a single token, rather than by scanning all remaining input
+         *
+         * @since 1.4.0
+         */
+        TOKENIZE_QUOTED_STRINGS,
+
+        /**
+         * Record parse, execution and suggestion latencies, execution counts and failures in the
+         * {@link CommandManager#metrics() command metrics}
+         *
+         * @since 1.4.0
+         */
+        RECORD_METRICS
     }
 
     /**
@@ -0,0 +1,179 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.context.CommandContext;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of parse plans, keyed by the command input and the class of the command sender. A parse plan
+ * contains the command that the input resolved to, the values that were parsed from the input
+ * and the tree nodes whose permissions have to be checked before the plan may be reused.
+ * <p>
+ * Plans are only created for inputs where every argument on the resolved path is either a literal
+ * or an argument with a {@link cloud.commandframework.arguments.parser.ArgumentParser#isCacheable() cacheable}
+ * parser and no preprocessors. The cache is cleared whenever the command tree is modified.
+ *
+ * @param <C> Command sender type
+ * @see CommandManager.ManagerSettings#CACHE_PARSE_PLANS
+ * @since 1.4.0
+ */
+public final class CommandParsePlanCache<C> {
+
+    /**
+     * Default maximum number of plans per sender class
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private final Map<Class<?>, PlanTable<C>> tables = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final int maximumSize;
+
+    CommandParsePlanCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    @Nullable Plan<C> get(final @NonNull Class<?> senderClass, final @NonNull String input) {
+        final PlanTable<C> table = this.tables.get(senderClass);
+        final Plan<C> plan = table == null ? null : table.plans.get(input);
+        if (plan == null) {
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+        }
+        return plan;
+    }
+
+    void put(final @NonNull Class<?> senderClass, final @NonNull String input, final @NonNull Plan<C> plan) {
+        this.tables.computeIfAbsent(senderClass, c -> new PlanTable<>()).put(input, plan, this.maximumSize);
+    }
+
+    /**
+     * Remove all cached plans. The statistics are retained
+     */
+    public void clear() {
+        this.tables.clear();
+    }
+
+    /**
+     * Get the number of cached plans
+     *
+     * @return Number of cached plans
+     */
+    public int size() {
+        return this.tables.values().stream().mapToInt(table -> table.plans.size()).sum();
+    }
+
+    /**
+     * Get the number of lookups that found a cached plan
+     *
+     * @return Number of cache hits
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Get the number of lookups that did not find a cached plan
+     *
+     * @return Number of cache misses
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+
+    private static final class PlanTable<C> {
+
+        private final Map<String, Plan<C>> plans = new ConcurrentHashMap<>();
+        private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+        private void put(final @NonNull String input, final @NonNull Plan<C> plan, final int maximumSize) {
+            if (this.plans.putIfAbsent(input, plan) != null) {
+                return;
+            }
+            this.insertionOrder.add(input);
+            while (this.plans.size() > maximumSize) {
+                final String eldest = this.insertionOrder.poll();
+                if (eldest == null) {
+                    break;
+                }
+                this.plans.remove(eldest);
+            }
+        }
+
+    }
+
+
+    /**
+     * Resolved command, together with its parsed values and the nodes that were visited to resolve it
+     *
+     * @param <C> Command sender type
+     */
+    static final class Plan<C> {
+
+        private final Command<C> command;
+        private final List<CommandTree.Node<CommandArgument<C, ?>>> path;
+        private final String[] keys;
+        private final Object[] values;
+
+        Plan(
+                final @NonNull Command<C> command,
+                final @NonNull List<CommandTree.@NonNull Node<CommandArgument<C, ?>>> path,
+                final @NonNull String @NonNull [] keys,
+                final @NonNull Object @NonNull [] values
+        ) {
+            this.command = command;
+            this.path = path;
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @NonNull Command<C> getCommand() {
+            return this.command;
+        }
+
+        @NonNull List<CommandTree.@NonNull Node<CommandArgument<C, ?>>> getPath() {
+            return this.path;
+        }
+
+        void apply(final @NonNull CommandContext<C> context) {
+            for (int i = 0; i < this.keys.length; i++) {
+                context.store(this.keys[i], this.values[i]);
+            }
+        }
+
+    }
+
+}
@@ -24,10 +24,17 @@
 package cloud.commandframework;
 
 import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.CommandSyntaxFormatter;
 import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.arguments.compound.CompoundArgument;
 import cloud.commandframework.arguments.compound.FlagArgument;
 import cloud.commandframework.arguments.parser.ArgumentParseResult;
+import cloud.commandframework.arguments.parser.ArgumentParseResultCache;
+import cloud.commandframework.arguments.parser.ArgumentParser;
+import cloud.commandframework.arguments.parser.DoubleArgumentParser;
+import cloud.commandframework.arguments.parser.FloatArgumentParser;
+import cloud.commandframework.arguments.parser.IntArgumentParser;
+import cloud.commandframework.arguments.parser.LongArgumentParser;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.AmbiguousNodeException;
 import cloud.commandframework.exceptions.ArgumentParseException;
@@ -36,6 +43,8 @@ import cloud.commandframework.exceptions.InvalidSyntaxException;
 import cloud.commandframework.exceptions.NoCommandInLeafException;
 import cloud.commandframework.exceptions.NoPermissionException;
 import cloud.commandframework.exceptions.NoSuchCommandException;
+import cloud.commandframework.internal.LiteralTrie;
+import cloud.commandframework.metrics.CommandTracer;
 import cloud.commandframework.permission.CommandPermission;
 import cloud.commandframework.permission.OrPermission;
 import cloud.commandframework.types.tuples.Pair;
@@ -43,22 +52,25 @@ import io.leangen.geantyref.GenericTypeReflector;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Tree containing all commands and command paths.
@@ -89,10 +101,16 @@ import java.util.stream.Stream;
  */
 public final class CommandTree<C> {
 
+    private static final ArgumentParseResult<Boolean> PRIMITIVE_STORED = ArgumentParseResult.success(true);
+
     private final Object commandLock = new Object();
 
     private final Node<CommandArgument<C, ?>> internalTree = new Node<>(null);
+    private final Map<ArgumentParser<C, ?>, ArgumentParseResultCache<?>> parseResultCaches = new ConcurrentHashMap<>();
+    private final CommandParsePlanCache<C> parsePlanCache = new CommandParsePlanCache<>(CommandParsePlanCache.DEFAULT_MAXIMUM_SIZE);
+    private final Map<SyntaxKey, String> syntaxCache = new ConcurrentHashMap<>();
     private final CommandManager<C> commandManager;
+    private volatile CommandSyntaxFormatter<C> syntaxCacheFormatter;
 
     private CommandTree(final @NonNull CommandManager<C> commandManager) {
         this.commandManager = commandManager;
@@ -120,6 +138,47 @@ public final class CommandTree<C> {
             final @NonNull CommandContext<C> commandContext,
             final @NonNull Queue<@NonNull String> args
     ) {
+        final boolean recordMetrics = this.commandManager.getSetting(CommandManager.ManagerSettings.RECORD_METRICS);
+        final long start = recordMetrics ? System.nanoTime() : 0L;
+        final CommandTracer.Span span = this.commandManager.getCommandTracer().begin(CommandTracer.Phase.PARSE);
+        commandContext.setTimingArguments(this.commandManager.getParseTimingRecorder().sample());
+        final Pair<@Nullable Command<C>, @Nullable Exception> pair;
+        try {
+            pair = this.parseInput(commandContext, args);
+        } catch (final Throwable e) {
+            /* Parsers are expected to return failures, but the trace should not lose the phase if one throws */
+            if (span != null) {
+                span.complete(commandContext.getSender().getClass(), null, null, e);
+            }
+            throw e;
+        }
+        commandContext.setCommand(pair.getFirst());
+        if (recordMetrics) {
+            this.commandManager.metrics().recordParse(pair.getFirst(), System.nanoTime() - start);
+        }
+        if (span != null) {
+            span.complete(commandContext.getSender().getClass(), pair.getFirst(), null, pair.getSecond());
+        }
+        return pair;
+    }
+
+    private @NonNull Pair<@Nullable Command<C>, @Nullable Exception> parseInput(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull Queue<@NonNull String> args
+    ) {
+        final String input;
+        if (this.commandManager.getSetting(CommandManager.ManagerSettings.CACHE_PARSE_PLANS)) {
+            input = String.join(" ", args);
+            final CommandParsePlanCache.Plan<C> plan = this.parsePlanCache.get(commandContext.getSender().getClass(), input);
+            if (plan != null && this.isPlanPermitted(commandContext.getSender(), plan)) {
+                plan.apply(commandContext);
+                args.clear();
+                return Pair.of(plan.getCommand(), null);
+            }
+        } else {
+            input = null;
+        }
+
         final Pair<@Nullable Command<C>, @Nullable Exception> pair = this.parseCommand(
                 new ArrayList<>(),
                 commandContext,
@@ -138,11 +197,87 @@ public final class CommandTree<C> {
                         Collections.emptyList()
                 ));
             }
+            if (input != null) {
+                final CommandParsePlanCache.Plan<C> plan = this.createPlan(command, commandContext);
+                if (plan != null) {
+                    this.parsePlanCache.put(commandContext.getSender().getClass(), input, plan);
+                }
+            }
         }
 
         return pair;
     }
 
+    /**
+     * Create a parse plan for a successfully parsed command. Plans are only created when every
+     * argument that was parsed can be parsed again with the same result, which means that it
+     * must have a cacheable parser, no preprocessors and no default value supplier
+     *
+     * @param command        Parsed command
+     * @param commandContext Context that the command was parsed into
+     * @return Created plan, or {@code null} if the command cannot be cached
+     */
+    private CommandParsePlanCache.@Nullable Plan<C> createPlan(
+            final @NonNull Command<C> command,
+            final @NonNull CommandContext<C> commandContext
+    ) {
+        final List<Node<CommandArgument<C, ?>>> path = new ArrayList<>();
+        final List<String> keys = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();
+        path.add(this.internalTree);
+        Node<CommandArgument<C, ?>> node = this.internalTree;
+        for (final CommandArgument<C, ?> argument : command.getArguments()) {
+            if (!(argument instanceof StaticArgument)) {
+                final Object value = commandContext.getOrDefault(argument.getName(), null);
+                if (value == null) {
+                    /* The remaining arguments were not provided */
+                    break;
+                }
+                if (!argument.getParser().isCacheable()
+                        || argument.hasPreprocessors()
+                        || argument.hasDefaultValueSupplier()) {
+                    return null;
+                }
+                keys.add(argument.getName());
+                values.add(value);
+            }
+            node = node.getChild(argument);
+            if (node == null) {
+                return null;
+            }
+            path.add(node);
+        }
+        return new CommandParsePlanCache.Plan<>(
+                command,
+                path,
+                keys.toArray(new String[0]),
+                values.toArray()
+        );
+    }
+
+    private boolean isPlanPermitted(
+            final @NonNull C sender,
+            final CommandParsePlanCache.@NonNull Plan<C> plan
+    ) {
+        for (final Node<CommandArgument<C, ?>> node : plan.getPath()) {
+            if (this.isPermitted(sender, node) != null) {
+                return false;
+            }
+        }
+        return this.commandManager.hasPermission(sender, plan.getCommand().getCommandPermission());
+    }
+
+    /**
+     * Get the parse plan cache. Plans are only cached when {@link CommandManager.ManagerSettings#CACHE_PARSE_PLANS}
+     * is enabled
+     *
+     * @return Parse plan cache
+     * @since 1.4.0
+     */
+    public @NonNull CommandParsePlanCache<C> getParsePlanCache() {
+        return this.parsePlanCache;
+    }
+
     private @NonNull Pair<@Nullable Command<C>, @Nullable Exception> parseCommand(
             final @NonNull List<@NonNull CommandArgument<C, ?>> parsedArguments,
             final @NonNull CommandContext<C> commandContext,
@@ -154,11 +289,7 @@ public final class CommandTree<C> {
             return Pair.of(null, new NoPermissionException(
                     permission,
                     commandContext.getSender(),
-                    this.getChain(root)
-                            .stream()
-                            .filter(node -> node.getValue() != null)
-                            .map(Node::getValue)
-                            .collect(Collectors.toList())
+                    this.lazyChain(root)
             ));
         }
 
@@ -173,7 +304,7 @@ public final class CommandTree<C> {
         }
 
         /* There are 0 or more static arguments as children. No variable child arguments are present */
-        if (root.children.isEmpty()) {
+        if (root.children.length == 0) {
             /* We are at the bottom. Check if there's a command attached, in which case we're done */
             if (root.getValue() != null && root.getValue().getOwningCommand() != null) {
                 if (commandQueue.isEmpty()) {
@@ -181,25 +312,15 @@ public final class CommandTree<C> {
                 } else {
                     /* Too many arguments. We have a unique path, so we can send the entire context */
                     return Pair.of(null, new InvalidSyntaxException(
-                            this.commandManager.getCommandSyntaxFormatter()
-                                    .apply(parsedArguments, root),
-                            commandContext.getSender(), this.getChain(root)
-                            .stream()
-                            .filter(node -> node.getValue() != null)
-                            .map(Node::getValue)
-                            .collect(Collectors.toList())
+                            () -> this.formatSyntax(parsedArguments, root),
+                            commandContext.getSender(), this.lazyChain(root)
                     ));
                 }
             } else {
                 /* Too many arguments. We have a unique path, so we can send the entire context */
                 return Pair.of(null, new InvalidSyntaxException(
-                        this.commandManager.getCommandSyntaxFormatter()
-                                .apply(parsedArguments, root),
-                        commandContext.getSender(), this.getChain(root)
-                        .stream()
-                        .filter(node -> node.getValue() != null)
-                        .map(Node::getValue)
-                        .collect(Collectors.toList())
+                        () -> this.formatSyntax(parsedArguments, root),
+                        commandContext.getSender(), this.lazyChain(root)
                 ));
             }
         } else {
@@ -209,14 +330,20 @@ public final class CommandTree<C> {
                     final Node<CommandArgument<C, ?>> child = childIterator.next();
                     if (child.getValue() != null) {
                         final CommandArgument<C, ?> argument = child.getValue();
-                        final CommandContext.ArgumentTiming argumentTiming = commandContext.createTiming(argument);
-
-                        argumentTiming.setStart(System.nanoTime());
+                        final long start = this.startArgumentTiming(commandContext);
+                        final CommandTracer.Span span = this.beginArgumentSpan();
                         commandContext.setCurrentArgument(argument);
-                        final ArgumentParseResult<?> result = argument.getParser().parse(commandContext, commandQueue);
-                        argumentTiming.setEnd(System.nanoTime(), result.getFailure().isPresent());
+                        final ArgumentParseResult<?> result;
+                        try {
+                            result = this.parseArgument(argument, commandContext, commandQueue);
+                        } catch (final Throwable e) {
+                            this.completeArgumentSpan(span, commandContext, argument, e);
+                            throw e;
+                        }
+                        this.recordArgumentTiming(start, commandContext, argument, result);
+                        this.completeArgumentSpan(span, commandContext, argument, result.failureOrNull());
 
-                        if (result.getParsedValue().isPresent()) {
+                        if (result.isSuccess()) {
                             parsedArguments.add(child.getValue());
                             return this.parseCommand(parsedArguments, commandContext, commandQueue, child);
                         }
@@ -227,7 +354,7 @@ public final class CommandTree<C> {
             if (root.equals(this.internalTree)) {
                 return Pair.of(null, new NoSuchCommandException(
                         commandContext.getSender(),
-                        getChain(root).stream().map(Node::getValue).collect(Collectors.toList()),
+                        () -> getChain(root).stream().map(Node::getValue).collect(Collectors.toList()),
                         stringOrEmpty(commandQueue.peek())
                 ));
             }
@@ -241,28 +368,36 @@ public final class CommandTree<C> {
                     return Pair.of(null, new NoPermissionException(
                             command.getCommandPermission(),
                             commandContext.getSender(),
-                            this.getChain(root)
-                                    .stream()
-                                    .filter(node -> node.getValue() != null)
-                                    .map(Node::getValue)
-                                    .collect(Collectors.toList())
+                            this.lazyChain(root)
                     ));
                 }
                 return Pair.of(root.getValue().getOwningCommand(), null);
             }
             /* We know that there's no command and we also cannot match any of the children */
             return Pair.of(null, new InvalidSyntaxException(
-                    this.commandManager.getCommandSyntaxFormatter()
-                            .apply(parsedArguments, root),
-                    commandContext.getSender(), this.getChain(root)
-                    .stream()
-                    .filter(node -> node.getValue() != null)
-                    .map(Node::getValue)
-                    .collect(Collectors.toList())
+                    () -> this.formatSyntax(parsedArguments, root),
+                    commandContext.getSender(), this.lazyChain(root)
             ));
         }
     }
 
+    /**
+     * Create a supplier of the argument chain leading up to a node, so that the chain is
+     * only computed if a failure handler requests it
+     *
+     * @param node Node
+     * @return Supplier of the arguments leading up to the node
+     */
+    private @NonNull Supplier<@NonNull List<@NonNull CommandArgument<?, ?>>> lazyChain(
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> node
+    ) {
+        return () -> this.getChain(node)
+                .stream()
+                .filter(n -> n.getValue() != null)
+                .map(Node::getValue)
+                .collect(Collectors.toList());
+    }
+
     private @NonNull Pair<@Nullable Command<C>, @Nullable Exception> attemptParseUnambiguousChild(
             final @NonNull List<@NonNull CommandArgument<C, ?>> parsedArguments,
             final @NonNull CommandContext<C> commandContext,
@@ -270,34 +405,33 @@ public final class CommandTree<C> {
             final @NonNull Queue<String> commandQueue
     ) {
         CommandPermission permission;
-        final List<Node<CommandArgument<C, ?>>> children = root.getChildren();
 
         // Check whether it matches any of the static arguments
         // If so, do not attempt parsing as a dynamic argument
         if (!commandQueue.isEmpty()) {
             final String literal = commandQueue.peek();
-            final boolean matchesLiteral = children.stream()
-                .filter(n -> n.getValue() instanceof StaticArgument)
-                .map(n -> (StaticArgument<?>) n.getValue())
-                .flatMap(arg -> Stream.concat(Stream.of(arg.getName()), arg.getAliases().stream()))
-                .anyMatch(arg -> arg.equals(literal));
-
-            if (matchesLiteral) {
-                return Pair.of(null, null);
+            for (int i = 0; i < root.literalCount; i++) {
+                final StaticArgument<?> argument = (StaticArgument<?>) root.children[i].getValue();
+                if (argument.getName().equals(literal)) {
+                    return Pair.of(null, null);
+                }
+                for (final String alias : argument.getAliases()) {
+                    if (alias.equals(literal)) {
+                        return Pair.of(null, null);
+                    }
+                }
             }
         }
 
         // If it does not match a literal, try to find the one argument node, if it exists
         // The ambiguity check guarantees that only one will be present
-        final List<Node<CommandArgument<C, ?>>> argumentNodes = children.stream()
-                .filter(n -> (n.getValue() != null && !(n.getValue() instanceof StaticArgument)))
-                .collect(Collectors.toList());
+        final int argumentNodes = root.children.length - root.literalCount;
 
-        if (argumentNodes.size() > 1) {
+        if (argumentNodes > 1) {
             throw new IllegalStateException("Unexpected ambiguity detected, number of "
                     + "dynamic child nodes should not exceed 1");
-        } else if (!argumentNodes.isEmpty()) {
-            final Node<CommandArgument<C, ?>> child = argumentNodes.get(0);
+        } else if (argumentNodes == 1) {
+            final Node<CommandArgument<C, ?>> child = root.children[root.literalCount];
 
             // The value has to be a variable
             permission = this.isPermitted(commandContext.getSender(), child);
@@ -305,17 +439,33 @@ public final class CommandTree<C> {
                 return Pair.of(null, new NoPermissionException(
                         permission,
                         commandContext.getSender(),
-                        this.getChain(child)
-                                .stream()
-                                .filter(node -> node.getValue() != null)
-                                .map(Node::getValue)
-                                .collect(Collectors.toList())
+                        this.lazyChain(child)
                 ));
             }
             if (child.getValue() != null) {
                 if (commandQueue.isEmpty()) {
                     if (child.getValue().hasDefaultValue()) {
-                        commandQueue.add(child.getValue().getDefaultValue());
+                        final CommandArgument<C, ?> argument = child.getValue();
+                        if (!argument.hasDefaultValueSupplier()
+                                && (!argument.getParser().isContextFree() || argument.hasPreprocessors())) {
+                            /* The default value has to go through the preprocessors and the parser */
+                            commandQueue.add(argument.getDefaultValue());
+                        } else {
+                            /* Typed default values, and those already parsed once, are stored directly */
+                            final ArgumentParseResult<?> result = argument.parseDefaultValue(commandContext);
+                            if (!result.isSuccess()) {
+                                return Pair.of(null, new ArgumentParseException(
+                                        result.failureOrNull(), commandContext.getSender(),
+                                        this.lazyChain(child)
+                                ));
+                            }
+                            commandContext.store(argument.getName(), result.value());
+                            if (child.isLeaf()) {
+                                return Pair.of(this.cast(argument.getOwningCommand()), null);
+                            }
+                            parsedArguments.add(argument);
+                            return this.parseCommand(parsedArguments, commandContext, commandQueue, child);
+                        }
                     } else if (!child.getValue().isRequired()) {
                         if (child.getValue().getOwningCommand() == null) {
                             /*
@@ -341,27 +491,18 @@ public final class CommandTree<C> {
                                 return Pair.of(null, new NoPermissionException(
                                         command.getCommandPermission(),
                                         commandContext.getSender(),
-                                        this.getChain(root)
-                                                .stream()
-                                                .filter(node -> node.getValue() != null)
-                                                .map(Node::getValue)
-                                                .collect(Collectors.toList())
+                                        this.lazyChain(root)
                                 ));
                             }
                             return Pair.of(command, null);
                         }
                         /* Not enough arguments */
                         return Pair.of(null, new InvalidSyntaxException(
-                                this.commandManager.getCommandSyntaxFormatter()
-                                        .apply(Objects.requireNonNull(
+                                () -> this.formatSyntax(Objects.requireNonNull(
                                                 child.getValue()
                                                         .getOwningCommand())
                                                 .getArguments(), child),
-                                commandContext.getSender(), this.getChain(root)
-                                .stream()
-                                .filter(node -> node.getValue() != null)
-                                .map(Node::getValue)
-                                .collect(Collectors.toList())
+                                commandContext.getSender(), this.lazyChain(root)
                         ));
                     } else {
                         /* The child is not a leaf, but may have an intermediary executor, attempt to use it */
@@ -374,76 +515,66 @@ public final class CommandTree<C> {
                                 return Pair.of(null, new NoPermissionException(
                                         command.getCommandPermission(),
                                         commandContext.getSender(),
-                                        this.getChain(root)
-                                                .stream()
-                                                .filter(node -> node.getValue() != null)
-                                                .map(Node::getValue)
-                                                .collect(Collectors.toList())
+                                        this.lazyChain(root)
                                 ));
                             }
                             return Pair.of(command, null);
                         }
                         /* Child does not have a command and so we cannot proceed */
                         return Pair.of(null, new InvalidSyntaxException(
-                                this.commandManager.getCommandSyntaxFormatter()
-                                        .apply(parsedArguments, root),
-                                commandContext.getSender(), this.getChain(root)
-                                .stream()
-                                .filter(node -> node.getValue() != null)
-                                .map(Node::getValue)
-                                .collect(Collectors.toList())
+                                () -> this.formatSyntax(parsedArguments, root),
+                                commandContext.getSender(), this.lazyChain(root)
                         ));
                     }
                 }
 
                 final CommandArgument<C, ?> argument = child.getValue();
-                final CommandContext.ArgumentTiming argumentTiming = commandContext.createTiming(argument);
 
                 // START: Parsing
-                argumentTiming.setStart(System.nanoTime());
+                final long start = this.startArgumentTiming(commandContext);
+                final CommandTracer.Span span = this.beginArgumentSpan();
                 final ArgumentParseResult<?> result;
-                final ArgumentParseResult<Boolean> preParseResult = child.getValue().preprocess(
-                        commandContext,
-                        commandQueue
-                );
-                if (!preParseResult.getFailure().isPresent() && preParseResult.getParsedValue().orElse(false)) {
-                    commandContext.setCurrentArgument(argument);
-                    result = argument.getParser().parse(commandContext, commandQueue);
-                } else {
-                    result = preParseResult;
+                try {
+                    final ArgumentParseResult<Boolean> preParseResult = child.getValue().preprocess(
+                            commandContext,
+                            commandQueue
+                    );
+                    if (Boolean.TRUE.equals(preParseResult.value())) {
+                        commandContext.setCurrentArgument(argument);
+                        result = this.parseAndStore(argument, commandContext, commandQueue);
+                    } else {
+                        result = preParseResult;
+                        if (preParseResult.isSuccess()) {
+                            commandContext.store(argument.getName(), preParseResult.value());
+                        }
+                    }
+                } catch (final Throwable e) {
+                    this.completeArgumentSpan(span, commandContext, argument, e);
+                    throw e;
                 }
-                argumentTiming.setEnd(System.nanoTime(), result.getFailure().isPresent());
+                this.recordArgumentTiming(start, commandContext, argument, result);
+                this.completeArgumentSpan(span, commandContext, argument, result.failureOrNull());
                 // END: Parsing
 
-                if (result.getParsedValue().isPresent()) {
-                    commandContext.store(child.getValue().getName(), result.getParsedValue().get());
+                if (result.isSuccess()) {
                     if (child.isLeaf()) {
                         if (commandQueue.isEmpty()) {
                             return Pair.of(this.cast(child.getValue().getOwningCommand()), null);
                         } else {
                             /* Too many arguments. We have a unique path, so we can send the entire context */
                             return Pair.of(null, new InvalidSyntaxException(
-                                    this.commandManager.getCommandSyntaxFormatter()
-                                            .apply(parsedArguments, child),
-                                    commandContext.getSender(), this.getChain(root)
-                                    .stream()
-                                    .filter(node -> node.getValue() != null)
-                                    .map(Node::getValue)
-                                    .collect(Collectors.toList())
+                                    () -> this.formatSyntax(parsedArguments, child),
+                                    commandContext.getSender(), this.lazyChain(root)
                             ));
                         }
                     } else {
                         parsedArguments.add(child.getValue());
                         return this.parseCommand(parsedArguments, commandContext, commandQueue, child);
                     }
-                } else if (result.getFailure().isPresent()) {
+                } else {
                     return Pair.of(null, new ArgumentParseException(
-                            result.getFailure().get(), commandContext.getSender(),
-                            this.getChain(child)
-                                    .stream()
-                                    .filter(node -> node.getValue() != null)
-                                    .map(Node::getValue)
-                                    .collect(Collectors.toList())
+                            result.failureOrNull(), commandContext.getSender(),
+                            this.lazyChain(child)
                     ));
                 }
             }
@@ -452,6 +583,149 @@ public final class CommandTree<C> {
         return Pair.of(null, null);
     }
 
+    private long startArgumentTiming(final @NonNull CommandContext<C> commandContext) {
+        return commandContext.isTimingArguments() ? System.nanoTime() : 0L;
+    }
+
+    private void recordArgumentTiming(
+            final long start,
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandArgument<C, ?> argument,
+            final @NonNull ArgumentParseResult<?> result
+    ) {
+        if (!commandContext.isTimingArguments()) {
+            return;
+        }
+        final long end = System.nanoTime();
+        final boolean success = result.isSuccess();
+        final CommandContext.ArgumentTiming argumentTiming = commandContext.createTiming(argument);
+        argumentTiming.setStart(start);
+        argumentTiming.setEnd(end, success);
+        this.commandManager.getParseTimingRecorder().record(commandContext, argument, end - start, success);
+    }
+
+    private CommandTracer.@Nullable Span beginArgumentSpan() {
+        return this.commandManager.getCommandTracer().begin(CommandTracer.Phase.ARGUMENT_PARSE);
+    }
+
+    private void completeArgumentSpan(
+            final CommandTracer.@Nullable Span span,
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandArgument<C, ?> argument,
+            final @Nullable Throwable failure
+    ) {
+        if (span != null) {
+            span.complete(
+                    commandContext.getSender().getClass(),
+                    argument.getOwningCommand(),
+                    argument,
+                    failure
+            );
+        }
+    }
+
+    /**
+     * Parse an argument, making use of the parse result cache of the argument parser, if applicable
+     *
+     * @param argument       Argument to parse
+     * @param commandContext Command context
+     * @param commandQueue   Input queue
+     * @return Parse result
+     */
+    @SuppressWarnings("unchecked")
+    private @NonNull ArgumentParseResult<?> parseArgument(
+            final @NonNull CommandArgument<C, ?> argument,
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull Queue<@NonNull String> commandQueue
+    ) {
+        final ArgumentParser<C, Object> parser = (ArgumentParser<C, Object>) argument.getParser();
+        final String token = commandQueue.peek();
+        if (token == null
+                || !parser.isCacheable()
+                || !this.commandManager.getSetting(CommandManager.ManagerSettings.CACHE_PARSE_RESULTS)) {
+            return parser.parse(commandContext, commandQueue);
+        }
+        final ArgumentParseResultCache<Object> cache = (ArgumentParseResultCache<Object>) this.parseResultCaches
+                .computeIfAbsent(parser, p -> new ArgumentParseResultCache<>());
+        final ArgumentParseResult<Object> cachedResult = cache.get(token);
+        if (cachedResult != null) {
+            commandQueue.remove();
+            return cachedResult;
+        }
+        final int size = commandQueue.size();
+        final ArgumentParseResult<Object> result = parser.parse(commandContext, commandQueue);
+        if (commandQueue.size() == size - 1) {
+            cache.put(token, result);
+        }
+        return result;
+    }
+
+    /**
+     * Parse an argument and store the parsed value in the context. Values of primitive parsers are
+     * stored in the primitive slots of the context, so that they are never boxed. This does not
+     * apply when the results of the parser are cached, as the cache stores boxed results
+     *
+     * @param argument       Argument to parse
+     * @param commandContext Command context
+     * @param commandQueue   Command input
+     * @return Parse result. The value of successful primitive results carries no meaning
+     */
+    @SuppressWarnings("unchecked")
+    private @NonNull ArgumentParseResult<?> parseAndStore(
+            final @NonNull CommandArgument<C, ?> argument,
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull Queue<@NonNull String> commandQueue
+    ) {
+        final ArgumentParser<C, ?> parser = argument.getParser();
+        if (!parser.isCacheable() || !this.commandManager.getSetting(CommandManager.ManagerSettings.CACHE_PARSE_RESULTS)) {
+            try {
+                if (parser instanceof IntArgumentParser) {
+                    commandContext.storeInt(
+                            argument.getName(),
+                            ((IntArgumentParser<C>) parser).parseInt(commandContext, commandQueue)
+                    );
+                    return PRIMITIVE_STORED;
+                } else if (parser instanceof LongArgumentParser) {
+                    commandContext.storeLong(
+                            argument.getName(),
+                            ((LongArgumentParser<C>) parser).parseLong(commandContext, commandQueue)
+                    );
+                    return PRIMITIVE_STORED;
+                } else if (parser instanceof FloatArgumentParser) {
+                    commandContext.storeFloat(
+                            argument.getName(),
+                            ((FloatArgumentParser<C>) parser).parseFloat(commandContext, commandQueue)
+                    );
+                    return PRIMITIVE_STORED;
+                } else if (parser instanceof DoubleArgumentParser) {
+                    commandContext.storeDouble(
+                            argument.getName(),
+                            ((DoubleArgumentParser<C>) parser).parseDouble(commandContext, commandQueue)
+                    );
+                    return PRIMITIVE_STORED;
+                }
+            } catch (final IllegalArgumentException e) {
+                return ArgumentParseResult.failure(e);
+            }
+        }
+        final ArgumentParseResult<?> result = this.parseArgument(argument, commandContext, commandQueue);
+        if (result.isSuccess()) {
+            commandContext.store(argument.getName(), result.value());
+        }
+        return result;
+    }
+
+    /**
+     * Get an unmodifiable view of the parse result caches, keyed by their parsers. Caches are only
+     * created when {@link CommandManager.ManagerSettings#CACHE_PARSE_RESULTS} is enabled
+     *
+     * @return Parse result caches
+     * @since 1.4.0
+     */
+    public @NonNull Map<@NonNull ArgumentParser<C, ?>, @NonNull ArgumentParseResultCache<?>> getParseResultCaches() {
+        return Collections.unmodifiableMap(this.parseResultCaches);
+    }
+
     /**
      * Get suggestions from the input queue
      *
@@ -463,7 +737,19 @@ public final class CommandTree<C> {
             final @NonNull CommandContext<C> context,
             final @NonNull Queue<@NonNull String> commandQueue
     ) {
-        return getSuggestions(context, commandQueue, this.internalTree);
+        final CommandTracer.Span span = this.commandManager.getCommandTracer().begin(CommandTracer.Phase.SUGGEST);
+        if (span == null) {
+            return getSuggestions(context, commandQueue, this.internalTree);
+        }
+        final List<String> suggestions;
+        try {
+            suggestions = getSuggestions(context, commandQueue, this.internalTree);
+        } catch (final Throwable e) {
+            span.complete(context.getSender().getClass(), null, null, e);
+            throw e;
+        }
+        span.complete(context.getSender().getClass(), null, null, null);
+        return suggestions;
     }
 
     @SuppressWarnings("MixedMutabilityReturnType")
@@ -499,7 +785,7 @@ public final class CommandTree<C> {
                                 commandContext,
                                 commandQueue
                         );
-                        if (result.getParsedValue().isPresent()) {
+                        if (result.isSuccess()) {
                             // If further arguments are specified, dive into this literal
                             if (!commandQueue.isEmpty()) {
                                 return this.getSuggestions(commandContext, commandQueue, child);
@@ -517,24 +803,15 @@ public final class CommandTree<C> {
             commandQueue.addAll(commandQueueCopy);
         }
 
-        /* Calculate suggestions for the literal arguments */
+        /* Calculate suggestions for the literal arguments, only visiting the literals that match the input */
         final List<String> suggestions = new LinkedList<>();
         if (commandQueue.size() <= 1) {
             final String literalValue = stringOrEmpty(commandQueue.peek());
-            for (final Node<CommandArgument<C, ?>> argument : staticArguments) {
-                if (this.isPermitted(commandContext.getSender(), argument) != null) {
-                    continue;
+            this.getLiterals(root).forEachStartingWith(literalValue, (literal, argument) -> {
+                if (!literal.equals(literalValue) && this.isPermitted(commandContext.getSender(), argument) == null) {
+                    suggestions.add(literal);
                 }
-                commandContext.setCurrentArgument(argument.getValue());
-                final List<String> suggestionsToAdd = argument.getValue().getSuggestionsProvider()
-                        .apply(commandContext, literalValue);
-                for (String suggestion : suggestionsToAdd) {
-                    if (suggestion.equals(literalValue) || !suggestion.startsWith(literalValue)) {
-                        continue;
-                    }
-                    suggestions.add(suggestion);
-                }
-            }
+            });
         }
 
         /* Calculate suggestions for the variable argument, if one exists */
@@ -547,6 +824,43 @@ public final class CommandTree<C> {
         return suggestions;
     }
 
+    private @NonNull LiteralTrie<@NonNull Node<CommandArgument<C, ?>>> getLiterals(
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> node
+    ) {
+        LiteralTrie<Node<CommandArgument<C, ?>>> literals = node.literals;
+        if (literals == null) {
+            /* The node has been modified since the tree was last verified */
+            literals = this.indexLiterals(node);
+        }
+        return literals;
+    }
+
+    private @NonNull LiteralTrie<@NonNull Node<CommandArgument<C, ?>>> indexLiterals(
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> node
+    ) {
+        LiteralTrie<Node<CommandArgument<C, ?>>> literals = LiteralTrie.empty();
+        for (final Node<CommandArgument<C, ?>> child : node.children) {
+            if (child.getValue() instanceof StaticArgument) {
+                if (literals.size() == 0) {
+                    literals = new LiteralTrie<>();
+                }
+                literals.insert(child.getValue().getName(), child);
+            }
+        }
+        node.literals = literals;
+        return literals;
+    }
+
+    private void indexAllLiterals(final @NonNull Node<@Nullable CommandArgument<C, ?>> node) {
+        if (node.literals == null) {
+            this.indexLiterals(node);
+        }
+        for (final Node<CommandArgument<C, ?>> child : node.children) {
+            this.indexAllLiterals(child);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
     private @NonNull List<@NonNull String> suggestionsForDynamicArgument(
             final @NonNull CommandContext<C> commandContext,
             final @NonNull Queue<@NonNull String> commandQueue,
@@ -567,10 +881,11 @@ public final class CommandTree<C> {
                 }
             }
         } else if (child.getValue() instanceof FlagArgument) {
-            /* Remove all but last */
-            while (commandQueue.size() > 1) {
-                commandContext.store(FlagArgument.FLAG_META, commandQueue.remove());
-            }
+            /* Remove all but last, recording the flags that are already in use */
+            ((FlagArgument.FlagArgumentParser<C>) child.getValue().getParser()).consumeForSuggestions(
+                    commandContext,
+                    commandQueue
+            );
         } else if (child.getValue() != null
                 && GenericTypeReflector.erase(child.getValue().getValueType().getType()).isArray()) {
             while (commandQueue.size() > 1) {
@@ -613,16 +928,15 @@ public final class CommandTree<C> {
                     commandContext,
                     commandQueue
             );
-            final boolean preParseSuccess = !preParseResult.getFailure().isPresent()
-                    && preParseResult.getParsedValue().orElse(false);
+            final boolean preParseSuccess = Boolean.TRUE.equals(preParseResult.value());
             // END: Preprocessing
 
             if (preParseSuccess) {
                 // START: Parsing
                 commandContext.setCurrentArgument(child.getValue());
-                final ArgumentParseResult<?> result = child.getValue().getParser().parse(commandContext, commandQueue);
-                if (result.getParsedValue().isPresent() && !commandQueue.isEmpty()) {
-                    commandContext.store(child.getValue().getName(), result.getParsedValue().get());
+                final ArgumentParseResult<?> result = this.parseArgument(child.getValue(), commandContext, commandQueue);
+                if (result.isSuccess() && !commandQueue.isEmpty()) {
+                    commandContext.store(child.getValue().getName(), result.value());
                     return this.getSuggestions(commandContext, commandQueue, child);
                 }
                 // END: Parsing
@@ -665,9 +979,6 @@ public final class CommandTree<C> {
                         ((StaticArgument<C>) tempNode.getValue()).registerAlias(alias);
                     }
                 }
-                if (node.children.size() > 0) {
-                    node.children.sort(Comparator.comparing(Node::getValue));
-                }
                 tempNode.setParent(node);
                 node = tempNode;
             }
@@ -682,6 +993,8 @@ public final class CommandTree<C> {
             }
             // Verify the command structure every time we add a new command
             this.verifyAndRegister();
+            this.parsePlanCache.clear();
+            this.syntaxCache.clear();
         }
     }
 
@@ -689,7 +1002,7 @@ public final class CommandTree<C> {
             final @NonNull C sender,
             final @NonNull Node<@Nullable CommandArgument<C, ?>> node
     ) {
-        final CommandPermission permission = (CommandPermission) node.nodeMeta.get("permission");
+        final CommandPermission permission = node.permission;
         if (permission != null) {
             return this.commandManager.hasPermission(sender, permission) ? null : permission;
         }
@@ -730,14 +1043,15 @@ public final class CommandTree<C> {
      */
     public void verifyAndRegister() {
         // All top level commands are supposed to be registered in the command manager
-        this.internalTree.children.stream().map(Node::getValue).forEach(commandArgument -> {
-            if (!(commandArgument instanceof StaticArgument)) {
-                throw new IllegalStateException("Top level command argument cannot be a variable");
-            }
-        });
+        if (this.internalTree.literalCount != this.internalTree.children.length) {
+            throw new IllegalStateException("Top level command argument cannot be a variable");
+        }
 
         this.checkAmbiguity(this.internalTree);
 
+        // Index the literal children of all nodes that were modified
+        this.indexAllLiterals(this.internalTree);
+
         // Verify that all leaf nodes have command registered
         this.getLeaves(this.internalTree).forEach(leaf -> {
             if (leaf.getOwningCommand() == null) {
@@ -753,15 +1067,14 @@ public final class CommandTree<C> {
             // noinspection all
             final CommandPermission commandPermission = node.getValue().getOwningCommand().getCommandPermission();
             /* All leaves must necessarily have an owning command */
-            node.nodeMeta.put("permission", commandPermission);
+            node.permission = commandPermission;
             // Get chain and order it tail->head then skip the tail (leaf node)
             List<Node<CommandArgument<C, ?>>> chain = this.getChain(node);
             Collections.reverse(chain);
             chain = chain.subList(1, chain.size());
             // Go through all nodes from the tail upwards until a collision occurs
             for (final Node<CommandArgument<C, ?>> commandArgumentNode : chain) {
-                final CommandPermission existingPermission = (CommandPermission) commandArgumentNode.nodeMeta
-                        .get("permission");
+                final CommandPermission existingPermission = commandArgumentNode.permission;
 
                 CommandPermission permission;
                 if (existingPermission != null) {
@@ -784,7 +1097,7 @@ public final class CommandTree<C> {
                     }
                 }
 
-                commandArgumentNode.nodeMeta.put("permission", permission);
+                commandArgumentNode.permission = permission;
             }
         });
     }
@@ -796,7 +1109,7 @@ public final class CommandTree<C> {
         }
 
         // List of child nodes that are not static arguments, but (parsed) variable ones
-        final List<Node<CommandArgument<C, ?>>> childVariableArguments = node.children.stream()
+        final List<Node<CommandArgument<C, ?>>> childVariableArguments = Arrays.stream(node.children)
                 .filter(n -> (n.getValue() != null && !(n.getValue() instanceof StaticArgument)))
                 .collect(Collectors.toList());
 
@@ -815,7 +1128,7 @@ public final class CommandTree<C> {
 
         // List of child nodes that are static arguments, with fixed values
         @SuppressWarnings({ "rawtypes", "unchecked" })
-        final List<Node<StaticArgument<?>>> childStaticArguments = node.children.stream()
+        final List<Node<StaticArgument<?>>> childStaticArguments = Arrays.stream(node.children)
                 .filter(n -> n.getValue() instanceof StaticArgument)
                 .map(n -> (Node<StaticArgument<?>>) ((Node) n))
                 .collect(Collectors.toList());
@@ -840,7 +1153,9 @@ public final class CommandTree<C> {
         }
 
         // Recursively check child nodes as well
-        node.children.forEach(this::checkAmbiguity);
+        for (final Node<CommandArgument<C, ?>> child : node.children) {
+            this.checkAmbiguity(child);
+        }
     }
 
     private @NonNull List<@NonNull Node<@Nullable CommandArgument<C, ?>>> getLeavesRaw(
@@ -852,7 +1167,9 @@ public final class CommandTree<C> {
                 leaves.add(node);
             }
         } else {
-            node.children.forEach(child -> leaves.addAll(getLeavesRaw(child)));
+            for (final Node<CommandArgument<C, ?>> child : node.children) {
+                leaves.addAll(this.getLeavesRaw(child));
+            }
         }
         return leaves;
     }
@@ -866,7 +1183,9 @@ public final class CommandTree<C> {
                 leaves.add(node.getValue());
             }
         } else {
-            node.children.forEach(child -> leaves.addAll(getLeaves(child)));
+            for (final Node<CommandArgument<C, ?>> child : node.children) {
+                leaves.addAll(this.getLeaves(child));
+            }
         }
         return leaves;
     }
@@ -927,6 +1246,86 @@ public final class CommandTree<C> {
         return this.commandManager;
     }
 
+    /**
+     * Format a chain of arguments into a syntax string using the {@link CommandManager#getCommandSyntaxFormatter()
+     * command syntax formatter}. If the formatter is {@link CommandSyntaxFormatter#isCacheable() cacheable}, the
+     * syntax string is cached per argument chain and trailing node until the tree is modified
+     *
+     * @param arguments Command arguments
+     * @param node      Trailing node
+     * @return Syntax string
+     * @since 1.4.0
+     */
+    public @NonNull String formatSyntax(
+            final @NonNull List<@NonNull CommandArgument<C, ?>> arguments,
+            final @Nullable Node<@Nullable CommandArgument<C, ?>> node
+    ) {
+        final CommandSyntaxFormatter<C> formatter = this.commandManager.getCommandSyntaxFormatter();
+        if (!formatter.isCacheable()) {
+            return formatter.apply(arguments, node);
+        }
+        if (this.syntaxCacheFormatter != formatter) {
+            this.syntaxCache.clear();
+            this.syntaxCacheFormatter = formatter;
+        }
+        final SyntaxKey key = new SyntaxKey(arguments.toArray(), node);
+        final String cached = this.syntaxCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final String syntax = formatter.apply(arguments, node);
+        if (this.syntaxCacheFormatter == formatter) {
+            this.syntaxCache.put(key, syntax);
+        }
+        return syntax;
+    }
+
+    /**
+     * Key of a cached syntax string. Arguments and nodes are compared by identity
+     */
+    private static final class SyntaxKey {
+
+        private final Object[] arguments;
+        private final Object node;
+        private final int hashCode;
+
+        private SyntaxKey(final @NonNull Object[] arguments, final @Nullable Object node) {
+            this.arguments = arguments;
+            this.node = node;
+            int hashCode = System.identityHashCode(node);
+            for (final Object argument : arguments) {
+                hashCode = 31 * hashCode + System.identityHashCode(argument);
+            }
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SyntaxKey)) {
+                return false;
+            }
+            final SyntaxKey that = (SyntaxKey) o;
+            if (this.node != that.node || this.arguments.length != that.arguments.length) {
+                return false;
+            }
+            for (int i = 0; i < this.arguments.length; i++) {
+                if (this.arguments[i] != that.arguments[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+    }
+
     /**
      * Very simple tree structure
      *
@@ -934,10 +1333,26 @@ public final class CommandTree<C> {
      */
     public static final class Node<T> {
 
-        private final Map<String, Object> nodeMeta = new HashMap<>();
-        private final List<Node<T>> children = new LinkedList<>();
+        private static final String PERMISSION_KEY = "permission";
+        private static final Node<?>[] NO_CHILDREN = new Node<?>[0];
+
+        /*
+         * The children are stored in an array that is replaced when a child is added. Static
+         * arguments come first, ordered by their names, followed by the variable arguments in
+         * insertion order. This is the order that the children used to be sorted into, and lets
+         * the tree look at either group without filtering. The permission is the only meta value
+         * that is always present, so it has its own field, and the meta map is only created when
+         * anything else is stored. The view that combines the two is created once, on first use
+         */
         private final T value;
+        @SuppressWarnings("unchecked")
+        private Node<T>[] children = (Node<T>[]) NO_CHILDREN;
+        private int literalCount;
         private Node<T> parent;
+        private CommandPermission permission;
+        private Map<String, Object> nodeMeta;
+        private NodeMeta nodeMetaView;
+        private volatile LiteralTrie<Node<T>> literals;
 
         private Node(final @Nullable T value) {
             this.value = value;
@@ -949,40 +1364,74 @@ public final class CommandTree<C> {
          * @return Children
          */
         public @NonNull List<@NonNull Node<@Nullable T>> getChildren() {
-            return Collections.unmodifiableList(this.children);
+            return Collections.unmodifiableList(Arrays.asList(this.children));
         }
 
         private @NonNull Node<@Nullable T> addChild(final @NonNull T child) {
             final Node<T> node = new Node<>(child);
-            this.children.add(node);
+            final int index;
+            if (child instanceof StaticArgument) {
+                /* Insert after all literals with a lower or equal name, to keep the order stable */
+                final String name = ((StaticArgument<?>) child).getName();
+                int low = 0;
+                int high = this.literalCount;
+                while (low < high) {
+                    final int middle = (low + high) >>> 1;
+                    if (this.getLiteralName(middle).compareTo(name) <= 0) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                index = low;
+                this.literalCount++;
+            } else {
+                index = this.children.length;
+            }
+            final Node<T>[] children = Arrays.copyOf(this.children, this.children.length + 1);
+            System.arraycopy(this.children, index, children, index + 1, this.children.length - index);
+            children[index] = node;
+            this.children = children;
+            this.literals = null;
             return node;
         }
 
         private @Nullable Node<@Nullable T> getChild(final @NonNull T type) {
-            for (final Node<T> child : this.children) {
-                if (type.equals(child.getValue())) {
-                    return child;
+            final int start = type instanceof StaticArgument ? 0 : this.literalCount;
+            final int end = type instanceof StaticArgument ? this.literalCount : this.children.length;
+            for (int i = start; i < end; i++) {
+                if (type.equals(this.children[i].getValue())) {
+                    return this.children[i];
                 }
             }
             return null;
         }
 
+        private @NonNull String getLiteralName(final int index) {
+            return ((StaticArgument<?>) Objects.requireNonNull(this.children[index].getValue())).getName();
+        }
+
         /**
          * Check if the node is a leaf node
          *
          * @return {@code true} if the node is a leaf node, else {@code false}
          */
         public boolean isLeaf() {
-            return this.children.isEmpty();
+            return this.children.length == 0;
         }
 
         /**
-         * Get the node meta instance
+         * Get the node meta instance. The returned map is a live, mutable view of the meta values
+         * of the node. Changes made to it, its entry set or its entries are reflected in the node,
+         * and the same instance is returned on every call
          *
          * @return Node meta
          */
         public @NonNull Map<@NonNull String, @NonNull Object> getNodeMeta() {
-            return this.nodeMeta;
+            if (this.nodeMetaView == null) {
+                this.nodeMetaView = new NodeMeta();
+            }
+            return this.nodeMetaView;
         }
 
         /**
@@ -1034,6 +1483,124 @@ public final class CommandTree<C> {
             return "Node{value=" + value + '}';
         }
 
+
+        private final class NodeMeta extends AbstractMap<String, Object> {
+
+            @Override
+            public Object get(final Object key) {
+                if (PERMISSION_KEY.equals(key)) {
+                    return permission;
+                }
+                return nodeMeta == null ? null : nodeMeta.get(key);
+            }
+
+            @Override
+            public boolean containsKey(final Object key) {
+                return this.get(key) != null;
+            }
+
+            @Override
+            public Object put(final @NonNull String key, final @NonNull Object value) {
+                if (PERMISSION_KEY.equals(key)) {
+                    final CommandPermission previous = permission;
+                    permission = (CommandPermission) value;
+                    return previous;
+                }
+                if (nodeMeta == null) {
+                    nodeMeta = new HashMap<>();
+                }
+                return nodeMeta.put(key, value);
+            }
+
+            @Override
+            public Object remove(final Object key) {
+                if (PERMISSION_KEY.equals(key)) {
+                    final CommandPermission previous = permission;
+                    permission = null;
+                    return previous;
+                }
+                return nodeMeta == null ? null : nodeMeta.remove(key);
+            }
+
+            @Override
+            public @NonNull Set<Entry<String, Object>> entrySet() {
+                return new EntrySet();
+            }
+
+            private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+                @Override
+                public @NonNull Iterator<Entry<String, Object>> iterator() {
+                    /* Iterate over a snapshot of the keys, so that removing an entry does not affect the iteration */
+                    final List<String> keys = new ArrayList<>(this.size());
+                    if (permission != null) {
+                        keys.add(PERMISSION_KEY);
+                    }
+                    if (nodeMeta != null) {
+                        keys.addAll(nodeMeta.keySet());
+                    }
+                    return new Iterator<Entry<String, Object>>() {
+
+                        private int index;
+                        private String current;
+
+                        @Override
+                        public boolean hasNext() {
+                            return this.index < keys.size();
+                        }
+
+                        @Override
+                        public @NonNull Entry<String, Object> next() {
+                            if (!this.hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            this.current = keys.get(this.index++);
+                            return new MetaEntry(this.current, NodeMeta.this.get(this.current));
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (this.current == null) {
+                                throw new IllegalStateException();
+                            }
+                            NodeMeta.this.remove(this.current);
+                            this.current = null;
+                        }
+
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return (permission == null ? 0 : 1) + (nodeMeta == null ? 0 : nodeMeta.size());
+                }
+
+                @Override
+                public void clear() {
+                    permission = null;
+                    nodeMeta = null;
+                }
+
+            }
+
+            private final class MetaEntry extends AbstractMap.SimpleEntry<String, Object> {
+
+                private static final long serialVersionUID = 1L;
+
+                private MetaEntry(final @NonNull String key, final @NonNull Object value) {
+                    super(key, value);
+                }
+
+                @Override
+                public Object setValue(final @NonNull Object value) {
+                    super.setValue(value);
+                    return NodeMeta.this.put(this.getKey(), value);
+                }
+
+            }
+
+        }
+
     }
 
 }
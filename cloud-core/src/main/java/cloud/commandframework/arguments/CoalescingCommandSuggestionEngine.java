@@ -0,0 +1,206 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.arguments;
+
+import cloud.commandframework.context.CommandContext;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Command suggestion engine that coalesces concurrent suggestion requests made by the same sender
+ * before they reach the delegate engine.
+ * <p>
+ * At most one suggestion request is computed per sender at any given time. While a request is being
+ * computed, a newer request from the same sender is queued, and any request that was already queued
+ * is superseded by it. Superseded requests complete with an empty suggestion list, as their
+ * results would be outdated by the time they were computed. Requests that are identical to
+ * the one being computed, or to the one that is queued, share its result rather than computing a new one.
+ *
+ * @param <C> Command sender type
+ * @since 1.4.0
+ */
+public final class CoalescingCommandSuggestionEngine<C> implements CommandSuggestionEngine<C> {
+
+    private final Map<Object, SenderRequests> requests = new HashMap<>();
+    private final CommandSuggestionEngine<C> delegate;
+    private final Function<@NonNull C, @NonNull Object> senderKeyMapper;
+
+    /**
+     * Create a new coalescing suggestion engine that identifies senders by their own identity
+     *
+     * @param delegate Engine that computes the suggestions
+     */
+    public CoalescingCommandSuggestionEngine(final @NonNull CommandSuggestionEngine<C> delegate) {
+        this(delegate, sender -> sender);
+    }
+
+    /**
+     * Create a new coalescing suggestion engine
+     *
+     * @param delegate        Engine that computes the suggestions
+     * @param senderKeyMapper Function that maps a command sender to the key used to group its requests.
+     *                        This is useful on platforms where the sender instances are wrapped, and the
+     *                        wrappers do not implement {@link Object#equals(Object)}
+     */
+    public CoalescingCommandSuggestionEngine(
+            final @NonNull CommandSuggestionEngine<C> delegate,
+            final @NonNull Function<@NonNull C, @NonNull Object> senderKeyMapper
+    ) {
+        this.delegate = delegate;
+        this.senderKeyMapper = senderKeyMapper;
+    }
+
+    @Override
+    public @NonNull List<@NonNull String> getSuggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull String input
+    ) {
+        final Object key = this.senderKeyMapper.apply(context.getSender());
+        final Request request;
+        final Request shared;
+        synchronized (this.requests) {
+            final SenderRequests senderRequests = this.requests.computeIfAbsent(key, k -> new SenderRequests());
+            shared = senderRequests.find(input);
+            request = shared == null ? senderRequests.enqueue(input) : null;
+        }
+        if (shared != null) {
+            return copy(join(shared.result));
+        }
+
+        /* Wait until the previous request has finished, or until this request gets superseded */
+        join(request.turn);
+        if (request.result.isDone()) {
+            return join(request.result);
+        }
+
+        try {
+            final List<String> suggestions = this.delegate.getSuggestions(context, input);
+            request.result.complete(suggestions);
+            return suggestions;
+        } catch (final Throwable e) {
+            /* Errors must complete the request as well, or identical requests would wait for it forever */
+            request.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.finish(key);
+        }
+    }
+
+    private void finish(final @NonNull Object key) {
+        final Request next;
+        synchronized (this.requests) {
+            final SenderRequests senderRequests = this.requests.get(key);
+            next = senderRequests.queued;
+            senderRequests.queued = null;
+            senderRequests.running = next;
+            if (next == null) {
+                this.requests.remove(key);
+            }
+        }
+        if (next != null) {
+            next.turn.complete(null);
+        }
+    }
+
+    private static @NonNull List<@NonNull String> copy(final @NonNull List<@NonNull String> suggestions) {
+        if (suggestions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(suggestions);
+    }
+
+    private static <T> T join(final @NonNull CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+
+    private static final class SenderRequests {
+
+        private Request running;
+        private Request queued;
+
+        private @NonNull Request enqueue(final @NonNull String input) {
+            final Request request = new Request(input);
+            if (this.running == null) {
+                this.running = request;
+                request.turn.complete(null);
+            } else {
+                if (this.queued != null) {
+                    this.queued.supersede();
+                }
+                this.queued = request;
+            }
+            return request;
+        }
+
+        private @Nullable Request find(final @NonNull String input) {
+            if (this.running != null && this.running.input.equals(input)) {
+                return this.running;
+            }
+            if (this.queued != null && this.queued.input.equals(input)) {
+                return this.queued;
+            }
+            return null;
+        }
+
+    }
+
+
+    private static final class Request {
+
+        private final CompletableFuture<Void> turn = new CompletableFuture<>();
+        private final CompletableFuture<List<String>> result = new CompletableFuture<>();
+        private final String input;
+
+        private Request(final @NonNull String input) {
+            this.input = input;
+        }
+
+        private void supersede() {
+            this.result.complete(Collections.emptyList());
+            this.turn.complete(null);
+        }
+
+    }
+
+}
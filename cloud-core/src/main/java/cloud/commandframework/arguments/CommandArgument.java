@@ -40,6 +40,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 /**
@@ -78,6 +79,14 @@ public class CommandArgument<C, T> implements Comparable<CommandArgument<?, ?>>
      * Default value, will be empty if none was supplied
      */
     private final String defaultValue;
+    /**
+     * Supplier of typed default values, will be null if none was supplied
+     */
+    private Function<@NonNull CommandContext<C>, @NonNull T> defaultValueSupplier;
+    /**
+     * The result of parsing the default value, once it has been parsed by a cacheable parser
+     */
+    private volatile ArgumentParseResult<T> parsedDefaultValue;
     /**
      * The type that is produces by the argument's parser
      */
@@ -299,13 +308,23 @@ public class CommandArgument<C, T> implements Comparable<CommandArgument<?, ?>>
                     context,
                     input
             );
-            if (result.getFailure().isPresent()) {
+            if (!result.isSuccess()) {
                 return result;
             }
         }
         return ArgumentParseResult.success(true);
     }
 
+    /**
+     * Check whether any preprocessors have been registered for this argument
+     *
+     * @return {@code true} if the argument has preprocessors
+     * @since 1.4.0
+     */
+    public boolean hasPreprocessors() {
+        return !this.argumentPreprocessors.isEmpty();
+    }
+
     /**
      * Get the owning command
      *
@@ -388,7 +407,68 @@ public class CommandArgument<C, T> implements Comparable<CommandArgument<?, ?>>
      */
     public boolean hasDefaultValue() {
         return !this.isRequired()
-                && !this.getDefaultValue().isEmpty();
+                && (this.defaultValueSupplier != null || !this.getDefaultValue().isEmpty());
+    }
+
+    /**
+     * Create a {@link #copy() copy} of this argument with a supplier of typed default values. The supplier takes
+     * precedence over the {@link #getDefaultValue() default value string}, and its values are stored in the context
+     * without being parsed or preprocessed. This argument is not modified
+     *
+     * @param defaultValueSupplier Supplier of default values
+     * @return Copy of the argument that uses the supplier
+     * @since 1.4.0
+     */
+    public @NonNull CommandArgument<C, T> withDefaultValueSupplier(
+            final @NonNull Function<@NonNull CommandContext<C>, @NonNull T> defaultValueSupplier
+    ) {
+        if (this.isRequired()) {
+            throw new IllegalStateException("Required arguments cannot have default values");
+        }
+        final CommandArgument<C, T> copy = this.copy();
+        copy.defaultValueSupplier = Objects.requireNonNull(defaultValueSupplier, "Supplier may not be null");
+        return copy;
+    }
+
+    /**
+     * Check if the argument has a supplier of typed default values
+     *
+     * @return {@code true} if the argument has a default value supplier, {@code false} if not
+     * @since 1.4.0
+     */
+    public boolean hasDefaultValueSupplier() {
+        return this.defaultValueSupplier != null;
+    }
+
+    /**
+     * Get the default value of the argument. If the argument has a {@link #withDefaultValueSupplier(Function) supplier},
+     * the supplied value is returned. Otherwise the default value string is parsed. If the parser is
+     * {@link ArgumentParser#isCacheable() cacheable}, a successful result is kept and returned by
+     * all later calls, so that the same default value is only parsed once. The value of such a result is
+     * shared between all executions of the command, which is why other parsers, whose values may be
+     * mutable, parse the default value on every call.
+     * <p>
+     * The argument preprocessors are not invoked
+     *
+     * @param context Command context
+     * @return Parse result containing the default value
+     * @since 1.4.0
+     */
+    public @NonNull ArgumentParseResult<T> parseDefaultValue(final @NonNull CommandContext<C> context) {
+        if (this.defaultValueSupplier != null) {
+            return ArgumentParseResult.success(this.defaultValueSupplier.apply(context));
+        }
+        ArgumentParseResult<T> result = this.parsedDefaultValue;
+        if (result != null) {
+            return result;
+        }
+        final Queue<String> input = new LinkedList<>();
+        input.add(this.defaultValue);
+        result = this.parser.parse(context, input);
+        if (result.isSuccess() && this.parser.isCacheable()) {
+            this.parsedDefaultValue = result;
+        }
+        return result;
     }
 
     /**
@@ -416,7 +496,9 @@ public class CommandArgument<C, T> implements Comparable<CommandArgument<?, ?>>
         } else {
             builder = builder.asOptionalWithDefault(this.defaultValue);
         }
-        return builder.build();
+        final CommandArgument<C, T> copy = builder.build();
+        copy.defaultValueSupplier = this.defaultValueSupplier;
+        return copy;
     }
 
     /**
@@ -49,4 +49,15 @@ public interface CommandSyntaxFormatter<C> {
             CommandTree.@Nullable Node<@Nullable CommandArgument<C, ?>> node
     );
 
+    /**
+     * Check whether the syntax strings produced by this formatter only depend on the given arguments and node.
+     * Syntax strings of cacheable formatters are cached in the {@link CommandTree} until the tree is modified
+     *
+     * @return {@code true} if the syntax strings may be cached, else {@code false}
+     * @since 1.4.0
+     */
+    default boolean isCacheable() {
+        return false;
+    }
+
 }
@@ -66,7 +66,10 @@ public final class DelegatingCommandSuggestionEngine<C> implements CommandSugges
             final @NonNull CommandContext<C> context,
             final @NonNull String input
     ) {
-        final @NonNull LinkedList<@NonNull String> inputQueue = new CommandInputTokenizer(input).tokenize();
+        final @NonNull LinkedList<@NonNull String> inputQueue = new CommandInputTokenizer(
+                input,
+                this.commandManager.getSetting(CommandManager.ManagerSettings.TOKENIZE_QUOTED_STRINGS)
+        ).tokenize();
         /* Store a copy of the input queue in the context */
         context.store("__raw_input__", new LinkedList<>(inputQueue));
         final List<String> suggestions;
@@ -35,15 +35,29 @@ final class DelegatingSuggestionsProvider<C> implements BiFunction<@NonNull Comm
 
     private final String argumentName;
     private final ArgumentParser<C, ?> parser;
+    private final boolean memoize;
+
+    private volatile SuggestionTable suggestions;
 
     DelegatingSuggestionsProvider(final @NonNull String argumentName, final @NonNull ArgumentParser<C, ?> parser) {
         this.argumentName = argumentName;
         this.parser = parser;
+        this.memoize = parser.isContextFree() && parser.hasStaticSuggestions();
     }
 
     @Override
     public @NonNull List<@NonNull String> apply(final @NonNull CommandContext<C> context, final @NonNull String s) {
-        return this.parser.suggestions(context, s);
+        if (!this.memoize) {
+            return this.parser.suggestions(context, s);
+        }
+        SuggestionTable suggestions = this.suggestions;
+        if (suggestions == null) {
+            /* The suggestions are static, so racing threads would produce identical tables */
+            suggestions = SuggestionTable.of(this.parser.suggestions(context, s));
+            this.suggestions = suggestions;
+        }
+        /* Filtering is left to the suggestion processor of the command manager, which may use the table */
+        return suggestions.getSuggestions();
     }
 
     @Override
@@ -117,6 +117,18 @@ public class StandardCommandSyntaxFormatter<C> implements CommandSyntaxFormatter
         return formattingInstance.toString();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the standard formatter itself is cacheable, as subclasses may produce syntax strings that depend on
+     * anything but the arguments and the node, such as the state of the platform. Subclasses that only depend on
+     * the arguments and the node can override this to return {@code true}
+     */
+    @Override
+    public boolean isCacheable() {
+        return this.getClass() == StandardCommandSyntaxFormatter.class;
+    }
+
     /**
      * Create a new formatting instance
      *
@@ -29,14 +29,13 @@ import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.util.ArrayList;
+import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
 import java.util.Set;
-import java.util.TreeSet;
 
 /**
  * {@link CommandArgument} type that recognizes fixed strings. This type does not parse variables.
@@ -88,22 +87,33 @@ public final class StaticArgument<C> extends CommandArgument<C, String> {
      * @return Immutable view of the optional argument aliases
      */
     public @NonNull List<@NonNull String> getAlternativeAliases() {
-        return Collections.unmodifiableList(new ArrayList<>(((StaticArgumentParser<C>) this.getParser()).alternativeAliases));
+        return Collections.unmodifiableList(((StaticArgumentParser<C>) this.getParser()).getAlternativeAliases());
     }
 
 
     private static final class StaticArgumentParser<C> implements ArgumentParser<C, String> {
 
-        private final Set<String> allAcceptedAliases = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        private final Set<String> alternativeAliases = new HashSet<>();
+        private static final String[] NO_ALIASES = new String[0];
 
+        /*
+         * The aliases are stored in arrays rather than in sets, as most literals have no more than a
+         * couple of aliases, and large command trees contain a lot of literals. The accepted strings
+         * are sorted and deduplicated ignoring case, so that they can be searched like the case
+         * insensitive set that they are exposed as. Arrays are replaced rather than modified when an
+         * alias is inserted
+         */
         private final String name;
+        private final Set<String> acceptedStringsView = new AcceptedStrings();
+        private volatile String[] acceptedStrings;
+        private volatile String[] alternativeAliases;
 
         private StaticArgumentParser(final @NonNull String name, final @NonNull String... aliases) {
             this.name = name;
-            this.allAcceptedAliases.add(this.name);
-            this.allAcceptedAliases.addAll(Arrays.asList(aliases));
-            this.alternativeAliases.addAll(Arrays.asList(aliases));
+            this.acceptedStrings = new String[]{name};
+            this.alternativeAliases = NO_ALIASES;
+            for (final String alias : aliases) {
+                this.insertAlias(alias);
+            }
         }
 
         @Override
@@ -118,7 +128,7 @@ public final class StaticArgument<C> extends CommandArgument<C, String> {
                         commandContext
                 ));
             }
-            if (this.allAcceptedAliases.contains(string)) {
+            if (this.accepts(string)) {
                 inputQueue.remove();
                 return ArgumentParseResult.success(this.name);
             }
@@ -139,7 +149,7 @@ public final class StaticArgument<C> extends CommandArgument<C, String> {
          * @return Accepted strings
          */
         public @NonNull Set<@NonNull String> getAcceptedStrings() {
-            return this.allAcceptedAliases;
+            return this.acceptedStringsView;
         }
 
         /**
@@ -147,9 +157,54 @@ public final class StaticArgument<C> extends CommandArgument<C, String> {
          *
          * @param alias New alias
          */
-        public void insertAlias(final @NonNull String alias) {
-            this.allAcceptedAliases.add(alias);
-            this.alternativeAliases.add(alias);
+        public synchronized void insertAlias(final @NonNull String alias) {
+            final String[] accepted = this.acceptedStrings;
+            final int index = Arrays.binarySearch(accepted, alias, String.CASE_INSENSITIVE_ORDER);
+            if (index < 0) {
+                final int insertion = -(index + 1);
+                final String[] newAccepted = new String[accepted.length + 1];
+                System.arraycopy(accepted, 0, newAccepted, 0, insertion);
+                newAccepted[insertion] = alias;
+                System.arraycopy(accepted, insertion, newAccepted, insertion + 1, accepted.length - insertion);
+                this.acceptedStrings = newAccepted;
+            }
+            final String[] alternatives = this.alternativeAliases;
+            for (final String alternative : alternatives) {
+                if (alternative.equals(alias)) {
+                    return;
+                }
+            }
+            final String[] newAlternatives = Arrays.copyOf(alternatives, alternatives.length + 1);
+            newAlternatives[alternatives.length] = alias;
+            this.alternativeAliases = newAlternatives;
+        }
+
+        private boolean accepts(final @NonNull String string) {
+            return Arrays.binarySearch(this.acceptedStrings, string, String.CASE_INSENSITIVE_ORDER) >= 0;
+        }
+
+        private @NonNull List<@NonNull String> getAlternativeAliases() {
+            return Arrays.asList(this.alternativeAliases);
+        }
+
+
+        private final class AcceptedStrings extends AbstractSet<String> {
+
+            @Override
+            public boolean contains(final Object o) {
+                return o instanceof String && accepts((String) o);
+            }
+
+            @Override
+            public @NonNull Iterator<@NonNull String> iterator() {
+                return Arrays.asList(acceptedStrings).iterator();
+            }
+
+            @Override
+            public int size() {
+                return acceptedStrings.length;
+            }
+
         }
 
     }
@@ -0,0 +1,183 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.arguments;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable table of suggestions, indexed for prefix queries. The suggestions are indexed
+ * by a sorted array, so that a prefix query is a binary search followed by a scan over the
+ * matching suggestions. This can be used by suggestion providers or
+ * {@link cloud.commandframework.execution.CommandSuggestionProcessor suggestion processors}
+ * that repeatedly filter large static sets of suggestions.
+ * <p>
+ * The static suggestions of context free parsers are memoized in a table. Suggestion providers
+ * return the {@link #getSuggestions() view} of the table, from which suggestion processors can
+ * retrieve the table using {@link #fromView(List)}, in order to only filter the suggestions that
+ * share a prefix with the input.
+ * <p>
+ * Prefix queries ignore case, and so the results are a superset of the suggestions that
+ * would be accepted by a case sensitive {@link String#startsWith(String)} filter. The
+ * results retain the order in which the suggestions were provided to the table.
+ *
+ * @since 1.4.0
+ */
+public final class SuggestionTable {
+
+    private static final SuggestionTable EMPTY = new SuggestionTable(new String[0]);
+
+    private final String[] suggestions;
+    private final int[] sortedIndices;
+    private final View view;
+
+    private SuggestionTable(final @NonNull String @NonNull [] suggestions) {
+        this.suggestions = suggestions;
+        this.sortedIndices = IntStream.range(0, suggestions.length)
+                .boxed()
+                .sorted((first, second) -> String.CASE_INSENSITIVE_ORDER.compare(suggestions[first], suggestions[second]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.view = new View();
+    }
+
+    /**
+     * Create a new suggestion table
+     *
+     * @param suggestions Suggestions to index
+     * @return Created table
+     */
+    public static @NonNull SuggestionTable of(final @NonNull Collection<@NonNull String> suggestions) {
+        if (suggestions.isEmpty()) {
+            return EMPTY;
+        }
+        return new SuggestionTable(suggestions.toArray(new String[0]));
+    }
+
+    /**
+     * Get the table that backs a list of suggestions, if the list is the {@link #getSuggestions() view} of a table
+     *
+     * @param suggestions Suggestions
+     * @return The table that backs the suggestions, or {@code null} if the list is not backed by a table
+     */
+    public static @Nullable SuggestionTable fromView(final @NonNull List<@NonNull String> suggestions) {
+        if (suggestions instanceof View) {
+            return ((View) suggestions).getTable();
+        }
+        return null;
+    }
+
+    /**
+     * Get all suggestions in the table
+     *
+     * @return Unmodifiable view of all suggestions
+     */
+    public @NonNull List<@NonNull String> getSuggestions() {
+        return this.view;
+    }
+
+    /**
+     * Get all suggestions that start with the given prefix, ignoring case
+     *
+     * @param prefix Prefix
+     * @return Unmodifiable list of the matching suggestions
+     */
+    public @NonNull List<@NonNull String> startingWith(final @NonNull String prefix) {
+        if (prefix.isEmpty()) {
+            return this.view;
+        }
+        final int start = this.lowerBound(prefix);
+        int end = start;
+        while (end < this.sortedIndices.length
+                && this.suggestions[this.sortedIndices[end]].regionMatches(true, 0, prefix, 0, prefix.length())) {
+            end++;
+        }
+        if (start == end) {
+            return Collections.emptyList();
+        } else if (end - start == this.suggestions.length) {
+            return this.view;
+        } else if (end - start == 1) {
+            return Collections.singletonList(this.suggestions[this.sortedIndices[start]]);
+        }
+        /* Restore the original order of the matching suggestions */
+        final int[] matches = Arrays.copyOfRange(this.sortedIndices, start, end);
+        Arrays.sort(matches);
+        final String[] result = new String[matches.length];
+        for (int i = 0; i < matches.length; i++) {
+            result[i] = this.suggestions[matches[i]];
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * Get the number of suggestions in the table
+     *
+     * @return Number of suggestions
+     */
+    public int size() {
+        return this.suggestions.length;
+    }
+
+    private int lowerBound(final @NonNull String prefix) {
+        int low = 0;
+        int high = this.sortedIndices.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (String.CASE_INSENSITIVE_ORDER.compare(this.suggestions[this.sortedIndices[middle]], prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+
+    private final class View extends AbstractList<String> implements RandomAccess {
+
+        @Override
+        public String get(final int index) {
+            return SuggestionTable.this.suggestions[index];
+        }
+
+        @Override
+        public int size() {
+            return SuggestionTable.this.suggestions.length;
+        }
+
+        private @NonNull SuggestionTable getTable() {
+            return SuggestionTable.this;
+        }
+
+    }
+
+}
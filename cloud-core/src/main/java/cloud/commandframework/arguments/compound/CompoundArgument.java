@@ -137,12 +137,12 @@ public class CompoundArgument<T extends Tuple, C, O> extends CommandArgument<C,
             for (int i = 0; i < this.parsers.length; i++) {
                 @SuppressWarnings("unchecked") final ArgumentParser<C, ?> parser = (ArgumentParser<C, ?>) this.parsers[i];
                 final ArgumentParseResult<?> result = parser.parse(commandContext, inputQueue);
-                if (result.getFailure().isPresent()) {
+                if (!result.isSuccess()) {
                     /* Return the failure */
-                    return ArgumentParseResult.failure(result.getFailure().get());
+                    return ArgumentParseResult.failure(result.failureOrNull());
                 }
                 /* Store the parsed value */
-                output[i] = result.getParsedValue().orElse(null);
+                output[i] = result.value();
             }
             /*
              * We now know that we have complete output, as none of the parsers returned a failure.
@@ -33,18 +33,21 @@ import cloud.commandframework.captions.StandardCaptionKeys;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.parsing.ParserException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.function.BiFunction;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Container for flag parsing logic. This should not be be used directly.
@@ -54,17 +57,21 @@ import java.util.regex.Pattern;
  */
 public final class FlagArgument<C> extends CommandArgument<C, Object> {
 
-    private static final Pattern FLAG_ALIAS_PATTERN = Pattern.compile(" -(?<name>([A-Za-z]+))");
-    private static final Pattern FLAG_PRIMARY_PATTERN = Pattern.compile(" --(?<name>([A-Za-z]+))");
-
     /**
      * Dummy object that indicates that flags were parsed successfully
      */
     public static final Object FLAG_PARSE_RESULT_OBJECT = new Object();
+    private static final ArgumentParseResult<Object> FLAG_PARSE_RESULT = ArgumentParseResult.success(FLAG_PARSE_RESULT_OBJECT);
     /**
      * Meta data for the last argument that was suggested
      */
     public static final String FLAG_META = "__last_flag__";
+    /**
+     * Meta data for the flags that have already been used in the input that is being suggested for
+     *
+     * @since 1.4.0
+     */
+    public static final String USED_FLAGS_META = "__used_flags__";
 
     private static final String FLAG_ARGUMENT_NAME = "flags";
 
@@ -98,9 +105,23 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
     public static final class FlagArgumentParser<C> implements ArgumentParser<C, Object> {
 
         private final CommandFlag<?>[] flags;
+        private final Map<String, CommandFlag<?>> flagsByName = new HashMap<>();
+        private final Map<Character, CommandFlag<?>> flagsByAlias = new HashMap<>();
+        private final Map<Character, CommandFlag<?>> presenceFlagsByAlias = new HashMap<>();
 
         private FlagArgumentParser(final @NonNull CommandFlag<?>[] flags) {
             this.flags = flags;
+            for (final CommandFlag<?> flag : flags) {
+                this.flagsByName.putIfAbsent(flag.getName().toLowerCase(Locale.ENGLISH), flag);
+                for (final String alias : flag.getAliases()) {
+                    /* Aliases are single-char strings */
+                    final Character key = Character.toLowerCase(alias.charAt(0));
+                    this.flagsByAlias.put(key, flag);
+                    if (flag.getCommandArgument() == null) {
+                        this.presenceFlagsByAlias.putIfAbsent(key, flag);
+                    }
+                }
+            }
         }
 
         @Override
@@ -115,60 +136,48 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
              */
             final Set<CommandFlag<?>> parsedFlags = new HashSet<>();
             CommandFlag<?> currentFlag = null;
+            Queue<String> valueQueue = null;
 
             for (final @NonNull String string : inputQueue) {
                 if (string.startsWith("-") && currentFlag == null) {
                     if (string.startsWith("--")) {
-                        final String flagName = string.substring(2);
-                        for (final CommandFlag<?> flag : this.flags) {
-                            if (flagName.equalsIgnoreCase(flag.getName())) {
-                                currentFlag = flag;
-                                break;
-                            }
-                        }
+                        currentFlag = this.getFlagByName(string.substring(2));
                     } else {
                         final String flagName = string.substring(1);
                         if (flagName.length() > 1) {
-                            boolean oneAdded = false;
                             /* This is a multi-alias flag, find all flags that apply */
-                            for (final CommandFlag<?> flag : this.flags) {
-                                if (flag.getCommandArgument() != null) {
+                            final List<CommandFlag<?>> combinedFlags = new ArrayList<>(flagName.length());
+                            for (int i = 0; i < flagName.length(); i++) {
+                                final CommandFlag<?> flag = this.presenceFlagsByAlias.get(
+                                        Character.toLowerCase(flagName.charAt(i))
+                                );
+                                if (flag == null || combinedFlags.contains(flag)) {
                                     continue;
                                 }
-                                for (final String alias : flag.getAliases()) {
-                                    if (flagName.toLowerCase(Locale.ENGLISH).contains(alias.toLowerCase(Locale.ENGLISH))) {
-                                        if (parsedFlags.contains(flag)) {
-                                            return ArgumentParseResult.failure(new FlagParseException(
-                                                    string,
-                                                    FailureReason.DUPLICATE_FLAG,
-                                                    commandContext
-                                            ));
-                                        }
-                                        parsedFlags.add(flag);
-                                        commandContext.flags().addPresenceFlag(flag);
-                                        oneAdded = true;
-                                        break;
-                                    }
+                                if (parsedFlags.contains(flag)) {
+                                    return ArgumentParseResult.failure(new FlagParseException(
+                                            string,
+                                            FailureReason.DUPLICATE_FLAG,
+                                            commandContext
+                                    ));
                                 }
+                                combinedFlags.add(flag);
                             }
                             /* We need to parse at least one flag */
-                            if (!oneAdded) {
+                            if (combinedFlags.isEmpty()) {
                                 return ArgumentParseResult.failure(new FlagParseException(
                                         string,
                                         FailureReason.NO_FLAG_STARTED,
                                         commandContext
                                 ));
                             }
-                            continue;
-                        } else {
-                            for (final CommandFlag<?> flag : this.flags) {
-                                for (final String alias : flag.getAliases()) {
-                                    if (alias.equalsIgnoreCase(flagName)) {
-                                        currentFlag = flag;
-                                        break;
-                                    }
-                                }
+                            for (final CommandFlag<?> flag : combinedFlags) {
+                                parsedFlags.add(flag);
+                                commandContext.flags().addPresenceFlag(flag);
                             }
+                            continue;
+                        } else if (flagName.length() == 1) {
+                            currentFlag = this.flagsByAlias.get(Character.toLowerCase(flagName.charAt(0)));
                         }
                     }
                     if (currentFlag == null) {
@@ -199,23 +208,26 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
                                 commandContext
                         ));
                     } else {
+                        /* The same queue is reused for every flag value */
+                        if (valueQueue == null) {
+                            valueQueue = new ArrayDeque<>(1);
+                        } else {
+                            valueQueue.clear();
+                        }
+                        valueQueue.add(string);
                         final ArgumentParseResult<?> result =
                                 ((CommandArgument) currentFlag.getCommandArgument())
                                         .getParser()
                                         .parse(
                                                 commandContext,
-                                                new LinkedList<>(Collections.singletonList(string))
+                                                valueQueue
                                         );
-                        if (result.getFailure().isPresent()) {
-                            return ArgumentParseResult.failure(result.getFailure().get());
-                        } else if (result.getParsedValue().isPresent()) {
-                            final CommandFlag erasedFlag = currentFlag;
-                            final Object value = result.getParsedValue().get();
-                            commandContext.flags().addValueFlag(erasedFlag, value);
-                            currentFlag = null;
-                        } else {
-                            throw new IllegalStateException("Neither result or value were present. Panicking.");
+                        if (!result.isSuccess()) {
+                            return ArgumentParseResult.failure(result.failureOrNull());
                         }
+                        final CommandFlag erasedFlag = currentFlag;
+                        commandContext.flags().addValueFlag(erasedFlag, result.value());
+                        currentFlag = null;
                     }
                 }
             }
@@ -228,7 +240,34 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
             }
             /* We've consumed everything */
             inputQueue.clear();
-            return ArgumentParseResult.success(FLAG_PARSE_RESULT_OBJECT);
+            return FLAG_PARSE_RESULT;
+        }
+
+        /**
+         * Consume all but the last token of the input, in preparation for {@link #suggestions(CommandContext, String)}.
+         * The tokens, including the last one, are scanned for flags in a single pass, and the flags that have already
+         * been used are stored in the context so that they will not be suggested again. The last consumed token is
+         * stored as {@link #FLAG_META}
+         *
+         * @param commandContext Command context
+         * @param inputQueue     Remaining command input
+         * @since 1.4.0
+         */
+        public void consumeForSuggestions(
+                final @NonNull CommandContext<C> commandContext,
+                final @NonNull Queue<@NonNull String> inputQueue
+        ) {
+            final Set<CommandFlag<?>> usedFlags = new HashSet<>();
+            while (inputQueue.size() > 1) {
+                final String token = inputQueue.remove();
+                this.collectUsedFlags(token, usedFlags);
+                commandContext.store(FLAG_META, token);
+            }
+            final String last = inputQueue.peek();
+            if (last != null) {
+                this.collectUsedFlags(last, usedFlags);
+            }
+            commandContext.store(USED_FLAGS_META, usedFlags);
         }
 
         @Override
@@ -240,32 +279,13 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
             /* Check if we have a last flag stored */
             final String lastArg = commandContext.getOrDefault(FLAG_META, "");
             if (lastArg.isEmpty() || !lastArg.startsWith("-")) {
-                final String rawInput = commandContext.getRawInputJoined();
                 /* Collection containing all used flags */
-                final List<CommandFlag<?>> usedFlags = new LinkedList<>();
-                /* Find all "primary" flags, using --flag */
-                final Matcher primaryMatcher = FLAG_PRIMARY_PATTERN.matcher(rawInput);
-                while (primaryMatcher.find()) {
-                    final String name = primaryMatcher.group("name");
-                    for (final CommandFlag<?> flag : this.flags) {
-                        if (flag.getName().equalsIgnoreCase(name)) {
-                            usedFlags.add(flag);
-                            break;
-                        }
-                    }
-                }
-                /* Find all alias flags */
-                final Matcher aliasMatcher = FLAG_ALIAS_PATTERN.matcher(rawInput);
-                while (aliasMatcher.find()) {
-                    final String name = aliasMatcher.group("name");
-                    for (final CommandFlag<?> flag : this.flags) {
-                        for (final String alias : flag.getAliases()) {
-                            /* Aliases are single-char strings */
-                            if (name.contains(alias)) {
-                                usedFlags.add(flag);
-                                break;
-                            }
-                        }
+                Set<CommandFlag<?>> usedFlags = commandContext.getOrDefault(USED_FLAGS_META, null);
+                if (usedFlags == null) {
+                    /* The input was not consumed by the command tree, so scan the raw input instead */
+                    usedFlags = new HashSet<>();
+                    for (final String token : commandContext.getRawInput()) {
+                        this.collectUsedFlags(token, usedFlags);
                     }
                 }
                 /* Suggestions */
@@ -315,23 +335,9 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
             } else {
                 CommandFlag<?> currentFlag = null;
                 if (lastArg.startsWith("--")) {
-                    final String flagName = lastArg.substring(2);
-                    for (final CommandFlag<?> flag : this.flags) {
-                        if (flagName.equalsIgnoreCase(flag.getName())) {
-                            currentFlag = flag;
-                            break;
-                        }
-                    }
-                } else if (lastArg.startsWith("-")) {
-                    final String flagName = lastArg.substring(1);
-                    for (final CommandFlag<?> flag : this.flags) {
-                        for (final String alias : flag.getAliases()) {
-                            if (alias.equalsIgnoreCase(flagName)) {
-                                currentFlag = flag;
-                                break;
-                            }
-                        }
-                    }
+                    currentFlag = this.getFlagByName(lastArg.substring(2));
+                } else if (lastArg.length() == 2) {
+                    currentFlag = this.flagsByAlias.get(Character.toLowerCase(lastArg.charAt(1)));
                 }
                 if (currentFlag != null && currentFlag.getCommandArgument() != null) {
                     return (List<String>) ((BiFunction) currentFlag.getCommandArgument().getSuggestionsProvider())
@@ -342,6 +348,26 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
             return suggestions(commandContext, input);
         }
 
+        private @Nullable CommandFlag<?> getFlagByName(final @NonNull String name) {
+            return this.flagsByName.get(name.toLowerCase(Locale.ENGLISH));
+        }
+
+        private void collectUsedFlags(final @NonNull String token, final @NonNull Set<@NonNull CommandFlag<?>> usedFlags) {
+            if (token.startsWith("--")) {
+                final CommandFlag<?> flag = this.getFlagByName(token.substring(2));
+                if (flag != null) {
+                    usedFlags.add(flag);
+                }
+            } else if (token.startsWith("-")) {
+                for (int i = 1; i < token.length(); i++) {
+                    final CommandFlag<?> flag = this.flagsByAlias.get(Character.toLowerCase(token.charAt(i)));
+                    if (flag != null) {
+                        usedFlags.add(flag);
+                    }
+                }
+            }
+        }
+
     }
 
     /**
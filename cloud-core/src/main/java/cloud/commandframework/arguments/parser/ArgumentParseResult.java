@@ -24,6 +24,7 @@
 package cloud.commandframework.arguments.parser;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Optional;
 
@@ -34,6 +35,9 @@ import java.util.Optional;
  */
 public abstract class ArgumentParseResult<T> {
 
+    private static final ArgumentParseResult<Boolean> TRUE = new ParseSuccess<>(Boolean.TRUE);
+    private static final ArgumentParseResult<Boolean> FALSE = new ParseSuccess<>(Boolean.FALSE);
+
     private ArgumentParseResult() {
     }
 
@@ -49,13 +53,18 @@ public abstract class ArgumentParseResult<T> {
     }
 
     /**
-     * Indicate that the parsing succeeded
+     * Indicate that the parsing succeeded. Boolean results are shared instances, as they are
+     * commonly produced by preprocessors
      *
      * @param value Value produced by the parser
      * @param <T>   Parser return type
      * @return Succeeded parse result
      */
+    @SuppressWarnings("unchecked")
     public static <T> @NonNull ArgumentParseResult<T> success(final @NonNull T value) {
+        if (value instanceof Boolean) {
+            return (ArgumentParseResult<T>) ((Boolean) value ? TRUE : FALSE);
+        }
         return new ParseSuccess<>(value);
     }
 
@@ -73,6 +82,30 @@ public abstract class ArgumentParseResult<T> {
      */
     public abstract @NonNull Optional<Throwable> getFailure();
 
+    /**
+     * Check whether the parsing succeeded. Unlike {@link #getParsedValue()}, this does not allocate
+     *
+     * @return {@code true} if the parsing succeeded, else {@code false}
+     * @since 1.4.0
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * Get the parsed value. Unlike {@link #getParsedValue()}, this does not allocate
+     *
+     * @return The parsed value, or {@code null} if the parsing failed
+     * @since 1.4.0
+     */
+    public abstract @Nullable T value();
+
+    /**
+     * Get the failure reason. Unlike {@link #getFailure()}, this does not allocate
+     *
+     * @return The failure reason, or {@code null} if the parsing succeeded
+     * @since 1.4.0
+     */
+    public abstract @Nullable Throwable failureOrNull();
+
 
     private static final class ParseSuccess<T> extends ArgumentParseResult<T> {
 
@@ -95,6 +128,21 @@ public abstract class ArgumentParseResult<T> {
             return Optional.empty();
         }
 
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public @NonNull T value() {
+            return this.value;
+        }
+
+        @Override
+        public @Nullable Throwable failureOrNull() {
+            return null;
+        }
+
     }
 
 
@@ -119,6 +167,21 @@ public abstract class ArgumentParseResult<T> {
             return Optional.of(this.failure);
         }
 
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public @Nullable T value() {
+            return null;
+        }
+
+        @Override
+        public @NonNull Throwable failureOrNull() {
+            return this.failure;
+        }
+
     }
 
 }
@@ -0,0 +1,172 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.arguments.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread safe cache that maps input tokens to successful {@link ArgumentParseResult parse results}
+ * produced by a single {@link ArgumentParser}. Only parsers that are {@link ArgumentParser#isCacheable() cacheable}
+ * may have their results cached.
+ * <p>
+ * Once the cache is full, the oldest entries are evicted first.
+ *
+ * @param <T> Parser value type
+ * @since 1.4.0
+ */
+public final class ArgumentParseResultCache<T> {
+
+    /**
+     * Default maximum number of entries per cache
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 512;
+
+    private final Map<String, ArgumentParseResult<T>> results = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final int maximumSize;
+
+    /**
+     * Create a new cache
+     *
+     * @param maximumSize Maximum number of cached results
+     */
+    public ArgumentParseResultCache(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be positive");
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Create a new cache with {@link #DEFAULT_MAXIMUM_SIZE} as its maximum size
+     */
+    public ArgumentParseResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Get the cached result for an input token
+     *
+     * @param token Input token
+     * @return Cached result, or {@code null} if no result has been cached for the token
+     */
+    public @Nullable ArgumentParseResult<T> get(final @NonNull String token) {
+        final ArgumentParseResult<T> result = this.results.get(token);
+        if (result == null) {
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Cache a successful parse result for an input token. Failed results are ignored
+     *
+     * @param token  Input token that produced the result
+     * @param result Parse result
+     */
+    public void put(final @NonNull String token, final @NonNull ArgumentParseResult<T> result) {
+        if (!result.isSuccess()) {
+            return;
+        }
+        if (this.results.putIfAbsent(token, result) != null) {
+            return;
+        }
+        this.insertionOrder.add(token);
+        while (this.results.size() > this.maximumSize) {
+            final String eldest = this.insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            if (this.results.remove(eldest) != null) {
+                this.evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Remove all cached results. The statistics are retained
+     */
+    public void clear() {
+        this.results.clear();
+        this.insertionOrder.clear();
+    }
+
+    /**
+     * Get the number of cached results
+     *
+     * @return Number of cached results
+     */
+    public int size() {
+        return this.results.size();
+    }
+
+    /**
+     * Get the maximum number of cached results
+     *
+     * @return Maximum size
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Get the number of lookups that found a cached result
+     *
+     * @return Number of cache hits
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Get the number of lookups that did not find a cached result
+     *
+     * @return Number of cache misses
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Get the number of results that have been evicted to keep the cache within its maximum size
+     *
+     * @return Number of evictions
+     */
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+}
@@ -99,6 +99,38 @@ public interface ArgumentParser<C, T> {
         return false;
     }
 
+    /**
+     * Check whether or not the results produced by this parser may be cached. A cacheable parser must be
+     * {@link #isContextFree() context free}, must consume exactly one token when it succeeds, regardless of the
+     * remaining input, and must produce equal immutable values for equal tokens.
+     * <p>
+     * Successful results of cacheable parsers are cached by the command tree when
+     * {@link cloud.commandframework.CommandManager.ManagerSettings#CACHE_PARSE_RESULTS} is enabled
+     *
+     * @return {@code true} if the results may be cached, else {@code false}
+     * @see ArgumentParseResultCache
+     * @since 1.4.0
+     */
+    default boolean isCacheable() {
+        return false;
+    }
+
+    /**
+     * Check whether or not the suggestions produced by this parser are static. Static suggestions
+     * depend neither on the command context nor on the input, and will never change during the
+     * lifetime of the parser.
+     * <p>
+     * The suggestions of parsers that are both {@link #isContextFree() context free} and static
+     * are only computed once. The computed suggestions are handed to the
+     * {@link cloud.commandframework.execution.CommandSuggestionProcessor} without being filtered
+     *
+     * @return {@code true} if the suggestions are static, else {@code false}
+     * @since 1.4.0
+     */
+    default boolean hasStaticSuggestions() {
+        return false;
+    }
+
     /**
      * Get the amount of arguments that this parsers seeks to
      * consume
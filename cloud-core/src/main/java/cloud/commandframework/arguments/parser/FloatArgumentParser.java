@@ -0,0 +1,76 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.arguments.parser;
+
+import cloud.commandframework.context.CommandContext;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Queue;
+
+/**
+ * Argument parser that parses {@code float} values without boxing them. When a command is parsed for
+ * execution, the value is read using {@link #parseFloat(CommandContext, Queue)} and stored in the
+ * command context using {@link CommandContext#storeFloat(String, float)}
+ *
+ * @param <C> Command sender type
+ * @since 1.4.0
+ */
+public interface FloatArgumentParser<C> extends ArgumentParser<C, Float> {
+
+    /**
+     * Parse command input into a {@code float}. If the parsing succeeds, the consumed input is removed from
+     * the queue. If it fails, the queue is left untouched
+     *
+     * @param commandContext Command context
+     * @param inputQueue     The queue of arguments
+     * @return Parsed value
+     * @throws IllegalArgumentException If the input could not be parsed. The exception is used as the failure
+     *                                  of the parse result, and should therefore be a
+     *                                  {@link cloud.commandframework.exceptions.parsing.ParserException}
+     */
+    float parseFloat(
+            @NonNull CommandContext<@NonNull C> commandContext,
+            @NonNull Queue<@NonNull String> inputQueue
+    );
+
+    /**
+     * Parse command input into a boxed value, by delegating to {@link #parseFloat(CommandContext, Queue)}
+     *
+     * @param commandContext Command context
+     * @param inputQueue     The queue of arguments
+     * @return Parsed command result
+     */
+    @Override
+    default @NonNull ArgumentParseResult<@NonNull Float> parse(
+            final @NonNull CommandContext<@NonNull C> commandContext,
+            final @NonNull Queue<@NonNull String> inputQueue
+    ) {
+        try {
+            return ArgumentParseResult.success(this.parseFloat(commandContext, inputQueue));
+        } catch (final IllegalArgumentException e) {
+            return ArgumentParseResult.failure(e);
+        }
+    }
+
+}
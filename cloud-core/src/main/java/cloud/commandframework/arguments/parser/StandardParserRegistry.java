@@ -48,13 +48,20 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
  * Standard implementation of {@link ParserRegistry}
+ * <p>
+ * Parsers that are {@link ArgumentParser#isContextFree() context free} are interned, meaning that
+ * all arguments created for the same type (or parser name) and equal {@link ParserParameters} will share
+ * the same parser instance. Parser suppliers that produce context free parsers must therefore return
+ * parsers that are immutable
  *
  * @param <C> Command sender type
  */
@@ -83,6 +90,7 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
             annotationMappers = new HashMap<>();
     private final Map<String, BiFunction<@NonNull CommandContext<C>, @NonNull String, @NonNull List<String>>>
             namedSuggestionProviders = new HashMap<>();
+    private final Map<ParserKey, ArgumentParser<C, ?>> internedParsers = new ConcurrentHashMap<>();
 
     /**
      * Construct a new {@link StandardParserRegistry} instance. This will also
@@ -148,6 +156,7 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
                     @NonNull ArgumentParser<C, ?>> supplier
     ) {
         this.parserSuppliers.put(type, supplier);
+        this.internedParsers.clear();
     }
 
     @Override
@@ -157,6 +166,7 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
                     @NonNull ArgumentParser<C, ?>> supplier
     ) {
         this.namedParsers.put(name, supplier);
+        this.internedParsers.clear();
     }
 
     @Override
@@ -200,6 +210,11 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
         } else {
             actualType = type;
         }
+        final ParserKey key = new ParserKey(actualType, parserParameters);
+        final ArgumentParser<C, ?> internedParser = this.internedParsers.get(key);
+        if (internedParser != null) {
+            return Optional.of((ArgumentParser<C, T>) internedParser);
+        }
         final Function<ParserParameters, ArgumentParser<C, ?>> producer = this.parserSuppliers.get(actualType);
         if (producer == null) {
             /* Give enums special treatment */
@@ -207,13 +222,13 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
                 @SuppressWarnings("rawtypes")
                 final EnumArgument.EnumParser enumArgument
                         = new EnumArgument.EnumParser(GenericTypeReflector.erase(actualType.getType()));
-                return Optional.of(enumArgument);
+                return Optional.of(this.intern(key, enumArgument));
             }
             return Optional.empty();
         }
         @SuppressWarnings("unchecked") final ArgumentParser<C, T> parser = (ArgumentParser<C, T>) producer.apply(
                 parserParameters);
-        return Optional.of(parser);
+        return Optional.of(this.intern(key, parser));
     }
 
     @Override
@@ -221,13 +236,38 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
             final @NonNull String name,
             final @NonNull ParserParameters parserParameters
     ) {
+        final ParserKey key = new ParserKey(name, parserParameters);
+        final ArgumentParser<C, ?> internedParser = this.internedParsers.get(key);
+        if (internedParser != null) {
+            return Optional.of((ArgumentParser<C, T>) internedParser);
+        }
         final Function<ParserParameters, ArgumentParser<C, ?>> producer = this.namedParsers.get(name);
         if (producer == null) {
             return Optional.empty();
         }
         @SuppressWarnings("unchecked") final ArgumentParser<C, T> parser = (ArgumentParser<C, T>) producer.apply(
                 parserParameters);
-        return Optional.of(parser);
+        return Optional.of(this.intern(key, parser));
+    }
+
+    /**
+     * Intern a newly created parser, if it is context free. Suppliers may create other parsers
+     * while they are invoked, so the parser is created before it is interned
+     *
+     * @param key    Key of the parser
+     * @param parser Created parser
+     * @param <T>    Value type
+     * @return The interned parser, or the created parser if it could not be interned
+     */
+    private <T> @NonNull ArgumentParser<C, T> intern(
+            final @NonNull ParserKey key,
+            final @NonNull ArgumentParser<C, T> parser
+    ) {
+        if (!parser.isContextFree()) {
+            return parser;
+        }
+        final ArgumentParser<C, ?> internedParser = this.internedParsers.putIfAbsent(key, parser);
+        return internedParser == null ? parser : (ArgumentParser<C, T>) internedParser;
     }
 
     @Override
@@ -248,6 +288,56 @@ public final class StandardParserRegistry<C> implements ParserRegistry<C> {
     }
 
 
+    /**
+     * Key of an interned parser. Parameter values are compared deeply, as some parameters are arrays
+     */
+    private static final class ParserKey {
+
+        private final Object type;
+        private final Map<ParserParameter<?>, Object> parameters;
+        private final int hashCode;
+
+        private ParserKey(final @NonNull Object type, final @NonNull ParserParameters parameters) {
+            this.type = type;
+            this.parameters = new HashMap<>(parameters.getAll());
+            int hashCode = 0;
+            for (final Map.Entry<ParserParameter<?>, Object> entry : this.parameters.entrySet()) {
+                hashCode += entry.getKey().hashCode() ^ Arrays.deepHashCode(new Object[]{entry.getValue()});
+            }
+            this.hashCode = 31 * type.hashCode() + hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ParserKey)) {
+                return false;
+            }
+            final ParserKey that = (ParserKey) o;
+            if (this.hashCode != that.hashCode
+                    || !this.type.equals(that.type)
+                    || this.parameters.size() != that.parameters.size()) {
+                return false;
+            }
+            for (final Map.Entry<ParserParameter<?>, Object> entry : this.parameters.entrySet()) {
+                if (!that.parameters.containsKey(entry.getKey())
+                        || !Objects.deepEquals(entry.getValue(), that.parameters.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+    }
+
+
     private static final class RangeMapper<T> implements BiFunction<@NonNull Range, @NonNull TypeToken<?>,
             @NonNull ParserParameters> {
 
@@ -152,6 +152,7 @@ public final class BooleanArgument<C> extends CommandArgument<C, Boolean> {
 
     public static final class BooleanParser<C> implements ArgumentParser<C, Boolean> {
 
+        private static final List<String> STRICT = Arrays.asList("TRUE", "FALSE");
         private static final List<String> LIBERAL = Arrays.asList("TRUE", "YES", "ON", "FALSE", "NO", "OFF");
         private static final List<String> LIBERAL_TRUE = Arrays.asList("TRUE", "YES", "ON");
         private static final List<String> LIBERAL_FALSE = Arrays.asList("FALSE", "NO", "OFF");
@@ -212,7 +213,7 @@ public final class BooleanArgument<C> extends CommandArgument<C, Boolean> {
                 final @NonNull String input
         ) {
             if (!liberal) {
-                return Arrays.asList("TRUE", "FALSE");
+                return STRICT;
             }
 
             return LIBERAL;
@@ -223,6 +224,16 @@ public final class BooleanArgument<C> extends CommandArgument<C, Boolean> {
             return true;
         }
 
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
+        @Override
+        public boolean hasStaticSuggestions() {
+            return true;
+        }
+
     }
 
 
@@ -224,6 +224,11 @@ public final class ByteArgument<C> extends CommandArgument<C, Byte> {
             return true;
         }
 
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
         @Override
         public @NonNull List<@NonNull String> suggestions(
                 final @NonNull CommandContext<C> commandContext,
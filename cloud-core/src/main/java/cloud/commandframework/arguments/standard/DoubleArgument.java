@@ -24,8 +24,7 @@
 package cloud.commandframework.arguments.standard;
 
 import cloud.commandframework.arguments.CommandArgument;
-import cloud.commandframework.arguments.parser.ArgumentParseResult;
-import cloud.commandframework.arguments.parser.ArgumentParser;
+import cloud.commandframework.arguments.parser.DoubleArgumentParser;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
 import cloud.commandframework.exceptions.parsing.NumberParseException;
@@ -167,7 +166,7 @@ public final class DoubleArgument<C> extends CommandArgument<C, Double> {
 
     }
 
-    public static final class DoubleParser<C> implements ArgumentParser<C, Double> {
+    public static final class DoubleParser<C> implements DoubleArgumentParser<C> {
 
         private final double min;
         private final double max;
@@ -184,37 +183,38 @@ public final class DoubleArgument<C> extends CommandArgument<C, Double> {
         }
 
         @Override
-        public @NonNull ArgumentParseResult<Double> parse(
+        public double parseDouble(
                 final @NonNull CommandContext<C> commandContext,
                 final @NonNull Queue<@NonNull String> inputQueue
         ) {
             final String input = inputQueue.peek();
             if (input == null) {
-                return ArgumentParseResult.failure(new NoInputProvidedException(
+                throw new NoInputProvidedException(
                         DoubleParser.class,
                         commandContext
-                ));
+                );
             }
+            final double value;
             try {
-                final double value = Double.parseDouble(input);
-                if (value < this.min || value > this.max) {
-                    return ArgumentParseResult.failure(new DoubleParseException(
-                            input,
-                            this.min,
-                            this.max,
-                            commandContext
-                    ));
-                }
-                inputQueue.remove();
-                return ArgumentParseResult.success(value);
-            } catch (final Exception e) {
-                return ArgumentParseResult.failure(new DoubleParseException(
+                value = Double.parseDouble(input);
+            } catch (final NumberFormatException e) {
+                throw new DoubleParseException(
                         input,
                         this.min,
                         this.max,
                         commandContext
-                ));
+                );
             }
+            if (value < this.min || value > this.max) {
+                throw new DoubleParseException(
+                        input,
+                        this.min,
+                        this.max,
+                        commandContext
+                );
+            }
+            inputQueue.remove();
+            return value;
         }
 
         @Override
@@ -222,6 +222,11 @@ public final class DoubleArgument<C> extends CommandArgument<C, Double> {
             return true;
         }
 
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
         /**
          * Get the max value
          *
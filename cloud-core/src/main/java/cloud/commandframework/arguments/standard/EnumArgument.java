@@ -34,6 +34,7 @@ import cloud.commandframework.exceptions.parsing.ParserException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Queue;
@@ -150,6 +151,7 @@ public class EnumArgument<C, E extends Enum<E>> extends CommandArgument<C, E> {
 
         private final Class<E> enumClass;
         private final EnumSet<E> allowedValues;
+        private final List<String> suggestions;
 
         /**
          * Construct a new enum parser
@@ -159,6 +161,9 @@ public class EnumArgument<C, E extends Enum<E>> extends CommandArgument<C, E> {
         public EnumParser(final @NonNull Class<E> enumClass) {
             this.enumClass = enumClass;
             this.allowedValues = EnumSet.allOf(enumClass);
+            this.suggestions = Collections.unmodifiableList(this.allowedValues.stream()
+                    .map(e -> e.name().toLowerCase())
+                    .collect(Collectors.toList()));
         }
 
         @Override
@@ -189,7 +194,7 @@ public class EnumArgument<C, E extends Enum<E>> extends CommandArgument<C, E> {
                 final @NonNull CommandContext<C> commandContext,
                 final @NonNull String input
         ) {
-            return EnumSet.allOf(this.enumClass).stream().map(e -> e.name().toLowerCase()).collect(Collectors.toList());
+            return this.suggestions;
         }
 
         @Override
@@ -197,6 +202,16 @@ public class EnumArgument<C, E extends Enum<E>> extends CommandArgument<C, E> {
             return true;
         }
 
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
+        @Override
+        public boolean hasStaticSuggestions() {
+            return true;
+        }
+
     }
 
 
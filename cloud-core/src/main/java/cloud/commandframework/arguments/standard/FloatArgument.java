@@ -24,8 +24,7 @@
 package cloud.commandframework.arguments.standard;
 
 import cloud.commandframework.arguments.CommandArgument;
-import cloud.commandframework.arguments.parser.ArgumentParseResult;
-import cloud.commandframework.arguments.parser.ArgumentParser;
+import cloud.commandframework.arguments.parser.FloatArgumentParser;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
 import cloud.commandframework.exceptions.parsing.NumberParseException;
@@ -167,7 +166,7 @@ public final class FloatArgument<C> extends CommandArgument<C, Float> {
 
     }
 
-    public static final class FloatParser<C> implements ArgumentParser<C, Float> {
+    public static final class FloatParser<C> implements FloatArgumentParser<C> {
 
         private final float min;
         private final float max;
@@ -184,37 +183,38 @@ public final class FloatArgument<C> extends CommandArgument<C, Float> {
         }
 
         @Override
-        public @NonNull ArgumentParseResult<Float> parse(
+        public float parseFloat(
                 final @NonNull CommandContext<C> commandContext,
-                final @NonNull Queue<String> inputQueue
+                final @NonNull Queue<@NonNull String> inputQueue
         ) {
             final String input = inputQueue.peek();
             if (input == null) {
-                return ArgumentParseResult.failure(new NoInputProvidedException(
+                throw new NoInputProvidedException(
                         FloatParser.class,
                         commandContext
-                ));
+                );
             }
+            final float value;
             try {
-                final float value = Float.parseFloat(input);
-                if (value < this.min || value > this.max) {
-                    return ArgumentParseResult.failure(new FloatParseException(
-                            input,
-                            this.min,
-                            this.max,
-                            commandContext
-                    ));
-                }
-                inputQueue.remove();
-                return ArgumentParseResult.success(value);
-            } catch (final Exception e) {
-                return ArgumentParseResult.failure(new FloatParseException(
+                value = Float.parseFloat(input);
+            } catch (final NumberFormatException e) {
+                throw new FloatParseException(
                         input,
                         this.min,
                         this.max,
                         commandContext
-                ));
+                );
             }
+            if (value < this.min || value > this.max) {
+                throw new FloatParseException(
+                        input,
+                        this.min,
+                        this.max,
+                        commandContext
+                );
+            }
+            inputQueue.remove();
+            return value;
         }
 
         @Override
@@ -222,6 +222,11 @@ public final class FloatArgument<C> extends CommandArgument<C, Float> {
             return true;
         }
 
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
         /**
          * Get the max value
          *
@@ -24,8 +24,7 @@
 package cloud.commandframework.arguments.standard;
 
 import cloud.commandframework.arguments.CommandArgument;
-import cloud.commandframework.arguments.parser.ArgumentParseResult;
-import cloud.commandframework.arguments.parser.ArgumentParser;
+import cloud.commandframework.arguments.parser.IntArgumentParser;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
 import cloud.commandframework.exceptions.parsing.NumberParseException;
@@ -174,7 +173,7 @@ public final class IntegerArgument<C> extends CommandArgument<C, Integer> {
 
     }
 
-    public static final class IntegerParser<C> implements ArgumentParser<C, Integer> {
+    public static final class IntegerParser<C> implements IntArgumentParser<C> {
 
         private final int min;
         private final int max;
@@ -234,37 +233,38 @@ public final class IntegerArgument<C> extends CommandArgument<C, Integer> {
         }
 
         @Override
-        public @NonNull ArgumentParseResult<Integer> parse(
+        public int parseInt(
                 final @NonNull CommandContext<C> commandContext,
                 final @NonNull Queue<@NonNull String> inputQueue
         ) {
             final String input = inputQueue.peek();
             if (input == null) {
-                return ArgumentParseResult.failure(new NoInputProvidedException(
+                throw new NoInputProvidedException(
                         IntegerParser.class,
                         commandContext
-                ));
+                );
             }
+            final int value;
             try {
-                final int value = Integer.parseInt(input);
-                if (value < this.min || value > this.max) {
-                    return ArgumentParseResult.failure(new IntegerParseException(
-                            input,
-                            this.min,
-                            this.max,
-                            commandContext
-                    ));
-                }
-                inputQueue.remove();
-                return ArgumentParseResult.success(value);
-            } catch (final Exception e) {
-                return ArgumentParseResult.failure(new IntegerParseException(
+                value = Integer.parseInt(input);
+            } catch (final NumberFormatException e) {
+                throw new IntegerParseException(
+                        input,
+                        this.min,
+                        this.max,
+                        commandContext
+                );
+            }
+            if (value < this.min || value > this.max) {
+                throw new IntegerParseException(
                         input,
                         this.min,
                         this.max,
                         commandContext
-                ));
+                );
             }
+            inputQueue.remove();
+            return value;
         }
 
         /**
@@ -290,6 +290,11 @@ public final class IntegerArgument<C> extends CommandArgument<C, Integer> {
             return true;
         }
 
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
         @Override
         public @NonNull List<@NonNull String> suggestions(
                 final @NonNull CommandContext<C> commandContext,
@@ -24,8 +24,7 @@
 package cloud.commandframework.arguments.standard;
 
 import cloud.commandframework.arguments.CommandArgument;
-import cloud.commandframework.arguments.parser.ArgumentParseResult;
-import cloud.commandframework.arguments.parser.ArgumentParser;
+import cloud.commandframework.arguments.parser.LongArgumentParser;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
 import cloud.commandframework.exceptions.parsing.NumberParseException;
@@ -167,7 +166,7 @@ public final class LongArgument<C> extends CommandArgument<C, Long> {
 
     }
 
-    private static final class LongParser<C> implements ArgumentParser<C, Long> {
+    private static final class LongParser<C> implements LongArgumentParser<C> {
 
         private final long min;
         private final long max;
@@ -178,37 +177,38 @@ public final class LongArgument<C> extends CommandArgument<C, Long> {
         }
 
         @Override
-        public @NonNull ArgumentParseResult<Long> parse(
+        public long parseLong(
                 final @NonNull CommandContext<C> commandContext,
                 final @NonNull Queue<@NonNull String> inputQueue
         ) {
             final String input = inputQueue.peek();
             if (input == null) {
-                return ArgumentParseResult.failure(new NoInputProvidedException(
+                throw new NoInputProvidedException(
                         LongParser.class,
                         commandContext
-                ));
+                );
             }
+            final long value;
             try {
-                final long value = Long.parseLong(input);
-                if (value < this.min || value > this.max) {
-                    return ArgumentParseResult.failure(new LongParseException(
-                            input,
-                            this.min,
-                            this.max,
-                            commandContext
-                    ));
-                }
-                inputQueue.remove();
-                return ArgumentParseResult.success(value);
-            } catch (final Exception e) {
-                return ArgumentParseResult.failure(new LongParseException(
+                value = Long.parseLong(input);
+            } catch (final NumberFormatException e) {
+                throw new LongParseException(
                         input,
                         this.min,
                         this.max,
                         commandContext
-                ));
+                );
             }
+            if (value < this.min || value > this.max) {
+                throw new LongParseException(
+                        input,
+                        this.min,
+                        this.max,
+                        commandContext
+                );
+            }
+            inputQueue.remove();
+            return value;
         }
 
         @Override
@@ -216,6 +216,11 @@ public final class LongArgument<C> extends CommandArgument<C, Long> {
             return true;
         }
 
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
         @Override
         public @NonNull List<@NonNull String> suggestions(
                 final @NonNull CommandContext<C> commandContext,
@@ -222,6 +222,11 @@ public final class ShortArgument<C> extends CommandArgument<C, Short> {
             return true;
         }
 
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
         @Override
         public @NonNull List<@NonNull String> suggestions(
                 final @NonNull CommandContext<C> commandContext,
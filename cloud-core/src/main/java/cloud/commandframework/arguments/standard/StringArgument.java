@@ -309,6 +309,11 @@ public final class StringArgument<C> extends CommandArgument<C, String> {
                 inputQueue.remove();
                 return ArgumentParseResult.success(input);
             } else if (this.stringMode == StringMode.QUOTED) {
+                if (isQuotedToken(input)) {
+                    /* The whole quoted span is in a single token, e.g. when the input is tokenized quote aware */
+                    inputQueue.remove();
+                    return ArgumentParseResult.success(unescape(input.substring(1, input.length() - 1)));
+                }
                 final StringJoiner sj = new StringJoiner(" ");
                 for (final String string : inputQueue) {
                     sj.add(string);
@@ -351,9 +356,7 @@ public final class StringArgument<C> extends CommandArgument<C, String> {
                     }
                 }
 
-                inner = inner.replace("\\\"", "\"").replace("\\'", "'");
-
-                return ArgumentParseResult.success(inner);
+                return ArgumentParseResult.success(unescape(inner));
             }
 
             final StringJoiner sj = new StringJoiner(" ");
@@ -377,6 +380,30 @@ public final class StringArgument<C> extends CommandArgument<C, String> {
             return ArgumentParseResult.success(sj.toString());
         }
 
+        private static boolean isQuotedToken(final @NonNull String token) {
+            final int last = token.length() - 1;
+            if (last < 1) {
+                return false;
+            }
+            final char quote = token.charAt(0);
+            if ((quote != '"' && quote != '\'') || token.charAt(last) != quote) {
+                return false;
+            }
+            /* The closing quote must not be escaped */
+            int escapes = 0;
+            for (int i = last - 1; i > 0 && token.charAt(i) == '\\'; i--) {
+                escapes++;
+            }
+            return escapes % 2 == 0;
+        }
+
+        private static @NonNull String unescape(final @NonNull String inner) {
+            if (inner.indexOf('\\') == -1) {
+                return inner;
+            }
+            return inner.replace("\\\"", "\"").replace("\\'", "'");
+        }
+
         @Override
         public @NonNull List<@NonNull String> suggestions(
                 final @NonNull CommandContext<C> commandContext,
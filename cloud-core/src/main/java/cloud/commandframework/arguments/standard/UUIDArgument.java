@@ -149,6 +149,11 @@ public final class UUIDArgument<C> extends CommandArgument<C, UUID> {
             return true;
         }
 
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
     }
 
 
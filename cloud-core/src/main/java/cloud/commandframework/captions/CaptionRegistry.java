@@ -41,4 +41,17 @@ public interface CaptionRegistry<C> {
      */
     @NonNull String getCaption(@NonNull Caption caption, @NonNull C sender);
 
+    /**
+     * Get a compiled caption template for a specific sender. Registries may cache templates, in which case they
+     * should be shared between all senders that are given the same message
+     *
+     * @param caption Caption key
+     * @param sender  Sender
+     * @return Caption template
+     * @since 1.4.0
+     */
+    default @NonNull CaptionTemplate getCaptionTemplate(final @NonNull Caption caption, final @NonNull C sender) {
+        return CaptionTemplate.compile(this.getCaption(caption, sender));
+    }
+
 }
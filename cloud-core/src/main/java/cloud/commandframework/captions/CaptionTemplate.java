@@ -0,0 +1,147 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.captions;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Caption message that has been split into literal segments and {@code {variable}} placeholders, so that it can
+ * be rendered in a single pass
+ *
+ * @since 1.4.0
+ */
+public final class CaptionTemplate {
+
+    private final String source;
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+
+    private CaptionTemplate(
+            final @NonNull String source,
+            final @NonNull String[] literals,
+            final @NonNull String[] variables
+    ) {
+        this.source = source;
+        this.literals = literals;
+        this.variables = variables;
+        int literalLength = 0;
+        for (final String literal : literals) {
+            literalLength += literal.length();
+        }
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Compile a caption message. Every {@code {key}} in the message is treated as a variable placeholder
+     *
+     * @param message Caption message
+     * @return Compiled template
+     */
+    public static @NonNull CaptionTemplate compile(final @NonNull String message) {
+        final List<String> literals = new ArrayList<>();
+        final List<String> variables = new ArrayList<>();
+        int literalStart = 0;
+        int open = message.indexOf('{');
+        while (open != -1) {
+            final int close = message.indexOf('}', open + 1);
+            if (close == -1) {
+                break;
+            }
+            final int nested = message.lastIndexOf('{', close);
+            if (nested != open) {
+                /* Only the innermost brace can start a placeholder */
+                open = nested;
+                continue;
+            }
+            literals.add(message.substring(literalStart, open));
+            variables.add(message.substring(open + 1, close));
+            literalStart = close + 1;
+            open = message.indexOf('{', literalStart);
+        }
+        literals.add(message.substring(literalStart));
+        return new CaptionTemplate(
+                message,
+                literals.toArray(new String[0]),
+                variables.toArray(new String[0])
+        );
+    }
+
+    /**
+     * Render the template. Placeholders without a matching variable are kept as they are, and if several variables
+     * share a key, the first one is used
+     *
+     * @param variables Variables
+     * @return Rendered message
+     */
+    public @NonNull String render(final @NonNull CaptionVariable... variables) {
+        if (this.variables.length == 0) {
+            return this.source;
+        }
+        final String[] values = new String[this.variables.length];
+        int length = this.literalLength;
+        for (int i = 0; i < this.variables.length; i++) {
+            values[i] = this.lookup(this.variables[i], variables);
+            length += values[i] == null ? this.variables[i].length() + 2 : values[i].length();
+        }
+        final StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < this.variables.length; i++) {
+            builder.append(this.literals[i]);
+            if (values[i] == null) {
+                builder.append('{').append(this.variables[i]).append('}');
+            } else {
+                builder.append(values[i]);
+            }
+        }
+        return builder.append(this.literals[this.variables.length]).toString();
+    }
+
+    private @Nullable String lookup(final @NonNull String key, final @NonNull CaptionVariable[] variables) {
+        for (final CaptionVariable variable : variables) {
+            if (variable.getKey().equals(key)) {
+                return variable.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the message that the template was compiled from
+     *
+     * @return Caption message
+     */
+    public @NonNull String getSource() {
+        return this.source;
+    }
+
+    @Override
+    public String toString() {
+        return this.source;
+    }
+
+}
@@ -45,4 +45,18 @@ public interface FactoryDelegatingCaptionRegistry<C> extends CaptionRegistry<C>
             @NonNull BiFunction<Caption, C, String> factory
     );
 
+    /**
+     * Register a message that is the same for all senders
+     *
+     * @param caption Caption key
+     * @param message Message
+     * @since 1.4.0
+     */
+    default void registerMessage(
+            final @NonNull Caption caption,
+            final @NonNull String message
+    ) {
+        this.registerMessageFactory(caption, (key, sender) -> message);
+    }
+
 }
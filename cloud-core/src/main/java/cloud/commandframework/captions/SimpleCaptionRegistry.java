@@ -23,9 +23,14 @@
 //
 package cloud.commandframework.captions;
 
+import cloud.commandframework.types.tuples.Pair;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.function.BiFunction;
 
@@ -85,56 +90,70 @@ public class SimpleCaptionRegistry<C> implements FactoryDelegatingCaptionRegistr
      */
     public static final String ARGUMENT_PARSE_FAILURE_COLOR = "'{input}' is not a valid color";
 
+    /**
+     * Maximum number of factory produced templates that are cached. The least recently used template is evicted first
+     */
+    private static final int MAX_CACHED_TEMPLATES = 256;
+
     private final Map<Caption, BiFunction<Caption, C, String>> messageFactories = new HashMap<>();
+    private final Map<Caption, CaptionTemplate> messages = new HashMap<>();
+    private final Map<Pair<Caption, Object>, CaptionTemplate> factoryTemplates = Collections.synchronizedMap(
+            new LinkedHashMap<Pair<Caption, Object>, CaptionTemplate>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Pair<Caption, Object>, CaptionTemplate> eldest) {
+                    return this.size() > MAX_CACHED_TEMPLATES;
+                }
+            }
+    );
 
     protected SimpleCaptionRegistry() {
-        this.registerMessageFactory(
+        this.registerMessage(
                 StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_NO_INPUT_PROVIDED,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_NO_INPUT_PROVIDED
+                ARGUMENT_PARSE_FAILURE_NO_INPUT_PROVIDED
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_BOOLEAN,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_BOOLEAN
+                ARGUMENT_PARSE_FAILURE_BOOLEAN
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_NUMBER,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_NUMBER
+                ARGUMENT_PARSE_FAILURE_NUMBER
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_CHAR
+                ARGUMENT_PARSE_FAILURE_CHAR
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_ENUM,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_ENUM
+                ARGUMENT_PARSE_FAILURE_ENUM
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_STRING,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_STRING
+                ARGUMENT_PARSE_FAILURE_STRING
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_UUID,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_UUID
+                ARGUMENT_PARSE_FAILURE_UUID
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_FLAG_UNKNOWN_FLAG,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_FLAG_UNKNOWN_FLAG
+                ARGUMENT_PARSE_FAILURE_FLAG_UNKNOWN_FLAG
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_FLAG_DUPLICATE_FLAG,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_FLAG_DUPLICATE_FLAG
+                ARGUMENT_PARSE_FAILURE_FLAG_DUPLICATE_FLAG
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_FLAG_NO_FLAG_STARTED,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_FLAG_NO_FLAG_STARTED
+                ARGUMENT_PARSE_FAILURE_FLAG_NO_FLAG_STARTED
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_FLAG_MISSING_ARGUMENT,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_FLAG_MISSING_ARGUMENT
+                ARGUMENT_PARSE_FAILURE_FLAG_MISSING_ARGUMENT
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_COLOR,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_COLOR
+                ARGUMENT_PARSE_FAILURE_COLOR
         );
     }
 
@@ -143,6 +162,67 @@ public class SimpleCaptionRegistry<C> implements FactoryDelegatingCaptionRegistr
             final @NonNull Caption caption,
             final @NonNull C sender
     ) {
+        final CaptionTemplate message = this.messages.get(caption);
+        if (message != null) {
+            return message.getSource();
+        }
+        return this.getMessageFactory(caption).apply(caption, sender);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Templates of messages registered using {@link #registerMessage(Caption, String)} are compiled once.
+     * Templates of messages produced by factories are cached by caption and {@link #getLocale(Object) locale}, so that
+     * the factory is only invoked once per caption and locale. If the locale of the sender is unknown, the factory
+     * is invoked and the template is cached by caption and produced message instead. At most 256 factory produced
+     * templates are cached, and the least recently used template is evicted first
+     */
+    @Override
+    public final @NonNull CaptionTemplate getCaptionTemplate(
+            final @NonNull Caption caption,
+            final @NonNull C sender
+    ) {
+        final CaptionTemplate message = this.messages.get(caption);
+        if (message != null) {
+            return message;
+        }
+        final Locale locale = this.getLocale(sender);
+        if (locale != null) {
+            final Pair<Caption, Object> key = Pair.of(caption, locale);
+            CaptionTemplate template = this.factoryTemplates.get(key);
+            if (template == null) {
+                template = CaptionTemplate.compile(this.getMessageFactory(caption).apply(caption, sender));
+                this.factoryTemplates.put(key, template);
+            }
+            return template;
+        }
+        final String produced = this.getMessageFactory(caption).apply(caption, sender);
+        final Pair<Caption, Object> key = Pair.of(caption, produced);
+        CaptionTemplate template = this.factoryTemplates.get(key);
+        if (template == null) {
+            template = CaptionTemplate.compile(produced);
+            this.factoryTemplates.put(key, template);
+        }
+        return template;
+    }
+
+    /**
+     * Get the locale of a command sender. Factory produced templates are cached by caption and locale, which
+     * assumes that factories produce the same message for all senders with the same locale.
+     * <p>
+     * Returns {@code null} by default, in which case the locale is treated as unknown and factories are
+     * invoked on every lookup
+     *
+     * @param sender Command sender
+     * @return Locale of the sender, or {@code null} if unknown
+     * @since 1.4.0
+     */
+    protected @Nullable Locale getLocale(final @NonNull C sender) {
+        return null;
+    }
+
+    private @NonNull BiFunction<Caption, C, String> getMessageFactory(final @NonNull Caption caption) {
         final BiFunction<Caption, C, String> messageFactory = this.messageFactories.get(caption);
         if (messageFactory == null) {
             throw new IllegalArgumentException(
@@ -152,7 +232,7 @@ public class SimpleCaptionRegistry<C> implements FactoryDelegatingCaptionRegistr
                     )
             );
         }
-        return messageFactory.apply(caption, sender);
+        return messageFactory;
     }
 
     @Override
@@ -160,7 +240,25 @@ public class SimpleCaptionRegistry<C> implements FactoryDelegatingCaptionRegistr
             final @NonNull Caption caption,
             final @NonNull BiFunction<Caption, C, String> messageFactory
     ) {
+        this.messages.remove(caption);
         this.messageFactories.put(caption, messageFactory);
+        this.invalidateTemplates(caption);
+    }
+
+    @Override
+    public final void registerMessage(
+            final @NonNull Caption caption,
+            final @NonNull String message
+    ) {
+        this.messageFactories.remove(caption);
+        this.messages.put(caption, CaptionTemplate.compile(message));
+        this.invalidateTemplates(caption);
+    }
+
+    private void invalidateTemplates(final @NonNull Caption caption) {
+        synchronized (this.factoryTemplates) {
+            this.factoryTemplates.keySet().removeIf(key -> key.getFirst().equals(caption));
+        }
     }
 
 }
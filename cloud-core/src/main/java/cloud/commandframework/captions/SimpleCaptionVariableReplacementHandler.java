@@ -35,11 +35,7 @@ public final class SimpleCaptionVariableReplacementHandler implements CaptionVar
             final @NonNull String string,
             final @NonNull CaptionVariable... variables
     ) {
-        String replacedString = string;
-        for (final CaptionVariable variable : variables) {
-            replacedString = replacedString.replace(String.format("{%s}", variable.getKey()), variable.getValue());
-        }
-        return replacedString;
+        return CaptionTemplate.compile(string).render(variables);
     }
 
 }
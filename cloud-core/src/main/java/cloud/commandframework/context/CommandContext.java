@@ -23,6 +23,7 @@
 //
 package cloud.commandframework.context;
 
+import cloud.commandframework.Command;
 import cloud.commandframework.CommandManager;
 import cloud.commandframework.annotations.AnnotationAccessor;
 import cloud.commandframework.annotations.injection.ParameterInjector;
@@ -31,11 +32,10 @@ import cloud.commandframework.arguments.flags.FlagContext;
 import cloud.commandframework.captions.Caption;
 import cloud.commandframework.captions.CaptionRegistry;
 import cloud.commandframework.captions.CaptionVariable;
-import cloud.commandframework.captions.CaptionVariableReplacementHandler;
-import cloud.commandframework.captions.SimpleCaptionVariableReplacementHandler;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -50,17 +50,19 @@ import java.util.function.Supplier;
  */
 public final class CommandContext<C> {
 
-    private final CaptionVariableReplacementHandler captionVariableReplacementHandler =
-            new SimpleCaptionVariableReplacementHandler();
-    private final Map<CommandArgument<C, ?>, ArgumentTiming> argumentTimings = new HashMap<>();
     private final FlagContext flagContext = FlagContext.create();
     private final Map<String, Object> internalStorage = new HashMap<>();
+    private final PrimitiveSlots primitiveSlots = new PrimitiveSlots();
     private final C commandSender;
     private final boolean suggestions;
     private final CaptionRegistry<C> captionRegistry;
     private final CommandManager<C> commandManager;
 
     private CommandArgument<C, ?> currentArgument = null;
+    private Command<C> command = null;
+    private String input = null;
+    private Map<CommandArgument<C, ?>, ArgumentTiming> argumentTimings = null;
+    private boolean timingArguments = false;
 
     /**
      * Create a new command context instance
@@ -135,10 +137,7 @@ public final class CommandContext<C> {
             final @NonNull Caption caption,
             final @NonNull CaptionVariable... variables
     ) {
-        return this.captionVariableReplacementHandler.replaceVariables(
-                this.captionRegistry.getCaption(caption, this.commandSender),
-                variables
-        );
+        return this.captionRegistry.getCaptionTemplate(caption, this.commandSender).render(variables);
     }
 
     /**
@@ -168,9 +167,67 @@ public final class CommandContext<C> {
      * @param <T>   Value type
      */
     public <T> void store(final @NonNull String key, final @NonNull T value) {
+        this.primitiveSlots.remove(key);
         this.internalStorage.put(key, value);
     }
 
+    /**
+     * Store an {@code int} in the context without boxing it. This will overwrite any existing
+     * value stored with the same key. The value can be read using {@link #getInt(String)}, or
+     * as an {@link Integer} using any of the other accessors
+     *
+     * @param key   Key
+     * @param value Value
+     * @since 1.4.0
+     */
+    public void storeInt(final @NonNull String key, final int value) {
+        this.storePrimitive(key, PrimitiveSlots.INT, value);
+    }
+
+    /**
+     * Store a {@code long} in the context without boxing it. This will overwrite any existing
+     * value stored with the same key. The value can be read using {@link #getLong(String)}, or
+     * as a {@link Long} using any of the other accessors
+     *
+     * @param key   Key
+     * @param value Value
+     * @since 1.4.0
+     */
+    public void storeLong(final @NonNull String key, final long value) {
+        this.storePrimitive(key, PrimitiveSlots.LONG, value);
+    }
+
+    /**
+     * Store a {@code float} in the context without boxing it. This will overwrite any existing
+     * value stored with the same key. The value can be read using {@link #getFloat(String)}, or
+     * as a {@link Float} using any of the other accessors
+     *
+     * @param key   Key
+     * @param value Value
+     * @since 1.4.0
+     */
+    public void storeFloat(final @NonNull String key, final float value) {
+        this.storePrimitive(key, PrimitiveSlots.FLOAT, Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * Store a {@code double} in the context without boxing it. This will overwrite any existing
+     * value stored with the same key. The value can be read using {@link #getDouble(String)}, or
+     * as a {@link Double} using any of the other accessors
+     *
+     * @param key   Key
+     * @param value Value
+     * @since 1.4.0
+     */
+    public void storeDouble(final @NonNull String key, final double value) {
+        this.storePrimitive(key, PrimitiveSlots.DOUBLE, Double.doubleToRawLongBits(value));
+    }
+
+    private void storePrimitive(final @NonNull String key, final byte type, final long bits) {
+        this.internalStorage.remove(key);
+        this.primitiveSlots.put(key, type, bits);
+    }
+
     /**
      * Store or remove a value in the context map. This will overwrite any existing
      * value stored with the same key.
@@ -198,7 +255,7 @@ public final class CommandContext<C> {
      * @since 1.3.0
      */
     public boolean contains(final @NonNull String key) {
-        return this.internalStorage.containsKey(key);
+        return this.internalStorage.containsKey(key) || this.primitiveSlots.indexOf(key) >= 0;
     }
 
     /**
@@ -208,7 +265,9 @@ public final class CommandContext<C> {
      * @since 1.3.0
      */
     public @NonNull Map<@NonNull String, @Nullable ?> asMap() {
-        return Collections.unmodifiableMap(new HashMap<>(this.internalStorage));
+        final Map<String, Object> map = new HashMap<>(this.internalStorage);
+        this.primitiveSlots.boxInto(map);
+        return Collections.unmodifiableMap(map);
     }
 
     /**
@@ -220,7 +279,7 @@ public final class CommandContext<C> {
      * @return Value
      */
     public <T> @NonNull Optional<T> getOptional(final @NonNull String key) {
-        final Object value = this.internalStorage.get(key);
+        final Object value = this.lookup(key);
         if (value != null) {
             @SuppressWarnings("unchecked") final T castedValue = (T) value;
             return Optional.of(castedValue);
@@ -239,7 +298,7 @@ public final class CommandContext<C> {
      */
     @SuppressWarnings("unused")
     public <T> @NonNull Optional<T> getOptional(final @NonNull CommandArgument<C, T> argument) {
-        final Object value = this.internalStorage.get(argument.getName());
+        final Object value = this.lookup(argument.getName());
         if (value != null) {
             @SuppressWarnings("unchecked") final T castedValue = (T) value;
             return Optional.of(castedValue);
@@ -255,6 +314,7 @@ public final class CommandContext<C> {
      */
     public void remove(final @NonNull String key) {
         this.internalStorage.remove(key);
+        this.primitiveSlots.remove(key);
     }
 
     /**
@@ -268,7 +328,7 @@ public final class CommandContext<C> {
      */
     @SuppressWarnings({"unchecked", "TypeParameterUnusedInFormals"})
     public <T> @NonNull T get(final @NonNull String key) {
-        final Object value = this.internalStorage.get(key);
+        final Object value = this.lookup(key);
         if (value == null) {
             throw new NullPointerException("No such object stored in the context: " + key);
         }
@@ -288,6 +348,139 @@ public final class CommandContext<C> {
         return this.get(argument.getName());
     }
 
+    /**
+     * Get a required {@code int} from the context, without boxing it if it was stored
+     * using {@link #storeInt(String, int)}
+     *
+     * @param key Argument key
+     * @return Stored value
+     * @throws NullPointerException If no such value is stored
+     * @throws ClassCastException   If the stored value is not an integer
+     * @since 1.4.0
+     */
+    public int getInt(final @NonNull String key) {
+        final int index = this.primitiveSlots.indexOf(key, PrimitiveSlots.INT);
+        if (index >= 0) {
+            return (int) this.primitiveSlots.bits[index];
+        }
+        return this.<Integer>get(key);
+    }
+
+    /**
+     * Get a required {@code int} from the context, without boxing it if it was stored
+     * using {@link #storeInt(String, int)}
+     *
+     * @param argument The argument
+     * @return Stored value
+     * @throws NullPointerException If no such value is stored
+     * @since 1.4.0
+     */
+    public int getInt(final @NonNull CommandArgument<C, Integer> argument) {
+        return this.getInt(argument.getName());
+    }
+
+    /**
+     * Get a required {@code long} from the context, without boxing it if it was stored
+     * using {@link #storeLong(String, long)}
+     *
+     * @param key Argument key
+     * @return Stored value
+     * @throws NullPointerException If no such value is stored
+     * @throws ClassCastException   If the stored value is not a long
+     * @since 1.4.0
+     */
+    public long getLong(final @NonNull String key) {
+        final int index = this.primitiveSlots.indexOf(key, PrimitiveSlots.LONG);
+        if (index >= 0) {
+            return this.primitiveSlots.bits[index];
+        }
+        return this.<Long>get(key);
+    }
+
+    /**
+     * Get a required {@code long} from the context, without boxing it if it was stored
+     * using {@link #storeLong(String, long)}
+     *
+     * @param argument The argument
+     * @return Stored value
+     * @throws NullPointerException If no such value is stored
+     * @since 1.4.0
+     */
+    public long getLong(final @NonNull CommandArgument<C, Long> argument) {
+        return this.getLong(argument.getName());
+    }
+
+    /**
+     * Get a required {@code float} from the context, without boxing it if it was stored
+     * using {@link #storeFloat(String, float)}
+     *
+     * @param key Argument key
+     * @return Stored value
+     * @throws NullPointerException If no such value is stored
+     * @throws ClassCastException   If the stored value is not a float
+     * @since 1.4.0
+     */
+    public float getFloat(final @NonNull String key) {
+        final int index = this.primitiveSlots.indexOf(key, PrimitiveSlots.FLOAT);
+        if (index >= 0) {
+            return Float.intBitsToFloat((int) this.primitiveSlots.bits[index]);
+        }
+        return this.<Float>get(key);
+    }
+
+    /**
+     * Get a required {@code float} from the context, without boxing it if it was stored
+     * using {@link #storeFloat(String, float)}
+     *
+     * @param argument The argument
+     * @return Stored value
+     * @throws NullPointerException If no such value is stored
+     * @since 1.4.0
+     */
+    public float getFloat(final @NonNull CommandArgument<C, Float> argument) {
+        return this.getFloat(argument.getName());
+    }
+
+    /**
+     * Get a required {@code double} from the context, without boxing it if it was stored
+     * using {@link #storeDouble(String, double)}
+     *
+     * @param key Argument key
+     * @return Stored value
+     * @throws NullPointerException If no such value is stored
+     * @throws ClassCastException   If the stored value is not a double
+     * @since 1.4.0
+     */
+    public double getDouble(final @NonNull String key) {
+        final int index = this.primitiveSlots.indexOf(key, PrimitiveSlots.DOUBLE);
+        if (index >= 0) {
+            return Double.longBitsToDouble(this.primitiveSlots.bits[index]);
+        }
+        return this.<Double>get(key);
+    }
+
+    /**
+     * Get a required {@code double} from the context, without boxing it if it was stored
+     * using {@link #storeDouble(String, double)}
+     *
+     * @param argument The argument
+     * @return Stored value
+     * @throws NullPointerException If no such value is stored
+     * @since 1.4.0
+     */
+    public double getDouble(final @NonNull CommandArgument<C, Double> argument) {
+        return this.getDouble(argument.getName());
+    }
+
+    private @Nullable Object lookup(final @NonNull String key) {
+        final Object value = this.internalStorage.get(key);
+        if (value != null) {
+            return value;
+        }
+        final int index = this.primitiveSlots.indexOf(key);
+        return index < 0 ? null : this.primitiveSlots.box(index);
+    }
+
     /**
      * Get a value if it exists, else return the provided default value
      *
@@ -361,19 +554,48 @@ public final class CommandContext<C> {
      */
     public @NonNull ArgumentTiming createTiming(final @NonNull CommandArgument<C, ?> argument) {
         final ArgumentTiming argumentTiming = new ArgumentTiming();
+        if (this.argumentTimings == null) {
+            this.argumentTimings = new HashMap<>();
+        }
         this.argumentTimings.put(argument, argumentTiming);
         return argumentTiming;
     }
 
     /**
-     * Get an immutable view of the argument timings map
+     * Get an immutable view of the argument timings map. Timings are only recorded when the
+     * {@link cloud.commandframework.metrics.ParseTimingRecorder} of the command manager has sampled the parse
      *
      * @return Argument timings
+     * @see #isTimingArguments()
      */
     public @NonNull Map<CommandArgument<@NonNull C, @NonNull ?>, ArgumentTiming> getArgumentTimings() {
+        if (this.argumentTimings == null) {
+            return Collections.emptyMap();
+        }
         return Collections.unmodifiableMap(this.argumentTimings);
     }
 
+    /**
+     * Check whether the parsing of the arguments in this context is being timed
+     *
+     * @return {@code true} if argument timings are recorded
+     * @since 1.4.0
+     */
+    public boolean isTimingArguments() {
+        return this.timingArguments;
+    }
+
+    /**
+     * Set whether the parsing of the arguments in this context should be timed. This is decided by the command tree
+     * before the input is parsed
+     *
+     * @param timingArguments Whether argument timings should be recorded
+     * @since 1.4.0
+     */
+    public void setTimingArguments(final boolean timingArguments) {
+        this.timingArguments = timingArguments;
+    }
+
     /**
      * Get the associated {@link FlagContext} instance
      *
@@ -407,6 +629,48 @@ public final class CommandContext<C> {
         this.currentArgument = argument;
     }
 
+    /**
+     * Get the command that the input of this context was parsed into
+     *
+     * @return Parsed command, or {@code null} if the input has not been parsed into a command
+     * @since 1.4.0
+     */
+    public @Nullable Command<C> getCommand() {
+        return this.command;
+    }
+
+    /**
+     * Set the command that the input of this context was parsed into. This is done by the command tree
+     * once the input has been parsed
+     *
+     * @param command Parsed command
+     * @since 1.4.0
+     */
+    public void setCommand(final @Nullable Command<C> command) {
+        this.command = command;
+    }
+
+    /**
+     * Get the input that this context was created for, as it was passed to the command manager
+     *
+     * @return Input, or {@code null} if the context was not created by the command manager
+     * @since 1.4.0
+     */
+    public @Nullable String getInput() {
+        return this.input;
+    }
+
+    /**
+     * Set the input that this context was created for. This is done by the command manager before the input is
+     * processed
+     *
+     * @param input Input
+     * @since 1.4.0
+     */
+    public void setInput(final @Nullable String input) {
+        this.input = input;
+    }
+
     /**
      * Attempt to retrieve a value that has been registered to the associated command manager's
      * {@link cloud.commandframework.annotations.injection.ParameterInjectorRegistry}
@@ -521,4 +785,88 @@ public final class CommandContext<C> {
 
     }
 
+
+    /**
+     * Unboxed storage for primitive values. The values are stored as raw bits in parallel arrays,
+     * which are searched linearly, as commands only have a handful of arguments
+     */
+    private static final class PrimitiveSlots {
+
+        private static final byte INT = 0;
+        private static final byte LONG = 1;
+        private static final byte FLOAT = 2;
+        private static final byte DOUBLE = 3;
+        private static final int INITIAL_CAPACITY = 4;
+
+        private String[] keys;
+        private byte[] types;
+        private long[] bits;
+        private int size;
+
+        private int indexOf(final @NonNull String key) {
+            for (int i = 0; i < this.size; i++) {
+                if (this.keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int indexOf(final @NonNull String key, final byte type) {
+            final int index = this.indexOf(key);
+            return index >= 0 && this.types[index] == type ? index : -1;
+        }
+
+        private void put(final @NonNull String key, final byte type, final long bits) {
+            int index = this.indexOf(key);
+            if (index < 0) {
+                if (this.keys == null) {
+                    this.keys = new String[INITIAL_CAPACITY];
+                    this.types = new byte[INITIAL_CAPACITY];
+                    this.bits = new long[INITIAL_CAPACITY];
+                } else if (this.size == this.keys.length) {
+                    this.keys = Arrays.copyOf(this.keys, this.size * 2);
+                    this.types = Arrays.copyOf(this.types, this.size * 2);
+                    this.bits = Arrays.copyOf(this.bits, this.size * 2);
+                }
+                index = this.size++;
+                this.keys[index] = key;
+            }
+            this.types[index] = type;
+            this.bits[index] = bits;
+        }
+
+        private void remove(final @NonNull String key) {
+            final int index = this.indexOf(key);
+            if (index < 0) {
+                return;
+            }
+            final int last = --this.size;
+            this.keys[index] = this.keys[last];
+            this.types[index] = this.types[last];
+            this.bits[index] = this.bits[last];
+            this.keys[last] = null;
+        }
+
+        private @NonNull Object box(final int index) {
+            switch (this.types[index]) {
+                case INT:
+                    return (int) this.bits[index];
+                case LONG:
+                    return this.bits[index];
+                case FLOAT:
+                    return Float.intBitsToFloat((int) this.bits[index]);
+                default:
+                    return Double.longBitsToDouble(this.bits[index]);
+            }
+        }
+
+        private void boxInto(final @NonNull Map<@NonNull String, @NonNull Object> map) {
+            for (int i = 0; i < this.size; i++) {
+                map.put(this.keys[i], this.box(i));
+            }
+        }
+
+    }
+
 }
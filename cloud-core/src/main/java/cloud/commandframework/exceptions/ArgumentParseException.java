@@ -27,6 +27,7 @@ import cloud.commandframework.arguments.CommandArgument;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 public class ArgumentParseException extends CommandParseException {
 
@@ -49,6 +50,23 @@ public class ArgumentParseException extends CommandParseException {
         this.cause = throwable;
     }
 
+    /**
+     * Create a new command parse exception with a lazily computed chain
+     *
+     * @param throwable     Exception that caused the parsing error
+     * @param commandSender Command sender
+     * @param currentChain  Supplier of the chain leading up to the exception
+     * @since 1.4.0
+     */
+    public ArgumentParseException(
+            final @NonNull Throwable throwable,
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<@NonNull CommandArgument<?, ?>>> currentChain
+    ) {
+        super(commandSender, currentChain);
+        this.cause = throwable;
+    }
+
     /**
      * Get the cause of the exception
      *
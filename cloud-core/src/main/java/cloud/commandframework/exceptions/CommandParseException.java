@@ -28,16 +28,31 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Exception thrown when parsing user input into a command
+ * <p>
+ * Parse failures are expected to happen frequently, and so they do not capture stack traces, unless the
+ * {@value #CAPTURE_STACK_TRACES_PROPERTY} system property is set to {@code true}. The chain leading up to
+ * the exception may be computed lazily, the first time that it is requested
  */
 @SuppressWarnings("unused")
 public class CommandParseException extends IllegalArgumentException {
 
+    /**
+     * System property that enables stack traces for parse failures, which is useful when debugging
+     *
+     * @since 1.4.0
+     */
+    public static final String CAPTURE_STACK_TRACES_PROPERTY = "cloud.parse.stacktraces";
+
     private static final long serialVersionUID = -2415981126382517435L;
+    private static final boolean CAPTURE_STACK_TRACES = Boolean.getBoolean(CAPTURE_STACK_TRACES_PROPERTY);
+
     private final Object commandSender;
-    private final List<CommandArgument<?, ?>> currentChain;
+    private final transient Supplier<List<CommandArgument<?, ?>>> chainSupplier;
+    private volatile List<CommandArgument<?, ?>> currentChain;
 
     /**
      * Construct a new command parse exception
@@ -50,9 +65,26 @@ public class CommandParseException extends IllegalArgumentException {
             final @NonNull List<CommandArgument<?, ?>> currentChain
     ) {
         this.commandSender = commandSender;
+        this.chainSupplier = null;
         this.currentChain = currentChain;
     }
 
+    /**
+     * Construct a new command parse exception with a lazily computed chain
+     *
+     * @param commandSender Sender who executed the command
+     * @param currentChain  Supplier of the chain leading up to the exception. It is invoked when
+     *                      the chain is first requested
+     * @since 1.4.0
+     */
+    protected CommandParseException(
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<@NonNull CommandArgument<?, ?>>> currentChain
+    ) {
+        this.commandSender = commandSender;
+        this.chainSupplier = currentChain;
+    }
+
     /**
      * Get the command sender
      *
@@ -68,7 +100,26 @@ public class CommandParseException extends IllegalArgumentException {
      * @return Unmodifiable list of command arguments
      */
     public @NonNull List<@NonNull CommandArgument<?, ?>> getCurrentChain() {
-        return Collections.unmodifiableList(this.currentChain);
+        List<CommandArgument<?, ?>> currentChain = this.currentChain;
+        if (currentChain == null) {
+            currentChain = this.chainSupplier == null ? Collections.emptyList() : this.chainSupplier.get();
+            this.currentChain = currentChain;
+        }
+        return Collections.unmodifiableList(currentChain);
+    }
+
+    /**
+     * Parse exceptions do not capture stack traces, unless the {@value #CAPTURE_STACK_TRACES_PROPERTY}
+     * system property is set to {@code true}
+     *
+     * @return This exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (CAPTURE_STACK_TRACES) {
+            return super.fillInStackTrace();
+        }
+        return this;
     }
 
 }
@@ -0,0 +1,153 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.exceptions;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+
+/**
+ * Registry of exception handlers. Exceptions are handled by the handler that is registered for their class, or
+ * for the closest super class that has a handler. The class hierarchy of every exception type is only walked
+ * once, after which the resolved handler is looked up in a {@link ClassValue}
+ *
+ * @param <S> Type of the sender that is passed to the handlers
+ * @since 1.4.0
+ */
+public final class ExceptionHandlerRegistry<S> {
+
+    private final Map<Class<? extends Throwable>, BiConsumer<S, ?>> handlers = new LinkedHashMap<>();
+    private volatile Resolver<S> resolver = new Resolver<>(this.handlers);
+
+    /**
+     * Register a handler for an exception type and its subclasses, replacing any handler previously registered for the
+     * same type
+     *
+     * @param type    Exception type
+     * @param handler Exception handler
+     * @param <E>     Exception type
+     * @return The registry instance
+     */
+    public synchronized <E extends Throwable> @NonNull ExceptionHandlerRegistry<S> register(
+            final @NonNull Class<E> type,
+            final @NonNull BiConsumer<@NonNull S, ? super @NonNull E> handler
+    ) {
+        this.handlers.put(type, handler);
+        this.resolver = new Resolver<>(this.handlers);
+        return this;
+    }
+
+    /**
+     * Get the handler for an exception type, which is either registered for the type itself or for its closest
+     * super class
+     *
+     * @param type Exception type
+     * @param <E>  Exception type
+     * @return Handler, or {@code null} if no handler is registered for the type or any of its super classes
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Throwable> @Nullable BiConsumer<@NonNull S, ? super @NonNull E> resolve(
+            final @NonNull Class<E> type
+    ) {
+        return (BiConsumer<S, ? super E>) this.resolver.resolve(type);
+    }
+
+    /**
+     * Handle an exception. {@link CompletionException completion exceptions} are unwrapped before their cause is
+     * handled
+     *
+     * @param sender    Sender that the exception is handled for
+     * @param throwable Exception
+     * @return {@code true} if a handler was found, {@code false} if not
+     */
+    @SuppressWarnings("unchecked")
+    public boolean handle(final @NonNull S sender, final @NonNull Throwable throwable) {
+        final Throwable exception = unwrap(throwable);
+        final BiConsumer<S, Throwable> handler = (BiConsumer<S, Throwable>) this.resolver.resolve(exception.getClass());
+        if (handler == null) {
+            return false;
+        }
+        handler.accept(sender, exception);
+        return true;
+    }
+
+    /**
+     * Get the exception that caused a command to fail, by unwrapping {@link CompletionException completion exceptions}
+     * that are thrown when joining command futures
+     *
+     * @param throwable Exception
+     * @return The cause of the exception if it is a completion exception with a cause, else the exception itself
+     */
+    public static @NonNull Throwable unwrap(final @NonNull Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+
+    /**
+     * Resolves exception types to the index of their handler. A resolver is created for every set of registered
+     * handlers. Indices are cached rather than the handlers themselves, so that the cache entries of exception types
+     * from other class loaders do not keep the handlers reachable
+     *
+     * @param <S> Sender type
+     */
+    private static final class Resolver<S> extends ClassValue<Integer> {
+
+        private final Class<?>[] types;
+        private final BiConsumer<?, ?>[] handlers;
+
+        private Resolver(final @NonNull Map<Class<? extends Throwable>, BiConsumer<S, ?>> handlers) {
+            this.types = handlers.keySet().toArray(new Class<?>[0]);
+            this.handlers = handlers.values().toArray(new BiConsumer<?, ?>[0]);
+        }
+
+        @Override
+        protected Integer computeValue(final @NonNull Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (int i = 0; i < this.types.length; i++) {
+                    if (this.types[i] == current) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        private @Nullable BiConsumer<?, ?> resolve(final @NonNull Class<?> type) {
+            if (this.types.length == 0) {
+                return null;
+            }
+            final int index = this.get(type);
+            return index < 0 ? null : this.handlers[index];
+        }
+
+    }
+
+}
@@ -26,7 +26,10 @@ package cloud.commandframework.exceptions;
 import cloud.commandframework.arguments.CommandArgument;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Exception sent when a command sender inputs invalid command syntax
@@ -35,7 +38,8 @@ import java.util.List;
 public class InvalidSyntaxException extends CommandParseException {
 
     private static final long serialVersionUID = -4183356059293785202L;
-    private final String correctSyntax;
+    private final transient Supplier<String> syntaxSupplier;
+    private volatile String correctSyntax;
 
     /**
      * Create a new invalid syntax exception instance
@@ -50,22 +54,57 @@ public class InvalidSyntaxException extends CommandParseException {
             final @NonNull List<@NonNull CommandArgument<?, ?>> currentChain
     ) {
         super(commandSender, currentChain);
+        this.syntaxSupplier = null;
         this.correctSyntax = correctSyntax;
     }
 
+    /**
+     * Create a new invalid syntax exception instance, where the syntax and the chain are only
+     * computed once they are requested
+     *
+     * @param correctSyntax Supplier of the expected syntax
+     * @param commandSender Sender that sent the command
+     * @param currentChain  Supplier of the chain leading up to issue
+     * @since 1.4.0
+     */
+    public InvalidSyntaxException(
+            final @NonNull Supplier<@NonNull String> correctSyntax,
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<@NonNull CommandArgument<?, ?>>> currentChain
+    ) {
+        super(commandSender, currentChain);
+        this.syntaxSupplier = correctSyntax;
+    }
+
     /**
      * Get the correct syntax of the command
      *
      * @return Correct command syntax
      */
     public @NonNull String getCorrectSyntax() {
-        return this.correctSyntax;
+        String correctSyntax = this.correctSyntax;
+        if (correctSyntax == null) {
+            correctSyntax = this.syntaxSupplier == null ? "" : this.syntaxSupplier.get();
+            this.correctSyntax = correctSyntax;
+        }
+        return correctSyntax;
+    }
+
+    /**
+     * The syntax supplier is not serialized, so the syntax is computed before the exception is written
+     *
+     * @param out Output stream
+     * @throws IOException If the exception could not be written
+     */
+    private void writeObject(final @NonNull ObjectOutputStream out) throws IOException {
+        this.getCorrectSyntax();
+        out.defaultWriteObject();
     }
 
 
     @Override
     public final String getMessage() {
-        return String.format("Invalid command syntax. Correct syntax is: %s", this.correctSyntax);
+        return String.format("Invalid command syntax. Correct syntax is: %s", this.getCorrectSyntax());
     }
 
 }
@@ -29,6 +29,7 @@ import cloud.commandframework.permission.CommandPermission;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Exception thrown when a command sender misses a permission required
@@ -56,6 +57,23 @@ public class NoPermissionException extends CommandParseException {
         this.missingPermission = missingPermission;
     }
 
+    /**
+     * Construct a new no permission exception with a lazily computed chain
+     *
+     * @param missingPermission Missing permission node
+     * @param commandSender     Command sender
+     * @param currentChain      Supplier of the chain leading up to the exception
+     * @since 1.4.0
+     */
+    public NoPermissionException(
+            final @NonNull CommandPermission missingPermission,
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<@NonNull CommandArgument<?, ?>>> currentChain
+    ) {
+        super(commandSender, currentChain);
+        this.missingPermission = missingPermission;
+    }
+
     @Override
     public final String getMessage() {
         return String.format("Missing permission '%s'", this.missingPermission);
@@ -70,11 +88,6 @@ public class NoPermissionException extends CommandParseException {
         return this.missingPermission.toString();
     }
 
-    @Override
-    public final synchronized Throwable fillInStackTrace() {
-        return this;
-    }
-
     @Override
     public final synchronized Throwable initCause(final Throwable cause) {
         return this;
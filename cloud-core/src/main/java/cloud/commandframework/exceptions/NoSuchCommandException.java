@@ -27,6 +27,7 @@ import cloud.commandframework.arguments.CommandArgument;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Exception thrown when a command sender tries to execute
@@ -54,6 +55,23 @@ public final class NoSuchCommandException extends CommandParseException {
         this.suppliedCommand = command;
     }
 
+    /**
+     * Construct a no such command exception with a lazily computed chain
+     *
+     * @param commandSender Sender who executed the command
+     * @param currentChain  Supplier of the chain leading up to the exception
+     * @param command       Entered command (following the command chain)
+     * @since 1.4.0
+     */
+    public NoSuchCommandException(
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<CommandArgument<?, ?>>> currentChain,
+            final @NonNull String command
+    ) {
+        super(commandSender, currentChain);
+        this.suppliedCommand = command;
+    }
+
 
     @Override
     public String getMessage() {
@@ -76,11 +94,6 @@ public final class NoSuchCommandException extends CommandParseException {
         return this.suppliedCommand;
     }
 
-    @Override
-    public synchronized Throwable fillInStackTrace() {
-        return this;
-    }
-
     @Override
     public synchronized Throwable initCause(final Throwable cause) {
         return this;
@@ -26,11 +26,16 @@ package cloud.commandframework.exceptions.parsing;
 import cloud.commandframework.captions.Caption;
 import cloud.commandframework.captions.CaptionVariable;
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.exceptions.CommandParseException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 public class ParserException extends IllegalArgumentException {
 
     private static final long serialVersionUID = -4409795575435072170L;
+    private static final boolean CAPTURE_STACK_TRACES = Boolean.getBoolean(
+            CommandParseException.CAPTURE_STACK_TRACES_PROPERTY
+    );
+
     private final Class<?> argumentParser;
     private final CommandContext<?> context;
     private final Caption errorCaption;
@@ -74,4 +79,18 @@ public class ParserException extends IllegalArgumentException {
         return this.context;
     }
 
+    /**
+     * Parser exceptions do not capture stack traces, unless the
+     * {@value CommandParseException#CAPTURE_STACK_TRACES_PROPERTY} system property is set to {@code true}
+     *
+     * @return This exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (CAPTURE_STACK_TRACES) {
+            return super.fillInStackTrace();
+        }
+        return this;
+    }
+
 }
@@ -82,7 +82,7 @@ public final class AsynchronousCommandExecutionCoordinator<C> extends CommandExe
         final Consumer<Command<C>> commandConsumer = command -> {
             if (this.commandManager.postprocessContext(commandContext, command) == State.ACCEPTED) {
                 try {
-                    command.getCommandExecutionHandler().execute(commandContext);
+                    this.executeHandler(command, commandContext);
                 } catch (final CommandExecutionException exception) {
                     resultFuture.completeExceptionally(exception);
                 } catch (final Exception exception) {
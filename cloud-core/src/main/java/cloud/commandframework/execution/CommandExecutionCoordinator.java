@@ -24,9 +24,11 @@
 package cloud.commandframework.execution;
 
 import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
 import cloud.commandframework.CommandTree;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.metrics.CommandTracer;
 import cloud.commandframework.services.State;
 import cloud.commandframework.types.tuples.Pair;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -90,6 +92,43 @@ public abstract class CommandExecutionCoordinator<C> {
         return this.commandTree;
     }
 
+    /**
+     * Execute the handler of a parsed command. The execution latency is recorded in the
+     * {@link CommandManager#metrics() command metrics} if {@link CommandManager.ManagerSettings#RECORD_METRICS}
+     * is enabled, and the execution is traced by the {@link CommandManager#getCommandTracer() command tracer}
+     *
+     * @param command        Command to execute
+     * @param commandContext Command context
+     * @since 1.4.0
+     */
+    protected final void executeHandler(
+            final @NonNull Command<C> command,
+            final @NonNull CommandContext<C> commandContext
+    ) {
+        final CommandManager<C> commandManager = this.commandTree.getCommandManager();
+        final boolean recordMetrics = commandManager.getSetting(CommandManager.ManagerSettings.RECORD_METRICS);
+        final CommandTracer.Span span = commandManager.getCommandTracer().begin(CommandTracer.Phase.HANDLER);
+        if (!recordMetrics && span == null) {
+            command.getCommandExecutionHandler().execute(commandContext);
+            return;
+        }
+        final long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            command.getCommandExecutionHandler().execute(commandContext);
+        } catch (final RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (recordMetrics) {
+                commandManager.metrics().recordExecution(command, System.nanoTime() - start);
+            }
+            if (span != null) {
+                span.complete(commandContext.getSender().getClass(), command, null, failure);
+            }
+        }
+    }
+
 
     /**
      * A simple command execution coordinator that executes all commands immediately, on the calling thread
@@ -118,7 +157,7 @@ public abstract class CommandExecutionCoordinator<C> {
                     final Command<C> command = Objects.requireNonNull(pair.getFirst());
                     if (this.getCommandTree().getCommandManager().postprocessContext(commandContext, command) == State.ACCEPTED) {
                         try {
-                            command.getCommandExecutionHandler().execute(commandContext);
+                            this.executeHandler(command, commandContext);
                         } catch (final CommandExecutionException exception) {
                             completableFuture.completeExceptionally(exception);
                         } catch (final Exception exception) {
@@ -23,6 +23,7 @@
 //
 package cloud.commandframework.execution;
 
+import cloud.commandframework.arguments.SuggestionTable;
 import cloud.commandframework.execution.preprocessor.CommandPreprocessingContext;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -30,7 +31,10 @@ import java.util.LinkedList;
 import java.util.List;
 
 /**
- * Command suggestions processor that checks the input queue head and filters based on that
+ * Command suggestions processor that checks the input queue head and filters based on that.
+ * <p>
+ * Suggestions that are backed by a {@link SuggestionTable} are looked up by prefix in the table,
+ * so that only the suggestions that share a prefix with the input are filtered
  *
  * @param <C> Command sender type
  */
@@ -47,8 +51,10 @@ public final class FilteringCommandSuggestionProcessor<C> implements CommandSugg
         } else {
             input = context.getInputQueue().peek();
         }
+        final SuggestionTable table = SuggestionTable.fromView(strings);
+        final List<String> candidates = table == null ? strings : table.startingWith(input);
         final List<String> suggestions = new LinkedList<>();
-        for (final String suggestion : strings) {
+        for (final String suggestion : candidates) {
             if (suggestion.startsWith(input)) {
                 suggestions.add(suggestion);
             }
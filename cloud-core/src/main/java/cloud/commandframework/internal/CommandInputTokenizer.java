@@ -32,14 +32,22 @@ import java.util.StringTokenizer;
  * Tokenizer that splits command inputs into tokens. This will split the string
  * at every blank space. If the input string ends with a blank space, a trailing
  * empty string will be added to the token list
+ * <p>
+ * If the tokenizer is quote aware, a token that starts with a single or double quote
+ * extends until the matching unescaped quote that is followed by a blank space or the end of the
+ * input, so that the quoted span becomes a single token. The quotes and escape characters are
+ * kept in the token. Quotes that are never closed are tokenized as usual
  */
 public final class CommandInputTokenizer {
 
     private static final String DELIMITER = " ";
     private static final String EMPTY = "";
+    private static final char DELIMITER_CHAR = ' ';
+    private static final char ESCAPE_CHAR = '\\';
 
     private final StringTokenizerFactory stringTokenizerFactory = new StringTokenizerFactory();
     private final String input;
+    private final boolean quoteAware;
 
     /**
      * Create a new input tokenizer
@@ -47,7 +55,19 @@ public final class CommandInputTokenizer {
      * @param input Input that is to be turned into tokens
      */
     public CommandInputTokenizer(final @NonNull String input) {
+        this(input, false);
+    }
+
+    /**
+     * Create a new input tokenizer
+     *
+     * @param input      Input that is to be turned into tokens
+     * @param quoteAware Whether quoted spans should be turned into single tokens
+     * @since 1.4.0
+     */
+    public CommandInputTokenizer(final @NonNull String input, final boolean quoteAware) {
         this.input = input;
+        this.quoteAware = quoteAware;
     }
 
     /**
@@ -56,6 +76,9 @@ public final class CommandInputTokenizer {
      * @return Linked list containing the tokenized input
      */
     public @NonNull LinkedList<@NonNull String> tokenize() {
+        if (this.quoteAware) {
+            return this.tokenizeQuoted();
+        }
         final StringTokenizer stringTokenizer = stringTokenizerFactory.createStringTokenizer();
         final LinkedList<String> tokens = new LinkedList<>();
         while (stringTokenizer.hasMoreElements()) {
@@ -67,6 +90,57 @@ public final class CommandInputTokenizer {
         return tokens;
     }
 
+    private @NonNull LinkedList<@NonNull String> tokenizeQuoted() {
+        final LinkedList<String> tokens = new LinkedList<>();
+        final int length = this.input.length();
+        /* Once a quote has no closing counterpart, there is no point in looking for one again */
+        boolean doubleUnclosed = false;
+        boolean singleUnclosed = false;
+        int index = 0;
+        while (index < length) {
+            final char first = this.input.charAt(index);
+            if (first == DELIMITER_CHAR) {
+                index++;
+                continue;
+            }
+            int end = -1;
+            if (first == '"' && !doubleUnclosed) {
+                end = this.findClosingQuote(first, index + 1);
+                doubleUnclosed = end == -1;
+            } else if (first == '\'' && !singleUnclosed) {
+                end = this.findClosingQuote(first, index + 1);
+                singleUnclosed = end == -1;
+            }
+            if (end == -1) {
+                end = this.input.indexOf(DELIMITER_CHAR, index);
+                if (end == -1) {
+                    end = length;
+                }
+            } else {
+                end++;
+            }
+            tokens.add(this.input.substring(index, end));
+            index = end;
+        }
+        if (input.endsWith(DELIMITER)) {
+            tokens.add(EMPTY);
+        }
+        return tokens;
+    }
+
+    private int findClosingQuote(final char quote, final int from) {
+        final int length = this.input.length();
+        for (int index = from; index < length; index++) {
+            final char c = this.input.charAt(index);
+            if (c == ESCAPE_CHAR) {
+                index++;
+            } else if (c == quote && (index + 1 == length || this.input.charAt(index + 1) == DELIMITER_CHAR)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
 
     /**
      * Factory class that creates {@link StringTokenizer} instances
@@ -0,0 +1,243 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.internal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Compressed prefix tree (radix tree) that maps literal strings to values. Prefix queries visit only
+ * the branch of the tree that matches the prefix, and report the matching keys in
+ * lexicographical ({@link String#compareTo(String)}) order.
+ * <p>
+ * Tries are built once using {@link #insert(String, Object)}, and are then safe to query
+ * from multiple threads, as long as they are safely published
+ *
+ * @param <V> Value type
+ * @since 1.4.0
+ */
+public final class LiteralTrie<V> {
+
+    private static final LiteralTrie<?> EMPTY = new LiteralTrie<>();
+
+    private final Entry<V> root = new Entry<>("");
+    private int size;
+
+    /**
+     * Get a shared empty trie. The returned trie must not be modified
+     *
+     * @param <V> Value type
+     * @return Empty trie
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> @NonNull LiteralTrie<V> empty() {
+        return (LiteralTrie<V>) EMPTY;
+    }
+
+    /**
+     * Insert a key into the trie. If the key is already present, its value is replaced
+     *
+     * @param key   Literal key
+     * @param value Value that is associated with the key
+     */
+    public void insert(final @NonNull String key, final @NonNull V value) {
+        if (this == EMPTY) {
+            throw new UnsupportedOperationException("The shared empty trie cannot be modified");
+        }
+        Entry<V> entry = this.root;
+        int offset = 0;
+        while (offset < key.length()) {
+            final int index = entry.indexOf(key.charAt(offset));
+            if (index < 0) {
+                entry.insertChild(-index - 1, new Entry<>(key.substring(offset)));
+                entry = entry.children[-index - 1];
+                offset = key.length();
+                break;
+            }
+            final Entry<V> child = entry.children[index];
+            final int common = commonPrefixLength(child.label, key, offset);
+            if (common < child.label.length()) {
+                /* Split the edge, so that the common part becomes its own entry */
+                final Entry<V> split = new Entry<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.insertChild(0, child);
+                entry.children[index] = split;
+            }
+            entry = entry.children[index];
+            offset += common;
+        }
+        if (entry.key == null) {
+            this.size++;
+        }
+        entry.key = key;
+        entry.value = value;
+    }
+
+    /**
+     * Visit all keys that start with the given prefix, in lexicographical order
+     *
+     * @param prefix  Prefix
+     * @param visitor Visitor that receives the matching keys and their values
+     */
+    public void forEachStartingWith(
+            final @NonNull String prefix,
+            final @NonNull BiConsumer<@NonNull String, @NonNull V> visitor
+    ) {
+        Entry<V> entry = this.root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            final int index = entry.indexOf(prefix.charAt(offset));
+            if (index < 0) {
+                return;
+            }
+            entry = entry.children[index];
+            final int remaining = prefix.length() - offset;
+            final int length = Math.min(remaining, entry.label.length());
+            if (!entry.label.regionMatches(0, prefix, offset, length)) {
+                return;
+            }
+            offset += length;
+        }
+        entry.visit(visitor);
+    }
+
+    /**
+     * Get all keys that start with the given prefix, in lexicographical order
+     *
+     * @param prefix Prefix
+     * @return Matching keys
+     */
+    public @NonNull List<@NonNull String> keysStartingWith(final @NonNull String prefix) {
+        final List<String> keys = new ArrayList<>();
+        this.forEachStartingWith(prefix, (key, value) -> keys.add(key));
+        return keys.isEmpty() ? Collections.emptyList() : keys;
+    }
+
+    /**
+     * Get the value that is associated with a key
+     *
+     * @param key Key
+     * @return Value, or {@code null} if the key is not present
+     */
+    public @Nullable V get(final @NonNull String key) {
+        Entry<V> entry = this.root;
+        int offset = 0;
+        while (offset < key.length()) {
+            final int index = entry.indexOf(key.charAt(offset));
+            if (index < 0) {
+                return null;
+            }
+            entry = entry.children[index];
+            if (!key.startsWith(entry.label, offset)) {
+                return null;
+            }
+            offset += entry.label.length();
+        }
+        return entry.value;
+    }
+
+    /**
+     * Get the number of keys in the trie
+     *
+     * @return Number of keys
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private static int commonPrefixLength(final @NonNull String label, final @NonNull String key, final int offset) {
+        final int max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+
+    private static final class Entry<V> {
+
+        @SuppressWarnings("rawtypes")
+        private static final Entry[] NO_CHILDREN = new Entry[0];
+
+        private String label;
+        private String key;
+        private V value;
+        private Entry<V>[] children;
+
+        @SuppressWarnings("unchecked")
+        private Entry(final @NonNull String label) {
+            this.label = label;
+            this.children = (Entry<V>[]) NO_CHILDREN;
+        }
+
+        /**
+         * Find the child whose label starts with the given character. The children
+         * are sorted by their first character, and no two children share a first character
+         *
+         * @param first First character
+         * @return Index of the child, or {@code -(insertion point) - 1}
+         */
+        private int indexOf(final char first) {
+            int low = 0;
+            int high = this.children.length - 1;
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                final char character = this.children[middle].label.charAt(0);
+                if (character < first) {
+                    low = middle + 1;
+                } else if (character > first) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void insertChild(final int index, final @NonNull Entry<V> child) {
+            final Entry<V>[] children = Arrays.copyOf(this.children, this.children.length + 1);
+            System.arraycopy(children, index, children, index + 1, this.children.length - index);
+            children[index] = child;
+            this.children = children;
+        }
+
+        private void visit(final @NonNull BiConsumer<@NonNull String, @NonNull V> visitor) {
+            if (this.key != null) {
+                visitor.accept(this.key, this.value);
+            }
+            for (final Entry<V> child : this.children) {
+                child.visit(visitor);
+            }
+        }
+
+    }
+
+}
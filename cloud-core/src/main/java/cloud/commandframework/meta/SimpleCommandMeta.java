@@ -25,12 +25,15 @@ package cloud.commandframework.meta;
 
 import io.leangen.geantyref.GenericTypeReflector;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -39,20 +42,50 @@ import java.util.stream.Collectors;
 @SuppressWarnings("unused")
 public class SimpleCommandMeta extends CommandMeta {
 
+    /**
+     * Keys that are read for every command (help, suggestions and execution). Their values are type checked
+     * once on construction and stored in a slot array, so that reading them is an identity comparison and an
+     * array load.
+     */
+    private static final Key<?>[] SLOTTED_KEYS = new Key<?>[]{
+            CommandMeta.DESCRIPTION,
+            CommandMeta.LONG_DESCRIPTION,
+            CommandMeta.HIDDEN
+    };
+    /**
+     * Marker for memoized fallback derivations that produced no value
+     */
+    private static final Object NO_VALUE = new Object();
+
     private final Map<String, Object> metaMap;
+    private final Map<String, Key<?>> typedKeys;
+    private final Object[] slots;
+    private volatile Map<Key<?>, Object> derivedValues;
 
     @Deprecated
     protected SimpleCommandMeta(final @NonNull Map<@NonNull String, @NonNull String> metaMap) {
-        this.metaMap = Collections.unmodifiableMap(metaMap);
+        this(new HashMap<>(metaMap), Collections.emptyMap());
     }
 
     protected SimpleCommandMeta(final SimpleCommandMeta source) {
         this.metaMap = source.metaMap;
+        this.typedKeys = source.typedKeys;
+        this.slots = source.slots;
     }
 
-    // Constructor needs an extra flag to distinguish it from the old one (for reified generics)
-    SimpleCommandMeta(final @NonNull Map<@NonNull String, @NonNull Object> metaMap, final boolean unusedMarkerForNew) {
+    SimpleCommandMeta(
+            final @NonNull Map<@NonNull String, @NonNull Object> metaMap,
+            final @NonNull Map<@NonNull String, @NonNull Key<?>> typedKeys
+    ) {
         this.metaMap = Collections.unmodifiableMap(metaMap);
+        this.typedKeys = typedKeys;
+        this.slots = new Object[SLOTTED_KEYS.length];
+        for (int i = 0; i < SLOTTED_KEYS.length; i++) {
+            final Object value = metaMap.get(SLOTTED_KEYS[i].getName());
+            if (value != null && isInstance(SLOTTED_KEYS[i], value)) {
+                this.slots[i] = value;
+            }
+        }
     }
 
     /**
@@ -91,28 +124,57 @@ public class SimpleCommandMeta extends CommandMeta {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public final @NonNull <V> Optional<V> get(final @NonNull Key<V> key) {
+        return Optional.ofNullable(this.getOrNull(key));
+    }
+
+    @Override
+    public final <V> @NonNull V getOrDefault(final @NonNull Key<V> key, final @NonNull V defaultValue) {
+        final V value = this.getOrNull(key);
+        return value == null ? defaultValue : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> @Nullable V getOrNull(final @NonNull Key<V> key) {
+        for (int i = 0; i < SLOTTED_KEYS.length; i++) {
+            if (SLOTTED_KEYS[i] == key && this.slots[i] != null) {
+                return (V) this.slots[i];
+            }
+        }
         final Object value = this.metaMap.get(key.getName());
         if (value == null) {
-            // Attempt to use a fallback legacy type
-            if (key.getFallbackDerivation() != null) {
-                return Optional.ofNullable(key.getFallbackDerivation().apply(this));
-            }
-
-            return Optional.empty();
+            return this.derive(key);
         }
-        if (!GenericTypeReflector.isSuperType(key.getValueType().getType(), value.getClass())) {
+        // Values stored through the same key were checked when the meta was built
+        if (this.typedKeys.get(key.getName()) != key && !isInstance(key, value)) {
             throw new IllegalArgumentException("Conflicting argument types between key type of "
                     + key.getValueType().getType() + " and value type of " + value.getClass());
         }
+        return (V) value;
+    }
 
-        return Optional.of((V) value);
+    @SuppressWarnings("unchecked")
+    private <V> @Nullable V derive(final @NonNull Key<V> key) {
+        final Function<@NonNull CommandMeta, @Nullable V> fallback = key.getFallbackDerivation();
+        if (fallback == null) {
+            return null;
+        }
+        Map<Key<?>, Object> derived = this.derivedValues;
+        if (derived == null) {
+            derived = new ConcurrentHashMap<>();
+            this.derivedValues = derived;
+        }
+        Object value = derived.get(key);
+        if (value == null) {
+            final V result = fallback.apply(this);
+            value = result == null ? NO_VALUE : result;
+            derived.put(key, value);
+        }
+        return value == NO_VALUE ? null : (V) value;
     }
 
-    @Override
-    public final <V> @NonNull V getOrDefault(final @NonNull Key<V> key, final @NonNull V defaultValue) {
-        return this.get(key).orElse(defaultValue);
+    private static boolean isInstance(final @NonNull Key<?> key, final @NonNull Object value) {
+        return GenericTypeReflector.isSuperType(key.getValueType().getType(), value.getClass());
     }
 
     @Override
@@ -154,6 +216,7 @@ public class SimpleCommandMeta extends CommandMeta {
     public static final class Builder {
 
         private final Map<String, Object> map = new HashMap<>();
+        private final Map<String, Key<?>> keys = new HashMap<>();
 
         private Builder() {
         }
@@ -166,9 +229,14 @@ public class SimpleCommandMeta extends CommandMeta {
          */
         public @NonNull Builder with(final @NonNull CommandMeta commandMeta) {
             if (commandMeta instanceof SimpleCommandMeta) {
-                this.map.putAll(((SimpleCommandMeta) commandMeta).metaMap);
+                final SimpleCommandMeta simpleCommandMeta = (SimpleCommandMeta) commandMeta;
+                this.keys.keySet().removeAll(simpleCommandMeta.metaMap.keySet());
+                this.map.putAll(simpleCommandMeta.metaMap);
+                this.keys.putAll(simpleCommandMeta.typedKeys);
             } else {
-                this.map.putAll(commandMeta.getAllValues());
+                final Map<String, ?> values = commandMeta.getAllValues();
+                this.keys.keySet().removeAll(values.keySet());
+                this.map.putAll(values);
             }
             return this;
         }
@@ -187,11 +255,14 @@ public class SimpleCommandMeta extends CommandMeta {
                 final @NonNull String value
         ) {
             this.map.put(key, value);
+            this.keys.remove(key);
             return this;
         }
 
         /**
          * Store a new key-value pair in the meta map
+         * <p>
+         * The value is checked against the {@link Key#getValueType() key type} when the meta is built
          *
          * @param <V>   Value type
          * @param key   Key
@@ -204,6 +275,7 @@ public class SimpleCommandMeta extends CommandMeta {
                 final @NonNull V value
         ) {
            this.map.put(key.getName(), value);
+           this.keys.put(key.getName(), key);
            return this;
         }
 
@@ -211,9 +283,17 @@ public class SimpleCommandMeta extends CommandMeta {
          * Construct a new meta instance
          *
          * @return Meta instance
+         * @throws IllegalArgumentException If a typed value does not match the type of the key it was stored with
          */
         public @NonNull SimpleCommandMeta build() {
-            return new SimpleCommandMeta(this.map, false);
+            for (final Map.Entry<String, Key<?>> entry : this.keys.entrySet()) {
+                final Object value = this.map.get(entry.getKey());
+                if (!isInstance(entry.getValue(), value)) {
+                    throw new IllegalArgumentException("Conflicting argument types between key type of "
+                            + entry.getValue().getValueType().getType() + " and value type of " + value.getClass());
+                }
+            }
+            return new SimpleCommandMeta(new HashMap<>(this.map), new HashMap<>(this.keys));
         }
 
     }
@@ -0,0 +1,100 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated parse timings of a single command argument, as recorded by a {@link SamplingParseTimingRecorder}
+ *
+ * @since 1.4.0
+ */
+public final class ArgumentTimingStatistics {
+
+    private final int sampleRate;
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    ArgumentTimingStatistics(final int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    void record(final long nanos, final boolean success) {
+        this.latency.record(nanos);
+        if (success) {
+            this.successes.increment();
+        } else {
+            this.failures.increment();
+        }
+    }
+
+    /**
+     * Get the number of sampled parses of the argument
+     *
+     * @return Sample count
+     */
+    public long getSampleCount() {
+        return this.successes.sum() + this.failures.sum();
+    }
+
+    /**
+     * Get the number of sampled parses that succeeded
+     *
+     * @return Success count
+     */
+    public long getSuccessCount() {
+        return this.successes.sum();
+    }
+
+    /**
+     * Get the number of sampled parses that failed
+     *
+     * @return Failure count
+     */
+    public long getFailureCount() {
+        return this.failures.sum();
+    }
+
+    /**
+     * Get the estimated total number of parses of the argument, which is the sample count scaled by the sample rate
+     *
+     * @return Estimated parse count
+     */
+    public long getEstimatedParseCount() {
+        return this.getSampleCount() * this.sampleRate;
+    }
+
+    /**
+     * Get the time spent parsing the argument in sampled parses
+     *
+     * @return Parse latency histogram
+     */
+    public @NonNull LatencyHistogram getLatency() {
+        return this.latency;
+    }
+
+}
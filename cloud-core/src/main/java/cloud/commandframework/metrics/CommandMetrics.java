@@ -0,0 +1,175 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of command metrics. Measurements are recorded by the command manager, the command tree and the
+ * execution coordinators when {@link CommandManager.ManagerSettings#RECORD_METRICS} is enabled.
+ * <p>
+ * Statistics are kept per command, and inputs that could not be parsed into a command are counted in the
+ * {@link #getUnmatchedStatistics() unmatched statistics}. Measurements are also forwarded to all registered
+ * {@link CommandMetricsExporter exporters}
+ *
+ * @param <C> Command sender type
+ * @see CommandManager#metrics()
+ * @since 1.4.0
+ */
+public final class CommandMetrics<C> {
+
+    private final Map<Command<C>, CommandStatistics> statistics = new ConcurrentHashMap<>();
+    private final CommandStatistics unmatchedStatistics = new CommandStatistics();
+    private final LatencyHistogram suggestionLatency = new LatencyHistogram();
+    private final List<CommandMetricsExporter<C>> exporters = new CopyOnWriteArrayList<>();
+
+    /**
+     * Create a new metrics registry
+     */
+    public CommandMetrics() {
+    }
+
+    /**
+     * Register an exporter that will receive all future measurements
+     *
+     * @param exporter Exporter
+     */
+    public void registerExporter(final @NonNull CommandMetricsExporter<C> exporter) {
+        this.exporters.add(exporter);
+    }
+
+    /**
+     * Record the time spent parsing command input
+     *
+     * @param command Parsed command, or {@code null} if the input could not be parsed into a command
+     * @param nanos   Parse latency in nanoseconds
+     */
+    public void recordParse(final @Nullable Command<C> command, final long nanos) {
+        this.getOrCreateStatistics(command).recordParse(nanos);
+        for (final CommandMetricsExporter<C> exporter : this.exporters) {
+            exporter.exportParse(command, nanos);
+        }
+    }
+
+    /**
+     * Record the time spent in a command execution handler
+     *
+     * @param command Executed command
+     * @param nanos   Execution latency in nanoseconds
+     */
+    public void recordExecution(final @NonNull Command<C> command, final long nanos) {
+        this.getOrCreateStatistics(command).recordExecution(nanos);
+        for (final CommandMetricsExporter<C> exporter : this.exporters) {
+            exporter.exportExecution(command, nanos);
+        }
+    }
+
+    /**
+     * Record a completed command execution
+     *
+     * @param command Executed command, or {@code null} if the input could not be parsed into a command
+     * @param nanos   Total latency in nanoseconds
+     * @param failure Exception that the execution failed with, or {@code null} if it succeeded
+     */
+    public void recordCompletion(final @Nullable Command<C> command, final long nanos, final @Nullable Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        this.getOrCreateStatistics(command).recordCompletion(nanos, cause);
+        for (final CommandMetricsExporter<C> exporter : this.exporters) {
+            exporter.exportCompletion(command, nanos, cause);
+        }
+    }
+
+    /**
+     * Record the time spent computing suggestions
+     *
+     * @param nanos Suggestion latency in nanoseconds
+     */
+    public void recordSuggestions(final long nanos) {
+        this.suggestionLatency.record(nanos);
+        for (final CommandMetricsExporter<C> exporter : this.exporters) {
+            exporter.exportSuggestions(nanos);
+        }
+    }
+
+    private @NonNull CommandStatistics getOrCreateStatistics(final @Nullable Command<C> command) {
+        if (command == null) {
+            return this.unmatchedStatistics;
+        }
+        final CommandStatistics statistics = this.statistics.get(command);
+        if (statistics != null) {
+            return statistics;
+        }
+        return this.statistics.computeIfAbsent(command, key -> new CommandStatistics());
+    }
+
+    /**
+     * Get the statistics of a command
+     *
+     * @param command Command
+     * @return Statistics, or {@code null} if nothing has been recorded for the command
+     */
+    public @Nullable CommandStatistics getStatistics(final @NonNull Command<C> command) {
+        return this.statistics.get(command);
+    }
+
+    /**
+     * Get the statistics of all commands that measurements have been recorded for
+     *
+     * @return Unmodifiable copy of the statistics
+     */
+    public @NonNull Map<@NonNull Command<C>, @NonNull CommandStatistics> getAllStatistics() {
+        return Collections.unmodifiableMap(new HashMap<>(this.statistics));
+    }
+
+    /**
+     * Get the statistics of inputs that could not be parsed into a command
+     *
+     * @return Unmatched statistics
+     */
+    public @NonNull CommandStatistics getUnmatchedStatistics() {
+        return this.unmatchedStatistics;
+    }
+
+    /**
+     * Get the time spent computing suggestions
+     *
+     * @return Suggestion latency histogram
+     */
+    public @NonNull LatencyHistogram getSuggestionLatency() {
+        return this.suggestionLatency;
+    }
+
+}
@@ -0,0 +1,78 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import cloud.commandframework.Command;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Receives the measurements that are recorded by {@link CommandMetrics}, so that they can be forwarded to
+ * metrics libraries such as Micrometer or a Prometheus client. All methods are called on the thread that
+ * recorded the measurement, and should therefore be cheap.
+ * <p>
+ * {@code command} is {@code null} when the input could not be parsed into a command
+ *
+ * @param <C> Command sender type
+ * @since 1.4.0
+ */
+public interface CommandMetricsExporter<C> {
+
+    /**
+     * Called when command input has been parsed
+     *
+     * @param command Parsed command
+     * @param nanos   Parse latency in nanoseconds
+     */
+    default void exportParse(@Nullable Command<C> command, long nanos) {
+    }
+
+    /**
+     * Called when a command execution handler has returned
+     *
+     * @param command Executed command
+     * @param nanos   Execution latency in nanoseconds
+     */
+    default void exportExecution(@NonNull Command<C> command, long nanos) {
+    }
+
+    /**
+     * Called when a command execution has completed
+     *
+     * @param command Executed command
+     * @param nanos   Total latency in nanoseconds
+     * @param failure Exception that the execution failed with, or {@code null} if it succeeded
+     */
+    default void exportCompletion(@Nullable Command<C> command, long nanos, @Nullable Throwable failure) {
+    }
+
+    /**
+     * Called when suggestions have been computed
+     *
+     * @param nanos Suggestion latency in nanoseconds
+     */
+    default void exportSuggestions(long nanos) {
+    }
+
+}
@@ -0,0 +1,128 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution statistics of a single command
+ *
+ * @since 1.4.0
+ */
+public final class CommandStatistics {
+
+    private final LongAdder executions = new LongAdder();
+    private final LatencyHistogram parseLatency = new LatencyHistogram();
+    private final LatencyHistogram executionLatency = new LatencyHistogram();
+    private final LatencyHistogram totalLatency = new LatencyHistogram();
+    private final Map<Class<? extends Throwable>, LongAdder> failures = new ConcurrentHashMap<>();
+
+    CommandStatistics() {
+    }
+
+    void recordParse(final long nanos) {
+        this.parseLatency.record(nanos);
+    }
+
+    void recordExecution(final long nanos) {
+        this.executionLatency.record(nanos);
+    }
+
+    void recordCompletion(final long nanos, final @Nullable Throwable failure) {
+        this.executions.increment();
+        this.totalLatency.record(nanos);
+        if (failure != null) {
+            this.failures.computeIfAbsent(failure.getClass(), type -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Get the number of times that the command has been executed, including failed executions
+     *
+     * @return Execution count
+     */
+    public long getExecutionCount() {
+        return this.executions.sum();
+    }
+
+    /**
+     * Get the time spent parsing the command input
+     *
+     * @return Parse latency histogram
+     */
+    public @NonNull LatencyHistogram getParseLatency() {
+        return this.parseLatency;
+    }
+
+    /**
+     * Get the time spent in the command execution handler
+     *
+     * @return Execution latency histogram
+     */
+    public @NonNull LatencyHistogram getExecutionLatency() {
+        return this.executionLatency;
+    }
+
+    /**
+     * Get the time between the command being submitted to the command manager and the execution completing, which
+     * includes pre- and post-processing and time spent waiting for the execution coordinator
+     *
+     * @return Total latency histogram
+     */
+    public @NonNull LatencyHistogram getTotalLatency() {
+        return this.totalLatency;
+    }
+
+    /**
+     * Get the number of failed executions
+     *
+     * @return Failure count
+     */
+    public long getFailureCount() {
+        long failures = 0L;
+        for (final LongAdder adder : this.failures.values()) {
+            failures += adder.sum();
+        }
+        return failures;
+    }
+
+    /**
+     * Get the number of failed executions by the type of the exception that the execution failed with
+     *
+     * @return Unmodifiable copy of the failure counts
+     */
+    public @NonNull Map<@NonNull Class<? extends Throwable>, @NonNull Long> getFailureCounts() {
+        final Map<Class<? extends Throwable>, Long> failures = new HashMap<>();
+        this.failures.forEach((type, adder) -> failures.put(type, adder.sum()));
+        return Collections.unmodifiableMap(failures);
+    }
+
+}
@@ -0,0 +1,110 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.arguments.CommandArgument;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Tracer that is notified when a phase of command processing begins and ends, so that the phases can be
+ * reported to profilers such as JDK Flight Recorder. The default tracer, {@link #none()}, traces nothing,
+ * which means that instrumented code only pays for a call that returns {@code null}
+ *
+ * @see cloud.commandframework.CommandManager#setCommandTracer(CommandTracer)
+ * @since 1.4.0
+ */
+@FunctionalInterface
+public interface CommandTracer {
+
+    /**
+     * Get a tracer that traces nothing
+     *
+     * @return No-op tracer
+     */
+    static @NonNull CommandTracer none() {
+        return phase -> null;
+    }
+
+    /**
+     * Begin tracing a phase. This is called on the thread that performs the phase, before it begins
+     *
+     * @param phase Phase that is about to begin
+     * @return Span that is completed when the phase ends, or {@code null} if the phase should not be traced
+     */
+    @Nullable Span begin(@NonNull Phase phase);
+
+
+    /**
+     * Phases of command processing
+     */
+    enum Phase {
+        /**
+         * Command execution, from the command being submitted to the command manager until it has been executed
+         */
+        EXECUTE,
+        /**
+         * Parsing of command input by the command tree
+         */
+        PARSE,
+        /**
+         * Computation of suggestions by the command tree
+         */
+        SUGGEST,
+        /**
+         * Parsing of a single argument
+         */
+        ARGUMENT_PARSE,
+        /**
+         * Invocation of a command execution handler
+         */
+        HANDLER
+    }
+
+
+    /**
+     * A traced phase
+     */
+    interface Span {
+
+        /**
+         * Complete the span once the phase has ended. This is called on the thread that performed the phase, except
+         * for {@link Phase#EXECUTE}, which is completed by the thread that completes the execution
+         *
+         * @param senderType Type of the command sender
+         * @param command    Command that the phase concerned, if known
+         * @param argument   Argument that the phase concerned, if any
+         * @param failure    Exception that the phase failed with, or {@code null} if it succeeded
+         */
+        void complete(
+                @NonNull Class<?> senderType,
+                @Nullable Command<?> command,
+                @Nullable CommandArgument<?, ?> argument,
+                @Nullable Throwable failure
+        );
+
+    }
+
+}
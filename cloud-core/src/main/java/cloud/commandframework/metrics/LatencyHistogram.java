@@ -0,0 +1,172 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies in nanoseconds that uses a fixed amount of memory. Values are counted in log-linear buckets:
+ * every power of two is split into {@value #SUB_BUCKETS} buckets, so that a recorded value is reported with a relative
+ * error of at most 12.5%. Values above {@code 2^40} nanoseconds (roughly 18 minutes) are counted in the last bucket.
+ * <p>
+ * Recording is lock free and may be done concurrently with taking {@link #snapshot() snapshots}
+ *
+ * @since 1.4.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a latency
+     *
+     * @param nanos Latency in nanoseconds. Negative values are recorded as zero
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0L, nanos);
+        this.buckets.incrementAndGet(bucketIndex(value));
+        this.sum.add(value);
+        if (value > this.max.get()) {
+            this.max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Take a snapshot of the recorded latencies
+     *
+     * @return Snapshot
+     */
+    public @NonNull Snapshot snapshot() {
+        final long[] counts = new long[BUCKET_COUNT];
+        long count = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = this.buckets.get(i);
+            count += counts[i];
+        }
+        return new Snapshot(counts, count, this.sum.sum(), this.max.get());
+    }
+
+    private static int bucketIndex(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long highestValueInBucket(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        final long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1L;
+    }
+
+
+    /**
+     * Immutable snapshot of a {@link LatencyHistogram}
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(final long @NonNull [] counts, final long count, final long sum, final long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        /**
+         * Get the number of recorded latencies
+         *
+         * @return Number of recorded latencies
+         */
+        public long getCount() {
+            return this.count;
+        }
+
+        /**
+         * Get the mean latency
+         *
+         * @return Mean latency in nanoseconds, or {@code 0} if nothing has been recorded
+         */
+        public double getMean() {
+            return this.count == 0L ? 0D : (double) this.sum / this.count;
+        }
+
+        /**
+         * Get the highest recorded latency
+         *
+         * @return Highest latency in nanoseconds
+         */
+        public long getMax() {
+            return this.max;
+        }
+
+        /**
+         * Get the latency at a percentile, such as {@code 99} for the p99 latency. The returned value is the highest
+         * value that is equivalent to the recorded latencies at the percentile, capped at {@link #getMax()}
+         *
+         * @param percentile Percentile between {@code 0} and {@code 100}
+         * @return Latency in nanoseconds, or {@code 0} if nothing has been recorded
+         */
+        public long getValueAtPercentile(final double percentile) {
+            if (this.count == 0L) {
+                return 0L;
+            }
+            final double clamped = Math.min(100D, Math.max(0D, percentile));
+            final long target = Math.max(1L, (long) Math.ceil(clamped / 100D * this.count));
+            long seen = 0L;
+            for (int i = 0; i < this.counts.length; i++) {
+                seen += this.counts[i];
+                if (seen >= target) {
+                    return Math.min(highestValueInBucket(i), this.max);
+                }
+            }
+            return this.max;
+        }
+
+    }
+
+}
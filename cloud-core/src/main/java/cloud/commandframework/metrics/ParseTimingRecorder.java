@@ -0,0 +1,106 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.context.CommandContext;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Records the time spent parsing individual command arguments. The command tree asks the recorder whether a parse
+ * should be {@link #sample() sampled} once per input, and only reads the clock for the arguments of sampled parses
+ *
+ * @param <C> Command sender type
+ * @since 1.4.0
+ */
+public interface ParseTimingRecorder<C> {
+
+    /**
+     * Get a recorder that never samples. This is the default recorder of command managers
+     *
+     * @param <C> Command sender type
+     * @return Recorder that does not record anything
+     */
+    static <C> @NonNull ParseTimingRecorder<C> none() {
+        return new ParseTimingRecorder<C>() {
+            @Override
+            public boolean sample() {
+                return false;
+            }
+
+            @Override
+            public void record(
+                    final @NonNull CommandContext<C> context,
+                    final @NonNull CommandArgument<C, ?> argument,
+                    final long nanos,
+                    final boolean success
+            ) {
+            }
+        };
+    }
+
+    /**
+     * Get a new recorder that times the arguments of every parse
+     *
+     * @param <C> Command sender type
+     * @return Recorder that samples every parse
+     */
+    static <C> @NonNull SamplingParseTimingRecorder<C> always() {
+        return new SamplingParseTimingRecorder<>(1);
+    }
+
+    /**
+     * Get a new recorder that times the arguments of one in {@code rate} parses, picked at random
+     *
+     * @param rate Sample rate. Must be at least 1
+     * @param <C>  Command sender type
+     * @return Sampling recorder
+     */
+    static <C> @NonNull SamplingParseTimingRecorder<C> sampled(final int rate) {
+        return new SamplingParseTimingRecorder<>(rate);
+    }
+
+    /**
+     * Decide whether the arguments of the input that is about to be parsed should be timed
+     *
+     * @return {@code true} if the parse should be timed
+     */
+    boolean sample();
+
+    /**
+     * Record the time it took to parse an argument of a sampled parse
+     *
+     * @param context  Command context of the parse
+     * @param argument Argument that was parsed
+     * @param nanos    Elapsed time in nanoseconds, including argument preprocessing
+     * @param success  Whether the argument was parsed successfully
+     */
+    void record(
+            @NonNull CommandContext<C> context,
+            @NonNull CommandArgument<C, ?> argument,
+            long nanos,
+            boolean success
+    );
+
+}
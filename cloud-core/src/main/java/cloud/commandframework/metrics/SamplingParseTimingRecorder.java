@@ -0,0 +1,139 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.context.CommandContext;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link ParseTimingRecorder} that samples one in {@link #getSampleRate() N} parses at random, and aggregates the
+ * recorded timings per argument. Arguments are told apart by identity, so that arguments with the same name in
+ * different commands get separate statistics
+ *
+ * @param <C> Command sender type
+ * @since 1.4.0
+ */
+public final class SamplingParseTimingRecorder<C> implements ParseTimingRecorder<C> {
+
+    private final int sampleRate;
+    private final Map<ArgumentKey, ArgumentTimingStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new sampling recorder
+     *
+     * @param sampleRate One in how many parses to sample. Must be at least 1
+     */
+    public SamplingParseTimingRecorder(final int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("The sample rate must be at least 1, was " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Get one in how many parses are sampled
+     *
+     * @return Sample rate
+     */
+    public int getSampleRate() {
+        return this.sampleRate;
+    }
+
+    @Override
+    public boolean sample() {
+        return this.sampleRate == 1 || ThreadLocalRandom.current().nextInt(this.sampleRate) == 0;
+    }
+
+    @Override
+    public void record(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandArgument<C, ?> argument,
+            final long nanos,
+            final boolean success
+    ) {
+        this.statistics.computeIfAbsent(
+                new ArgumentKey(argument),
+                key -> new ArgumentTimingStatistics(this.sampleRate)
+        ).record(nanos, success);
+    }
+
+    /**
+     * Get the statistics of an argument
+     *
+     * @param argument Argument
+     * @return Statistics, or {@code null} if no parse of the argument has been sampled
+     */
+    public @Nullable ArgumentTimingStatistics getStatistics(final @NonNull CommandArgument<C, ?> argument) {
+        return this.statistics.get(new ArgumentKey(argument));
+    }
+
+    /**
+     * Get the statistics of all arguments that have been sampled. The returned map compares arguments by identity
+     *
+     * @return Unmodifiable copy of the statistics
+     */
+    @SuppressWarnings("unchecked")
+    public @NonNull Map<@NonNull CommandArgument<C, ?>, @NonNull ArgumentTimingStatistics> getAllStatistics() {
+        final Map<CommandArgument<C, ?>, ArgumentTimingStatistics> statistics = new IdentityHashMap<>();
+        this.statistics.forEach((key, value) -> statistics.put((CommandArgument<C, ?>) key.argument, value));
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Discard all recorded statistics
+     */
+    public void reset() {
+        this.statistics.clear();
+    }
+
+
+    private static final class ArgumentKey {
+
+        private final CommandArgument<?, ?> argument;
+
+        private ArgumentKey(final @NonNull CommandArgument<?, ?> argument) {
+            this.argument = argument;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof ArgumentKey && ((ArgumentKey) o).argument == this.argument;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.argument);
+        }
+
+    }
+
+}
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -93,6 +94,37 @@ class CommandHelpHandlerTest {
         this.printTopic("vec", query4);
     }
 
+    @Test
+    void testIndexUpdates() {
+        final CommandManager<TestCommandSender> manager = new TestCommandManager();
+        manager.command(manager.commandBuilder("alpha").permission("no"));
+        manager.command(manager.commandBuilder("alpine", "peak"));
+        final CommandHelpHandler<TestCommandSender> helpHandler = manager.getCommandHelpHandler();
+        Assertions.assertSame(helpHandler, manager.getCommandHelpHandler());
+
+        final TestCommandSender sender = new TestCommandSender();
+        Assertions.assertEquals(Arrays.asList("alpha", "alpine"), this.syntaxStrings(helpHandler.queryHelp(null, "al")));
+        Assertions.assertEquals(Collections.singletonList("alpine"), this.syntaxStrings(helpHandler.queryHelp(sender, "al")));
+        Assertions.assertEquals(Collections.singletonList("alpine"), this.syntaxStrings(helpHandler.queryHelp(sender, "")));
+        Assertions.assertTrue(helpHandler.queryHelp(sender, "peak") instanceof CommandHelpHandler.VerboseHelpTopic);
+
+        manager.command(manager.commandBuilder("altitude"));
+        Assertions.assertEquals(
+                Arrays.asList("alpine", "altitude"),
+                this.syntaxStrings(helpHandler.queryHelp(sender, "al"))
+        );
+        Assertions.assertEquals(3, helpHandler.getAllCommands().size());
+    }
+
+    private List<String> syntaxStrings(final CommandHelpHandler.HelpTopic<TestCommandSender> helpTopic) {
+        final List<String> syntaxStrings = new ArrayList<>();
+        for (final CommandHelpHandler.VerboseHelpEntry<TestCommandSender> entry
+                : ((CommandHelpHandler.IndexHelpTopic<TestCommandSender>) helpTopic).getEntries()) {
+            syntaxStrings.add(entry.getSyntaxString());
+        }
+        return syntaxStrings;
+    }
+
     private void printTopic(
             final String query,
             final CommandHelpHandler.HelpTopic<TestCommandSender> helpTopic
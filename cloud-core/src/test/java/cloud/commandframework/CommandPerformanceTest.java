@@ -25,15 +25,9 @@ package cloud.commandframework;
 
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.execution.CommandResult;
-import org.junit.jupiter.api.Assertions;
+import cloud.commandframework.metrics.ParseTimingRecorder;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
-import org.openjdk.jmh.results.RunResult;
-import org.openjdk.jmh.runner.Runner;
-import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
-
-import java.util.Collection;
 
 final class CommandPerformanceTest {
 
@@ -43,6 +37,7 @@ final class CommandPerformanceTest {
     @BeforeAll
     static void setup() {
         manager = new TestCommandManager();
+        manager.setParseTimingRecorder(ParseTimingRecorder.always());
 
         final StringBuilder literalBuilder = new StringBuilder("literals");
 
@@ -77,16 +72,4 @@ final class CommandPerformanceTest {
         );
     }
 
-    @Test
-    void testCompleteExecution() throws Exception {
-        if (System.getProperty("verboseBenchmarks", "false").equalsIgnoreCase("false")) {
-            return;
-        }
-        final Options options = new OptionsBuilder()
-                .include(ExecutionBenchmark.class.getSimpleName())
-                .build();
-        final Collection<RunResult> results = new Runner(options).run();
-        Assertions.assertFalse(results.isEmpty());
-    }
-
 }
@@ -146,6 +146,20 @@ public class CommandSuggestionsTest {
         final String input4 = "test var one ";
         final List<String> suggestions4 = manager.suggest(new TestCommandSender(), input4);
         Assertions.assertEquals(Arrays.asList("foo", "bar"), suggestions4);
+        /* Static suggestions are looked up by prefix ignoring case, but still filtered case sensitively */
+        final String input5 = "test var one F";
+        final List<String> suggestions5 = manager.suggest(new TestCommandSender(), input5);
+        Assertions.assertTrue(suggestions5.isEmpty());
+    }
+
+    @Test
+    void testStaticSuggestionsAreNotFiltered() {
+        final CommandManager<TestCommandSender> manager = new TestCommandManager();
+        manager.command(manager.commandBuilder("test").argument(EnumArgument.of(TestEnum.class, "enum")));
+        /* Processors receive all static suggestions, so that they may match them in other ways than by prefix */
+        manager.setCommandSuggestionProcessor((context, suggestions) -> suggestions);
+        Assertions.assertEquals(Arrays.asList("foo", "bar"), manager.suggest(new TestCommandSender(), "test f"));
+        Assertions.assertEquals(Arrays.asList("foo", "bar"), manager.suggest(new TestCommandSender(), "test b"));
     }
 
     @Test
@@ -23,12 +23,18 @@
 //
 package cloud.commandframework;
 
+import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.arguments.StaticArgument;
+import cloud.commandframework.arguments.flags.CommandFlag;
 import cloud.commandframework.arguments.standard.StringArgument;
 import cloud.commandframework.meta.SimpleCommandMeta;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 class CommandTest {
 
     @Test()
@@ -43,4 +49,22 @@ class CommandTest {
                         .argument(StaticArgument.of("somethingelse")).build());
     }
 
+    @Test
+    void builderImmutability() {
+        final Command.Builder<TestCommandSender> base = Command.<TestCommandSender>newBuilder("test", SimpleCommandMeta.empty())
+                .literal("shared");
+        final Command.Builder<TestCommandSender> first = base.literal("first")
+                .flag(CommandFlag.newBuilder("flag"));
+        final Command.Builder<TestCommandSender> second = base.literal("second").literal("third");
+
+        Assertions.assertEquals(2, base.build().getArguments().size());
+        Assertions.assertEquals(Arrays.asList("test", "shared", "first", "flags"), names(first.build()));
+        Assertions.assertEquals(Arrays.asList("test", "shared", "second", "third"), names(second.build()));
+        Assertions.assertEquals(Arrays.asList("test", "shared", "first", "flags"), names(first.build()));
+    }
+
+    private static List<String> names(final Command<TestCommandSender> command) {
+        return command.getArguments().stream().map(CommandArgument::getName).collect(Collectors.toList());
+    }
+
 }
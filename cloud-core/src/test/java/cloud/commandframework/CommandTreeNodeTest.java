@@ -0,0 +1,165 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.permission.CommandPermission;
+import cloud.commandframework.permission.Permission;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+class CommandTreeNodeTest {
+
+    private static final int COMMANDS = 500;
+
+    /**
+     * Reports the memory retained by the nodes of a command tree, excluding the arguments and
+     * commands that they hold
+     */
+    @Test
+    void testNodeFootprint() {
+        final List<CommandTree.Node<CommandArgument<TestCommandSender, ?>>> nodes = createTree();
+        Assertions.assertEquals(3 * COMMANDS, nodes.size());
+
+        final List<Object> values = new ArrayList<>();
+        for (final CommandTree.Node<CommandArgument<TestCommandSender, ?>> node : nodes) {
+            values.add(node.getValue());
+        }
+        final GraphLayout footprint = GraphLayout.parseInstance(nodes.toArray())
+                .subtract(GraphLayout.parseInstance(values.toArray()));
+        System.out.printf(
+                "%d nodes retain %d bytes (%d bytes per node)%n",
+                nodes.size(),
+                footprint.totalSize(),
+                footprint.totalSize() / nodes.size()
+        );
+    }
+
+    @Test
+    void testNodesDoNotAllocatePerNodeCollections() throws ReflectiveOperationException {
+        final List<CommandTree.Node<CommandArgument<TestCommandSender, ?>>> nodes = createTree();
+        Assertions.assertEquals(3 * COMMANDS, nodes.size());
+
+        final Field children = CommandTree.Node.class.getDeclaredField("children");
+        final Field nodeMeta = CommandTree.Node.class.getDeclaredField("nodeMeta");
+        children.setAccessible(true);
+        nodeMeta.setAccessible(true);
+
+        Object leafChildren = null;
+        for (final CommandTree.Node<CommandArgument<TestCommandSender, ?>> node : nodes) {
+            /* The permission is stored in its own field, so no meta map should have been created */
+            Assertions.assertNotNull(node.getNodeMeta().get("permission"));
+            Assertions.assertNull(nodeMeta.get(node));
+            if (node.isLeaf()) {
+                /* All leaves share a single empty children array */
+                if (leafChildren == null) {
+                    leafChildren = children.get(node);
+                }
+                Assertions.assertSame(leafChildren, children.get(node));
+            }
+        }
+        Assertions.assertNotNull(leafChildren);
+    }
+
+    @Test
+    void testNodeMetaIsCached() {
+        final CommandTree.Node<CommandArgument<TestCommandSender, ?>> node = this.createNode();
+        Assertions.assertSame(node.getNodeMeta(), node.getNodeMeta());
+    }
+
+    @Test
+    void testNodeMetaIsMutable() {
+        final CommandTree.Node<CommandArgument<TestCommandSender, ?>> node = this.createNode();
+        final Map<String, Object> meta = node.getNodeMeta();
+        final CommandPermission permission = Permission.of("test.permission");
+
+        meta.put("permission", permission);
+        meta.put("key", "value");
+        Assertions.assertEquals(2, meta.size());
+        Assertions.assertSame(permission, meta.get("permission"));
+
+        for (final Map.Entry<String, Object> entry : meta.entrySet()) {
+            if (entry.getKey().equals("key")) {
+                Assertions.assertEquals("value", entry.setValue("other"));
+            }
+        }
+        Assertions.assertEquals("other", node.getNodeMeta().get("key"));
+
+        final Iterator<Map.Entry<String, Object>> iterator = meta.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getKey().equals("permission")) {
+                iterator.remove();
+            }
+        }
+        Assertions.assertFalse(node.getNodeMeta().containsKey("permission"));
+        Assertions.assertEquals(1, meta.size());
+
+        Assertions.assertEquals("other", meta.remove("key"));
+        meta.put("key", "value");
+        meta.put("permission", permission);
+        meta.clear();
+        Assertions.assertTrue(node.getNodeMeta().isEmpty());
+    }
+
+    private static List<CommandTree.Node<CommandArgument<TestCommandSender, ?>>> createTree() {
+        final CommandManager<TestCommandSender> manager = new TestCommandManager();
+        for (int i = 0; i < COMMANDS; i++) {
+            manager.command(manager.commandBuilder("command" + i)
+                    .literal("sub")
+                    .argument(IntegerArgument.of("value"))
+                    .handler(c -> {
+                    }));
+        }
+        final List<CommandTree.Node<CommandArgument<TestCommandSender, ?>>> nodes = new ArrayList<>();
+        collect(manager.getCommandTree().getRootNodes(), nodes);
+        return nodes;
+    }
+
+    private CommandTree.Node<CommandArgument<TestCommandSender, ?>> createNode() {
+        final CommandManager<TestCommandSender> manager = new TestCommandManager();
+        manager.command(manager.commandBuilder("test").handler(c -> {
+        }));
+        return manager.getCommandTree().getNamedNode("test");
+    }
+
+    private static void collect(
+            final Collection<CommandTree.Node<CommandArgument<TestCommandSender, ?>>> children,
+            final List<CommandTree.Node<CommandArgument<TestCommandSender, ?>>> nodes
+    ) {
+        for (final CommandTree.Node<CommandArgument<TestCommandSender, ?>> child : children) {
+            nodes.add(child);
+            collect(child.getChildren(), nodes);
+        }
+    }
+
+}
@@ -24,14 +24,19 @@
 package cloud.commandframework;
 
 import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.StandardCommandSyntaxFormatter;
 import cloud.commandframework.arguments.compound.ArgumentPair;
+import cloud.commandframework.arguments.parser.ArgumentParseResult;
+import cloud.commandframework.arguments.parser.ArgumentParser;
 import cloud.commandframework.arguments.preprocessor.RegexPreprocessor;
 import cloud.commandframework.arguments.standard.EnumArgument;
 import cloud.commandframework.arguments.standard.FloatArgument;
 import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.arguments.standard.LongArgument;
 import cloud.commandframework.arguments.standard.StringArgument;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.AmbiguousNodeException;
+import cloud.commandframework.exceptions.InvalidSyntaxException;
 import cloud.commandframework.exceptions.NoPermissionException;
 import cloud.commandframework.meta.SimpleCommandMeta;
 import cloud.commandframework.types.tuples.Pair;
@@ -45,7 +50,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class CommandTreeTest {
 
@@ -329,6 +336,12 @@ class CommandTreeTest {
         manager.executeCommand(new TestCommandSender(), "flags --num 500").join();
         manager.executeCommand(new TestCommandSender(), "flags --num 63 --enum potato --test").join();
         manager.executeCommand(new TestCommandSender(), "flags -tf --num 63 --enum potato").join();
+        manager.executeCommand(new TestCommandSender(), "flags -TF --NUM 63").join();
+        manager.executeCommand(new TestCommandSender(), "flags -tt").join();
+        Assertions.assertThrows(CompletionException.class, () ->
+                manager.executeCommand(new TestCommandSender(), "flags -tf -t").join());
+        Assertions.assertThrows(CompletionException.class, () ->
+                manager.executeCommand(new TestCommandSender(), "flags -xy").join());
     }
 
     @Test
@@ -474,12 +487,205 @@ class CommandTreeTest {
         manager.executeCommand(new TestCommandSender(), "optionals").join();
     }
 
+    @Test
+    void testParseResultCache() {
+        final CommandManager<TestCommandSender> cachingManager = new TestCommandManager();
+        cachingManager.setSetting(CommandManager.ManagerSettings.CACHE_PARSE_RESULTS, true);
+        final CommandArgument<TestCommandSender, Integer> argument = IntegerArgument.of("num");
+        final int[] results = new int[2];
+        cachingManager.command(cachingManager.commandBuilder("cached")
+                .argument(argument)
+                .handler(c -> results[0] += c.<Integer>get("num")));
+        cachingManager.command(cachingManager.commandBuilder("cached2")
+                .argument(IntegerArgument.of("num"))
+                .argument(IntegerArgument.of("num2"))
+                .handler(c -> results[1] = c.<Integer>get("num") + c.<Integer>get("num2")));
+        cachingManager.executeCommand(new TestCommandSender(), "cached 5").join();
+        cachingManager.executeCommand(new TestCommandSender(), "cached 5").join();
+        Assertions.assertThrows(
+                CompletionException.class,
+                () -> cachingManager.executeCommand(new TestCommandSender(), "cached 5 5").join()
+        );
+        Assertions.assertEquals(10, results[0]);
+        Assertions.assertEquals(2, cachingManager.getCommandTree().getParseResultCaches().get(argument.getParser()).getHits());
+        cachingManager.executeCommand(new TestCommandSender(), "cached2 3 3").join();
+        Assertions.assertEquals(6, results[1]);
+    }
+
+    @Test
+    void testPrimitiveArguments() {
+        final CommandManager<TestCommandSender> primitiveManager = new TestCommandManager();
+        final CommandArgument<TestCommandSender, Integer> amount = IntegerArgument.of("amount");
+        final double[] results = new double[3];
+        primitiveManager.command(primitiveManager.commandBuilder("give")
+                .argument(amount)
+                .argument(FloatArgument.of("scale"))
+                .argument(LongArgument.optional("id", 7L))
+                .handler(c -> {
+                    results[0] = c.getInt(amount) * c.getFloat("scale");
+                    results[1] = c.<Integer>get("amount");
+                    results[2] = c.getLong("id");
+                    Assertions.assertEquals(3, c.asMap().get("amount"));
+                }));
+        primitiveManager.executeCommand(new TestCommandSender(), "give 3 1.5").join();
+        Assertions.assertArrayEquals(new double[]{4.5D, 3D, 7D}, results);
+        Assertions.assertThrows(
+                CompletionException.class,
+                () -> primitiveManager.executeCommand(new TestCommandSender(), "give three 1.5").join()
+        );
+
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), primitiveManager);
+        context.storeDouble("value", 2.5D);
+        Assertions.assertEquals(2.5D, context.getDouble("value"));
+        Assertions.assertEquals(2.5D, context.<Double>get("value"));
+        context.store("value", "string");
+        Assertions.assertEquals("string", context.get("value"));
+        context.storeInt("value", 4);
+        Assertions.assertEquals(4, context.getInt("value"));
+        Assertions.assertThrows(ClassCastException.class, () -> context.getDouble("value"));
+        context.remove("value");
+        Assertions.assertFalse(context.contains("value"));
+    }
+
+    @Test
+    void testStacklessParseFailures() {
+        final CompletionException completionException = Assertions.assertThrows(
+                CompletionException.class,
+                () -> manager.executeCommand(new TestCommandSender(), "test one two three four").join()
+        );
+        final InvalidSyntaxException exception = (InvalidSyntaxException) completionException.getCause();
+        Assertions.assertEquals(0, exception.getStackTrace().length);
+        Assertions.assertFalse(exception.getCorrectSyntax().isEmpty());
+        Assertions.assertFalse(exception.getCurrentChain().isEmpty());
+    }
+
+    @Test
+    void testParsePlanCache() {
+        final CommandManager<TestCommandSender> cachingManager = new TestCommandManager();
+        cachingManager.setSetting(CommandManager.ManagerSettings.CACHE_PARSE_PLANS, true);
+        final int[] results = new int[2];
+        cachingManager.command(cachingManager.commandBuilder("planned")
+                .argument(IntegerArgument.of("num"))
+                .argument(IntegerArgument.optional("opt"))
+                .handler(c -> results[0] += c.<Integer>get("num") + c.getOrDefault("opt", 0)));
+        cachingManager.command(cachingManager.commandBuilder("unplanned")
+                .argument(StringArgument.of("str"))
+                .handler(c -> results[1]++));
+        final CommandParsePlanCache<TestCommandSender> cache = cachingManager.getCommandTree().getParsePlanCache();
+
+        cachingManager.executeCommand(new TestCommandSender(), "planned 5").join();
+        cachingManager.executeCommand(new TestCommandSender(), "planned 5").join();
+        cachingManager.executeCommand(new TestCommandSender(), "planned 5 2").join();
+        cachingManager.executeCommand(new TestCommandSender(), "planned 5 2").join();
+        Assertions.assertEquals(24, results[0]);
+        Assertions.assertEquals(2, cache.getHits());
+        Assertions.assertEquals(2, cache.size());
+
+        cachingManager.executeCommand(new TestCommandSender(), "unplanned foo").join();
+        cachingManager.executeCommand(new TestCommandSender(), "unplanned foo").join();
+        Assertions.assertEquals(2, results[1]);
+        Assertions.assertEquals(2, cache.size());
+
+        cachingManager.command(cachingManager.commandBuilder("other").handler(c -> {
+        }));
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testDefaultValues() {
+        final CommandManager<TestCommandSender> manager = new TestCommandManager();
+        final int[] parses = new int[1];
+        final ArgumentParser<TestCommandSender, Integer> countingParser = new ArgumentParser<TestCommandSender, Integer>() {
+            @Override
+            public ArgumentParseResult<Integer> parse(
+                    final CommandContext<TestCommandSender> commandContext,
+                    final Queue<String> inputQueue
+            ) {
+                parses[0]++;
+                return ArgumentParseResult.success(Integer.parseInt(inputQueue.remove()));
+            }
+
+            @Override
+            public boolean isContextFree() {
+                return true;
+            }
+
+            @Override
+            public boolean isCacheable() {
+                return true;
+            }
+        };
+        final int[] results = new int[2];
+        manager.command(manager.commandBuilder("defaults")
+                .argument(CommandArgument.<TestCommandSender, Integer>ofType(Integer.class, "parsed")
+                        .withParser(countingParser)
+                        .asOptionalWithDefault("3")
+                        .build())
+                .argument(IntegerArgument.<TestCommandSender>optional("supplied").withDefaultValueSupplier(c -> 7))
+                .handler(c -> {
+                    results[0] = c.getInt("parsed");
+                    results[1] = c.getInt("supplied");
+                }));
+
+        manager.executeCommand(new TestCommandSender(), "defaults").join();
+        manager.executeCommand(new TestCommandSender(), "defaults").join();
+        Assertions.assertEquals(3, results[0]);
+        Assertions.assertEquals(7, results[1]);
+        Assertions.assertEquals(1, parses[0]);
+
+        manager.executeCommand(new TestCommandSender(), "defaults 4 5").join();
+        Assertions.assertEquals(4, results[0]);
+        Assertions.assertEquals(5, results[1]);
+        Assertions.assertEquals(2, parses[0]);
+
+        Assertions.assertThrows(IllegalStateException.class, () ->
+                IntegerArgument.<TestCommandSender>of("required").withDefaultValueSupplier(c -> 1));
+
+        /* Setting a supplier leaves the original argument untouched */
+        final CommandArgument<TestCommandSender, Integer> optional = IntegerArgument.optional("optional");
+        final CommandArgument<TestCommandSender, Integer> supplied = optional.withDefaultValueSupplier(c -> 2);
+        Assertions.assertNotSame(optional, supplied);
+        Assertions.assertFalse(optional.hasDefaultValueSupplier());
+        Assertions.assertTrue(supplied.hasDefaultValueSupplier());
+        Assertions.assertTrue(supplied.copy().hasDefaultValueSupplier());
+    }
+
 
     public static final class SpecificCommandSender extends TestCommandSender {
 
     }
 
 
+    @Test
+    void testSyntaxCache() {
+        final CommandManager<TestCommandSender> manager = new TestCommandManager();
+        manager.command(manager.commandBuilder("syntax").literal("one"));
+        final CommandTree<TestCommandSender> tree = manager.getCommandTree();
+        final CommandTree.Node<CommandArgument<TestCommandSender, ?>> node = tree.getNamedNode("syntax");
+        final String syntax = tree.formatSyntax(Collections.emptyList(), node);
+        Assertions.assertSame(syntax, tree.formatSyntax(Collections.emptyList(), node));
+
+        /* Modifying the tree invalidates the cached syntax strings */
+        manager.command(manager.commandBuilder("syntax").literal("two"));
+        Assertions.assertTrue(tree.formatSyntax(Collections.emptyList(), node).contains("one|two"));
+
+        manager.setCommandSyntaxFormatter((arguments, trailing) -> "custom");
+        Assertions.assertEquals("custom", tree.formatSyntax(Collections.emptyList(), node));
+
+        /* Subclasses of the standard formatter are not cached unless they opt in */
+        final AtomicInteger formatted = new AtomicInteger();
+        manager.setCommandSyntaxFormatter(new StandardCommandSyntaxFormatter<TestCommandSender>() {
+            @Override
+            protected FormattingInstance createInstance() {
+                formatted.incrementAndGet();
+                return super.createInstance();
+            }
+        });
+        tree.formatSyntax(Collections.emptyList(), node);
+        tree.formatSyntax(Collections.emptyList(), node);
+        Assertions.assertEquals(2, formatted.get());
+    }
+
     public static final class Vector2 {
 
         private final double x;
@@ -0,0 +1,76 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework;
+
+import cloud.commandframework.exceptions.CommandParseException;
+import cloud.commandframework.exceptions.ExceptionHandlerRegistry;
+import cloud.commandframework.exceptions.NoSuchCommandException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+class ExceptionHandlerTest {
+
+    @Test
+    void testHierarchicalResolution() {
+        final CommandManager<TestCommandSender> manager = new TestCommandManager();
+        manager.command(manager.commandBuilder("test"));
+        final AtomicReference<String> handled = new AtomicReference<>();
+        manager.registerExceptionHandler(CommandParseException.class, (sender, e) -> handled.set("parse"));
+
+        final Throwable failure = Assertions.assertThrows(
+                CompletionException.class,
+                () -> manager.executeCommand(new TestCommandSender(), "missing").join()
+        );
+        manager.handleExecutionFailure(new TestCommandSender(), failure, (sender, e) -> handled.set("default"));
+        Assertions.assertEquals("parse", handled.get());
+        Assertions.assertNotNull(manager.getExceptionHandler(NoSuchCommandException.class));
+
+        /* Handlers of subclasses take precedence over those of their super classes */
+        manager.registerExceptionHandler(NoSuchCommandException.class, (sender, e) -> handled.set("command"));
+        manager.handleExecutionFailure(new TestCommandSender(), failure, (sender, e) -> handled.set("default"));
+        Assertions.assertEquals("command", handled.get());
+
+        manager.handleExecutionFailure(new TestCommandSender(), new IllegalStateException(), (sender, e) -> {
+            Assertions.assertTrue(e instanceof IllegalStateException);
+            handled.set("default");
+        });
+        Assertions.assertEquals("default", handled.get());
+    }
+
+    @Test
+    void testRegistry() {
+        final ExceptionHandlerRegistry<String> registry = new ExceptionHandlerRegistry<>();
+        Assertions.assertFalse(registry.handle("sender", new RuntimeException()));
+        final AtomicReference<Throwable> handled = new AtomicReference<>();
+        registry.register(Throwable.class, (sender, e) -> handled.set(e));
+        final IllegalArgumentException exception = new IllegalArgumentException();
+        Assertions.assertTrue(registry.handle("sender", new CompletionException(exception)));
+        Assertions.assertSame(exception, handled.get());
+        Assertions.assertNull(new ExceptionHandlerRegistry<String>().resolve(Exception.class));
+    }
+
+}
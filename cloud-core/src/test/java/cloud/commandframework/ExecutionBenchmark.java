@@ -1,75 +0,0 @@
-//
-// MIT License
-//
-// Copyright (c) 2020 Alexander Söderberg & Contributors
-//
-// Permission is hereby granted, free of charge, to any person obtaining a copy
-// of this software and associated documentation files (the "Software"), to deal
-// in the Software without restriction, including without limitation the rights
-// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
-// copies of the Software, and to permit persons to whom the Software is
-// furnished to do so, subject to the following conditions:
-//
-// The above copyright notice and this permission notice shall be included in all
-// copies or substantial portions of the Software.
-//
-// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
-// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
-// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
-// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
-// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
-// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
-// SOFTWARE.
-//
-package cloud.commandframework;
-
-import org.openjdk.jmh.annotations.Benchmark;
-import org.openjdk.jmh.annotations.BenchmarkMode;
-import org.openjdk.jmh.annotations.Fork;
-import org.openjdk.jmh.annotations.Level;
-import org.openjdk.jmh.annotations.Mode;
-import org.openjdk.jmh.annotations.OutputTimeUnit;
-import org.openjdk.jmh.annotations.Scope;
-import org.openjdk.jmh.annotations.Setup;
-import org.openjdk.jmh.annotations.State;
-import org.openjdk.jmh.annotations.TearDown;
-
-import java.util.concurrent.TimeUnit;
-
-@State(Scope.Thread)
-@OutputTimeUnit(TimeUnit.NANOSECONDS)
-@BenchmarkMode(Mode.AverageTime)
-public class ExecutionBenchmark {
-
-    private CommandManager<TestCommandSender> manager;
-    private String literalChain;
-
-    @Setup(Level.Trial)
-    public void setup() {
-        manager = new TestCommandManager();
-
-        final StringBuilder literalBuilder = new StringBuilder("literals");
-
-        /* Create 100 literals */
-        Command.Builder<TestCommandSender> builder = manager.commandBuilder("literals");
-        for (int i = 1; i < 101; i++) {
-            final String literal = Integer.toString(i);
-            builder = builder.literal(literal);
-            literalBuilder.append(' ').append(literal);
-        }
-        manager.command(builder.build());
-        literalChain = literalBuilder.toString();
-
-    }
-
-    @TearDown
-    public void clean() {
-    }
-
-    @Benchmark
-    @Fork(3)
-    public void testCommandParsing() {
-        manager.executeCommand(new TestCommandSender(), literalChain).join();
-    }
-
-}
@@ -24,6 +24,7 @@
 package cloud.commandframework;
 
 import cloud.commandframework.annotations.specifier.Range;
+import cloud.commandframework.arguments.parser.ArgumentParseResult;
 import cloud.commandframework.arguments.parser.ArgumentParser;
 import cloud.commandframework.arguments.parser.ParserParameters;
 import cloud.commandframework.arguments.parser.ParserRegistry;
@@ -105,4 +106,40 @@ public class ParserRegistryTest {
                 .orElseThrow(() -> new IllegalArgumentException("No parser found for enum"));
     }
 
+    @Test
+    void testParserInterning() {
+        final ParserRegistry<TestCommandSender> parserRegistry = new StandardParserRegistry<>();
+        final ArgumentParser<TestCommandSender, Integer> first = parserRegistry.createParser(
+                TypeToken.get(Integer.class),
+                ParserParameters.single(StandardParameters.RANGE_MAX, RANGE_MAX)
+        ).orElseThrow(NullPointerException::new);
+        final ArgumentParser<TestCommandSender, Integer> second = parserRegistry.createParser(
+                TypeToken.get(int.class),
+                ParserParameters.single(StandardParameters.RANGE_MAX, RANGE_MAX)
+        ).orElseThrow(NullPointerException::new);
+        final ArgumentParser<TestCommandSender, Integer> other = parserRegistry.createParser(
+                TypeToken.get(Integer.class),
+                ParserParameters.single(StandardParameters.RANGE_MAX, RANGE_MIN)
+        ).orElseThrow(NullPointerException::new);
+        Assertions.assertSame(first, second);
+        Assertions.assertNotSame(first, other);
+
+        final ArgumentParser<TestCommandSender, String> completions = parserRegistry.createParser(
+                TypeToken.get(String.class),
+                ParserParameters.single(StandardParameters.COMPLETIONS, new String[]{"a", "b"})
+        ).orElseThrow(NullPointerException::new);
+        Assertions.assertSame(completions, parserRegistry.createParser(
+                TypeToken.get(String.class),
+                ParserParameters.single(StandardParameters.COMPLETIONS, new String[]{"a", "b"})
+        ).orElseThrow(NullPointerException::new));
+
+        /* Parsers that are not context free are never shared */
+        parserRegistry.registerNamedParserSupplier("contextual", parameters ->
+                (context, input) -> ArgumentParseResult.success(parameters));
+        Assertions.assertNotSame(
+                parserRegistry.createParser("contextual", ParserParameters.empty()).orElseThrow(NullPointerException::new),
+                parserRegistry.createParser("contextual", ParserParameters.empty()).orElseThrow(NullPointerException::new)
+        );
+    }
+
 }
@@ -0,0 +1,185 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.arguments;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.TestCommandManager;
+import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.context.CommandContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CoalescingCommandSuggestionEngineTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        this.executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        this.executor.shutdownNow();
+        Assertions.assertTrue(this.executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCoalescing() throws Exception {
+        final CommandManager<TestCommandSender> manager = new TestCommandManager();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger computations = new AtomicInteger();
+        final CoalescingCommandSuggestionEngine<TestCommandSender> engine = new CoalescingCommandSuggestionEngine<>(
+                (context, input) -> {
+                    computations.incrementAndGet();
+                    started.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return Collections.singletonList(input);
+                }
+        );
+        final TestCommandSender sender = new TestCommandSender();
+
+        final Request first = this.suggest(manager, engine, sender, "a");
+        Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+        final Request identical = this.suggest(manager, engine, sender, "a");
+        identical.awaitBlocked();
+        final Request superseded = this.suggest(manager, engine, sender, "ab");
+        superseded.awaitBlocked();
+        final Request latest = this.suggest(manager, engine, sender, "abc");
+        /* The superseded request completes as soon as it is replaced */
+        Assertions.assertEquals(Collections.emptyList(), superseded.result.get(10, TimeUnit.SECONDS));
+        latest.awaitBlocked();
+
+        release.countDown();
+        Assertions.assertEquals(Collections.singletonList("a"), first.result.get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(Collections.singletonList("a"), identical.result.get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(Collections.singletonList("abc"), latest.result.get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, computations.get());
+    }
+
+    @Test
+    void testDelegateError() throws Exception {
+        final CommandManager<TestCommandSender> manager = new TestCommandManager();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CoalescingCommandSuggestionEngine<TestCommandSender> engine = new CoalescingCommandSuggestionEngine<>(
+                (context, input) -> {
+                    if (input.equals("error")) {
+                        started.countDown();
+                        try {
+                            release.await(10, TimeUnit.SECONDS);
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        throw new StackOverflowError();
+                    }
+                    return Collections.singletonList(input);
+                }
+        );
+        final TestCommandSender sender = new TestCommandSender();
+
+        final Request failing = this.suggest(manager, engine, sender, "error");
+        Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+        final Request identical = this.suggest(manager, engine, sender, "error");
+        identical.awaitBlocked();
+        final Request queued = this.suggest(manager, engine, sender, "ok");
+        queued.awaitBlocked();
+
+        release.countDown();
+        final ExecutionException failure = Assertions.assertThrows(
+                ExecutionException.class,
+                () -> failing.result.get(10, TimeUnit.SECONDS)
+        );
+        Assertions.assertTrue(failure.getCause() instanceof StackOverflowError);
+        final ExecutionException sharedFailure = Assertions.assertThrows(
+                ExecutionException.class,
+                () -> identical.result.get(10, TimeUnit.SECONDS)
+        );
+        Assertions.assertTrue(sharedFailure.getCause() instanceof StackOverflowError);
+        /* The sender is not blocked by the failed request */
+        Assertions.assertEquals(Collections.singletonList("ok"), queued.result.get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(
+                Collections.singletonList("next"),
+                this.suggest(manager, engine, sender, "next").result.get(10, TimeUnit.SECONDS)
+        );
+    }
+
+    private Request suggest(
+            final CommandManager<TestCommandSender> manager,
+            final CommandSuggestionEngine<TestCommandSender> engine,
+            final TestCommandSender sender,
+            final String input
+    ) throws Exception {
+        final CompletableFuture<Thread> thread = new CompletableFuture<>();
+        final CompletableFuture<List<String>> result = CompletableFuture.supplyAsync(() -> {
+            thread.complete(Thread.currentThread());
+            return engine.getSuggestions(new CommandContext<>(true, sender, manager), input);
+        }, this.executor);
+        return new Request(thread.get(10, TimeUnit.SECONDS), result);
+    }
+
+
+    private static final class Request {
+
+        private final Thread thread;
+        private final CompletableFuture<List<String>> result;
+
+        private Request(final Thread thread, final CompletableFuture<List<String>> result) {
+            this.thread = thread;
+            this.result = result;
+        }
+
+        /**
+         * Wait until the request has been registered with the engine, which is when the requesting thread
+         * parks to wait for the result of another request
+         */
+        private void awaitBlocked() {
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10L);
+            while (this.thread.getState() != Thread.State.WAITING) {
+                Assertions.assertFalse(this.result.isDone(), "The request completed without waiting");
+                Assertions.assertTrue(System.nanoTime() < deadline, "The request was never queued");
+                Thread.yield();
+            }
+        }
+
+    }
+
+}
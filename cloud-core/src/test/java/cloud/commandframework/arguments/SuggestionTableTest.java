@@ -0,0 +1,86 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.arguments;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+class SuggestionTableTest {
+
+    private static final SuggestionTable TABLE = SuggestionTable.of(Arrays.asList(
+            "stone", "Sand", "STICK", "apple", "sandstone"
+    ));
+
+    @Test
+    void testEmptyPrefix() {
+        Assertions.assertEquals(Arrays.asList("stone", "Sand", "STICK", "apple", "sandstone"), TABLE.startingWith(""));
+        Assertions.assertEquals(TABLE.getSuggestions(), TABLE.startingWith(""));
+        Assertions.assertEquals(Collections.emptyList(), SuggestionTable.of(Collections.emptyList()).startingWith(""));
+    }
+
+    @Test
+    void testMixedCase() {
+        /* Matches retain the order in which they were provided */
+        Assertions.assertEquals(Arrays.asList("stone", "STICK"), TABLE.startingWith("st"));
+        Assertions.assertEquals(Arrays.asList("stone", "STICK"), TABLE.startingWith("ST"));
+        Assertions.assertEquals(Arrays.asList("Sand", "sandstone"), TABLE.startingWith("sAnD"));
+        Assertions.assertEquals(Collections.singletonList("sandstone"), TABLE.startingWith("SANDS"));
+    }
+
+    @Test
+    void testNoMatch() {
+        Assertions.assertEquals(Collections.emptyList(), TABLE.startingWith("b"));
+        Assertions.assertEquals(Collections.emptyList(), TABLE.startingWith("zzz"));
+        Assertions.assertEquals(Collections.emptyList(), TABLE.startingWith("stones"));
+        Assertions.assertEquals(Collections.emptyList(), SuggestionTable.of(Collections.emptyList()).startingWith("a"));
+    }
+
+    @Test
+    void testAllMatch() {
+        final SuggestionTable table = SuggestionTable.of(Arrays.asList("Red", "rose", "RUBY"));
+        Assertions.assertEquals(Arrays.asList("Red", "rose", "RUBY"), table.startingWith("r"));
+        Assertions.assertSame(table.getSuggestions(), table.startingWith("R"));
+    }
+
+    @Test
+    void testDuplicates() {
+        final SuggestionTable table = SuggestionTable.of(Arrays.asList("b", "a", "B", "a", "ab"));
+        Assertions.assertEquals(5, table.size());
+        Assertions.assertEquals(Arrays.asList("a", "a", "ab"), table.startingWith("a"));
+        Assertions.assertEquals(Arrays.asList("b", "B"), table.startingWith("b"));
+        Assertions.assertEquals(Collections.singletonList("ab"), table.startingWith("AB"));
+    }
+
+    @Test
+    void testView() {
+        Assertions.assertSame(TABLE, SuggestionTable.fromView(TABLE.getSuggestions()));
+        Assertions.assertNull(SuggestionTable.fromView(Arrays.asList("stone", "Sand")));
+        Assertions.assertNull(SuggestionTable.fromView(TABLE.startingWith("s")));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> TABLE.getSuggestions().add("stick"));
+    }
+
+}
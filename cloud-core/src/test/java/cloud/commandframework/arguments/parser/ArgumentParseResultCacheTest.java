@@ -0,0 +1,141 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.arguments.parser;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.TestCommandManager;
+import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ArgumentParseResultCacheTest {
+
+    @Test
+    void testHitsAndMisses() {
+        final ArgumentParseResultCache<Integer> cache = new ArgumentParseResultCache<>(4);
+        Assertions.assertNull(cache.get("1"));
+        Assertions.assertEquals(1, cache.getMisses());
+
+        final ArgumentParseResult<Integer> result = ArgumentParseResult.success(1);
+        cache.put("1", result);
+        Assertions.assertSame(result, cache.get("1"));
+        Assertions.assertEquals(1, cache.getHits());
+
+        /* Failures are never cached, and existing entries are not replaced */
+        cache.put("2", ArgumentParseResult.failure(new IllegalArgumentException()));
+        Assertions.assertNull(cache.get("2"));
+        cache.put("1", ArgumentParseResult.success(2));
+        Assertions.assertSame(result, cache.get("1"));
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(2, cache.getHits());
+        Assertions.assertEquals(2, cache.getMisses());
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertNull(cache.get("1"));
+        Assertions.assertEquals(2, cache.getHits());
+    }
+
+    @Test
+    void testEviction() {
+        final ArgumentParseResultCache<Integer> cache = new ArgumentParseResultCache<>(2);
+        cache.put("1", ArgumentParseResult.success(1));
+        cache.put("2", ArgumentParseResult.success(2));
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(0, cache.getEvictions());
+
+        /* Reading an entry does not protect it, the oldest entry is evicted first */
+        Assertions.assertNotNull(cache.get("1"));
+        cache.put("3", ArgumentParseResult.success(3));
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(1, cache.getEvictions());
+        Assertions.assertNull(cache.get("1"));
+        Assertions.assertEquals(2, cache.get("2").value());
+        Assertions.assertEquals(3, cache.get("3").value());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ArgumentParseResultCache<>(0));
+        Assertions.assertEquals(
+                ArgumentParseResultCache.DEFAULT_MAXIMUM_SIZE,
+                new ArgumentParseResultCache<>().getMaximumSize()
+        );
+    }
+
+    @Test
+    void testCachesAreKeyedByParser() {
+        final CommandManager<TestCommandSender> manager = new TestCommandManager();
+        manager.setSetting(CommandManager.ManagerSettings.CACHE_PARSE_RESULTS, true);
+        final CommandArgument<TestCommandSender, Integer> small = IntegerArgument.<TestCommandSender>newBuilder("value")
+                .withMax(3)
+                .build();
+        final CommandArgument<TestCommandSender, Integer> large = IntegerArgument.of("value");
+        final int[] values = new int[2];
+        manager.command(manager.commandBuilder("small").argument(small).handler(c -> values[0] = c.get("value")));
+        manager.command(manager.commandBuilder("large").argument(large).handler(c -> values[1] = c.get("value")));
+
+        manager.executeCommand(new TestCommandSender(), "large 5").join();
+        manager.executeCommand(new TestCommandSender(), "large 6").join();
+        Assertions.assertEquals(6, values[1]);
+
+        /* The result that the other parser cached for the same token must not be used */
+        Assertions.assertThrows(
+                CompletionException.class,
+                () -> manager.executeCommand(new TestCommandSender(), "small 5").join()
+        );
+        manager.executeCommand(new TestCommandSender(), "small 2").join();
+        Assertions.assertEquals(2, values[0]);
+
+        final ArgumentParseResultCache<?> largeCache = manager.getCommandTree().getParseResultCaches().get(large.getParser());
+        final ArgumentParseResultCache<?> smallCache = manager.getCommandTree().getParseResultCaches().get(small.getParser());
+        Assertions.assertNotSame(largeCache, smallCache);
+        Assertions.assertEquals(2, largeCache.size());
+        Assertions.assertEquals(1, smallCache.size());
+        Assertions.assertEquals(2, smallCache.get("2").value());
+    }
+
+    @Test
+    void testNonCacheableParserBypassesCache() {
+        final CommandManager<TestCommandSender> manager = new TestCommandManager();
+        manager.setSetting(CommandManager.ManagerSettings.CACHE_PARSE_RESULTS, true);
+        final AtomicInteger parses = new AtomicInteger();
+        final ArgumentParser<TestCommandSender, String> parser = (context, queue) -> {
+            parses.incrementAndGet();
+            return ArgumentParseResult.success(queue.remove());
+        };
+        manager.command(manager.commandBuilder("uncached")
+                .argument(CommandArgument.<TestCommandSender, String>ofType(String.class, "value").withParser(parser))
+                .handler(c -> {
+                }));
+
+        manager.executeCommand(new TestCommandSender(), "uncached a").join();
+        manager.executeCommand(new TestCommandSender(), "uncached a").join();
+        Assertions.assertEquals(2, parses.get());
+        Assertions.assertFalse(manager.getCommandTree().getParseResultCaches().containsKey(parser));
+    }
+
+}
@@ -0,0 +1,52 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.arguments.parser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ArgumentParseResultTest {
+
+    @Test
+    void testAccessors() {
+        final ArgumentParseResult<String> success = ArgumentParseResult.success("value");
+        Assertions.assertTrue(success.isSuccess());
+        Assertions.assertEquals("value", success.value());
+        Assertions.assertNull(success.failureOrNull());
+
+        final IllegalArgumentException exception = new IllegalArgumentException();
+        final ArgumentParseResult<String> failure = ArgumentParseResult.failure(exception);
+        Assertions.assertFalse(failure.isSuccess());
+        Assertions.assertNull(failure.value());
+        Assertions.assertSame(exception, failure.failureOrNull());
+    }
+
+    @Test
+    void testSharedBooleanResults() {
+        Assertions.assertSame(ArgumentParseResult.success(true), ArgumentParseResult.success(Boolean.TRUE));
+        Assertions.assertSame(ArgumentParseResult.success(false), ArgumentParseResult.success(Boolean.FALSE));
+        Assertions.assertEquals(false, ArgumentParseResult.success(false).value());
+    }
+
+}
@@ -98,6 +98,32 @@ class StringArgumentTest {
         ).join());
     }
 
+    @Test
+    void testTokenizedQuotes() {
+        final CommandManager<TestCommandSender> manager = new TestCommandManager();
+        manager.setSetting(CommandManager.ManagerSettings.TOKENIZE_QUOTED_STRINGS, true);
+        manager.command(manager.commandBuilder("quoted")
+                .argument(StringArgument.of("message1", StringArgument.StringMode.QUOTED))
+                .argument(StringArgument.of("message2"))
+                .handler(c -> {
+                    storage[0] = c.get("message1");
+                    storage[1] = c.get("message2");
+                })
+                .build());
+        clear();
+        manager.executeCommand(new TestCommandSender(), "quoted 'quoted  \" string' unquoted").join();
+        Assertions.assertEquals("quoted  \" string", storage[0]);
+        Assertions.assertEquals("unquoted", storage[1]);
+        clear();
+        manager.executeCommand(new TestCommandSender(), "quoted \"quoted \\\" string\" unquoted").join();
+        Assertions.assertEquals("quoted \" string", storage[0]);
+        Assertions.assertEquals("unquoted", storage[1]);
+        clear();
+        manager.executeCommand(new TestCommandSender(), "quoted quoted unquoted").join();
+        Assertions.assertEquals("quoted", storage[0]);
+        Assertions.assertEquals("unquoted", storage[1]);
+    }
+
     @Test
     void testGreedy() {
         clear();
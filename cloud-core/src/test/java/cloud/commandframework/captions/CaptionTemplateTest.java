@@ -0,0 +1,145 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.captions;
+
+import cloud.commandframework.TestCommandSender;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CaptionTemplateTest {
+
+    @Test
+    void testRender() {
+        final CaptionTemplate template = CaptionTemplate.compile("'{input}' is not in the range {min} to {max}");
+        Assertions.assertEquals(
+                "'5' is not in the range 1 to 3",
+                template.render(
+                        CaptionVariable.of("max", "3"),
+                        CaptionVariable.of("input", "5"),
+                        CaptionVariable.of("min", "1")
+                )
+        );
+        /* Values are inserted once, and are never scanned for placeholders themselves */
+        Assertions.assertEquals(
+                "'{min}' is not in the range {min} to {max}",
+                template.render(CaptionVariable.of("input", "{min}"))
+        );
+        Assertions.assertEquals("{{a}", CaptionTemplate.compile("{{a}").render());
+        Assertions.assertEquals("{b", CaptionTemplate.compile("{{a}").render(CaptionVariable.of("a", "b")));
+        Assertions.assertEquals("a { b", CaptionTemplate.compile("a { b").render(CaptionVariable.of("b", "c")));
+    }
+
+    @Test
+    void testRegistryTemplates() {
+        final SimpleCaptionRegistry<TestCommandSender> registry = new SimpleCaptionRegistryFactory<TestCommandSender>().create();
+        final TestCommandSender sender = new TestCommandSender();
+        Assertions.assertSame(
+                registry.getCaptionTemplate(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR, sender),
+                registry.getCaptionTemplate(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR, sender)
+        );
+        registry.registerMessageFactory(
+                StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR,
+                (caption, recipient) -> new String("'{input}' is invalid")
+        );
+        final CaptionTemplate template = registry.getCaptionTemplate(
+                StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR,
+                sender
+        );
+        Assertions.assertSame(
+                template,
+                registry.getCaptionTemplate(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR, sender)
+        );
+        Assertions.assertEquals(
+                "'{input}' is invalid",
+                registry.getCaption(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR, sender)
+        );
+    }
+
+    @Test
+    void testRegistryTemplatesByLocale() {
+        final SimpleCaptionRegistry<TestCommandSender> registry = new SimpleCaptionRegistry<TestCommandSender>() {
+            @Override
+            protected Locale getLocale(final TestCommandSender sender) {
+                return Locale.ENGLISH;
+            }
+        };
+        final TestCommandSender sender = new TestCommandSender();
+        final AtomicInteger invocations = new AtomicInteger();
+        registry.registerMessageFactory(
+                StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR,
+                (caption, recipient) -> "'{input}' is invalid #" + invocations.incrementAndGet()
+        );
+        final CaptionTemplate template = registry.getCaptionTemplate(
+                StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR,
+                sender
+        );
+        Assertions.assertSame(
+                template,
+                registry.getCaptionTemplate(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR, sender)
+        );
+        Assertions.assertEquals(1, invocations.get());
+        /* Registering a new factory invalidates the cached template */
+        registry.registerMessageFactory(
+                StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR,
+                (caption, recipient) -> "'{input}' is not valid"
+        );
+        Assertions.assertEquals(
+                "'a' is not valid",
+                registry.getCaptionTemplate(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR, sender)
+                        .render(CaptionVariable.of("input", "a"))
+        );
+    }
+
+    @Test
+    void testRegistryTemplateEviction() {
+        final SimpleCaptionRegistry<TestCommandSender> registry = new SimpleCaptionRegistryFactory<TestCommandSender>().create();
+        final TestCommandSender sender = new TestCommandSender();
+        final AtomicInteger counter = new AtomicInteger();
+        registry.registerMessageFactory(
+                StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR,
+                (caption, recipient) -> "message " + counter.get()
+        );
+        final CaptionTemplate first = registry.getCaptionTemplate(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR, sender);
+        for (int i = 1; i <= 256; i++) {
+            counter.set(i);
+            registry.getCaptionTemplate(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR, sender);
+        }
+        /* Templates are still cached once the cache is full */
+        final CaptionTemplate last = registry.getCaptionTemplate(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR, sender);
+        Assertions.assertSame(
+                last,
+                registry.getCaptionTemplate(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR, sender)
+        );
+        /* The least recently used template has been evicted */
+        counter.set(0);
+        Assertions.assertNotSame(
+                first,
+                registry.getCaptionTemplate(StandardCaptionKeys.ARGUMENT_PARSE_FAILURE_CHAR, sender)
+        );
+    }
+
+}
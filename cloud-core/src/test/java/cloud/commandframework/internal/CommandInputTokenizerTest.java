@@ -0,0 +1,59 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.internal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+class CommandInputTokenizerTest {
+
+    @Test
+    void testTokenize() {
+        Assertions.assertEquals(
+                Arrays.asList("say", "\"hello", "world\"", ""),
+                new CommandInputTokenizer("say  \"hello world\" ").tokenize()
+        );
+    }
+
+    @Test
+    void testTokenizeQuoted() {
+        Assertions.assertEquals(
+                Arrays.asList("say", "\"hello  world\"", "'it\\'s'", ""),
+                new CommandInputTokenizer("say \"hello  world\" 'it\\'s' ", true).tokenize()
+        );
+        /* Only a quote that is followed by a blank space closes the span */
+        Assertions.assertEquals(
+                Arrays.asList("say", "\"a\"b c\""),
+                new CommandInputTokenizer("say \"a\"b c\"", true).tokenize()
+        );
+        /* Unclosed quotes are split like any other input */
+        Assertions.assertEquals(
+                Arrays.asList("say", "\"hello", "world", "'again"),
+                new CommandInputTokenizer("say \"hello world 'again", true).tokenize()
+        );
+    }
+
+}
@@ -0,0 +1,64 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.internal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+class LiteralTrieTest {
+
+    @Test
+    void testPrefixQueries() {
+        final LiteralTrie<Integer> trie = new LiteralTrie<>();
+        final String[] literals = new String[]{"team", "test", "tea", "toast", "t", "alpha", "te"};
+        for (int i = 0; i < literals.length; i++) {
+            trie.insert(literals[i], i);
+        }
+        Assertions.assertEquals(7, trie.size());
+        Assertions.assertEquals(Arrays.asList("alpha", "t", "te", "tea", "team", "test", "toast"), trie.keysStartingWith(""));
+        Assertions.assertEquals(Arrays.asList("te", "tea", "team", "test"), trie.keysStartingWith("te"));
+        Assertions.assertEquals(Arrays.asList("tea", "team"), trie.keysStartingWith("tea"));
+        Assertions.assertEquals(Collections.singletonList("toast"), trie.keysStartingWith("toa"));
+        Assertions.assertEquals(Collections.emptyList(), trie.keysStartingWith("teams"));
+        Assertions.assertEquals(Collections.emptyList(), trie.keysStartingWith("b"));
+        Assertions.assertEquals(0, trie.get("team"));
+        Assertions.assertEquals(6, trie.get("te"));
+        Assertions.assertNull(trie.get("tes"));
+        Assertions.assertNull(trie.get("teams"));
+    }
+
+    @Test
+    void testReplaceValue() {
+        final LiteralTrie<String> trie = new LiteralTrie<>();
+        trie.insert("key", "first");
+        trie.insert("key", "second");
+        Assertions.assertEquals(1, trie.size());
+        Assertions.assertEquals("second", trie.get("key"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> LiteralTrie.empty().insert("key", "value"));
+    }
+
+}
@@ -0,0 +1,74 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.meta;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SimpleCommandMetaTest {
+
+    @Test
+    void testWellKnownKeys() {
+        final SimpleCommandMeta meta = SimpleCommandMeta.builder()
+                .with(CommandMeta.DESCRIPTION, "Description")
+                .with("hidden", "true")
+                .build();
+        Assertions.assertEquals("Description", meta.getOrDefault(CommandMeta.DESCRIPTION, ""));
+        Assertions.assertFalse(meta.get(CommandMeta.LONG_DESCRIPTION).isPresent());
+        /* Derived from the legacy string key */
+        Assertions.assertTrue(meta.getOrDefault(CommandMeta.HIDDEN, false));
+        /* Values stored under the legacy string api are still readable through typed keys */
+        final SimpleCommandMeta legacy = SimpleCommandMeta.builder().with("description", "Legacy").build();
+        Assertions.assertEquals("Legacy", legacy.getOrDefault(CommandMeta.DESCRIPTION, ""));
+    }
+
+    @Test
+    void testFallbackIsMemoized() {
+        final AtomicInteger derivations = new AtomicInteger();
+        final CommandMeta.Key<Integer> key = CommandMeta.Key.of(Integer.class, "derived", meta -> {
+            derivations.incrementAndGet();
+            return null;
+        });
+        final SimpleCommandMeta meta = SimpleCommandMeta.empty();
+        Assertions.assertFalse(meta.get(key).isPresent());
+        Assertions.assertEquals(5, meta.getOrDefault(key, 5));
+        Assertions.assertEquals(1, derivations.get());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void testTypeConflicts() {
+        final CommandMeta.Key<Integer> integerKey = CommandMeta.Key.of(Integer.class, "value");
+        final CommandMeta.Key<String> stringKey = CommandMeta.Key.of(String.class, "value");
+        final SimpleCommandMeta meta = SimpleCommandMeta.builder().with(integerKey, 5).build();
+        Assertions.assertEquals(5, meta.getOrDefault(integerKey, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> meta.get(stringKey));
+        /* Heap pollution is caught when the meta is built rather than when the value is read */
+        final SimpleCommandMeta.Builder builder = SimpleCommandMeta.builder().with((CommandMeta.Key) integerKey, "five");
+        Assertions.assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+}
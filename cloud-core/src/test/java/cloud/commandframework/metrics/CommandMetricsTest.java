@@ -0,0 +1,120 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.TestCommandManager;
+import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.execution.CommandResult;
+import cloud.commandframework.exceptions.NoSuchCommandException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CommandMetricsTest {
+
+    @Test
+    void testHistogramPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        Assertions.assertEquals(1000, snapshot.getCount());
+        Assertions.assertEquals(1_000_000L, snapshot.getMax());
+        Assertions.assertEquals(500_500D, snapshot.getMean(), 0.001D);
+        /* Values are reported with a relative error of at most 12.5% */
+        Assertions.assertEquals(500_000D, snapshot.getValueAtPercentile(50), 500_000D * 0.125D);
+        Assertions.assertEquals(990_000D, snapshot.getValueAtPercentile(99), 990_000D * 0.125D);
+        Assertions.assertEquals(1_000_000L, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    void testRecordedMetrics() {
+        final CommandManager<TestCommandSender> manager = new TestCommandManager();
+        manager.setSetting(CommandManager.ManagerSettings.RECORD_METRICS, true);
+        final AtomicInteger exported = new AtomicInteger();
+        manager.metrics().registerExporter(new CommandMetricsExporter<TestCommandSender>() {
+            @Override
+            public void exportCompletion(final Command<TestCommandSender> command, final long nanos, final Throwable failure) {
+                exported.incrementAndGet();
+            }
+        });
+        final Command<TestCommandSender> command = manager.commandBuilder("metrics")
+                .handler(c -> {
+                })
+                .build();
+        manager.command(command);
+
+        manager.executeCommand(new TestCommandSender(), "metrics").join();
+        Assertions.assertThrows(Exception.class, () -> manager.executeCommand(new TestCommandSender(), "missing").join());
+
+        final CommandStatistics statistics = manager.metrics().getStatistics(command);
+        Assertions.assertNotNull(statistics);
+        Assertions.assertEquals(1, statistics.getExecutionCount());
+        Assertions.assertEquals(1, statistics.getParseLatency().snapshot().getCount());
+        Assertions.assertEquals(1, statistics.getExecutionLatency().snapshot().getCount());
+        Assertions.assertEquals(0, statistics.getFailureCount());
+        Assertions.assertEquals(
+                1L,
+                manager.metrics().getUnmatchedStatistics().getFailureCounts().get(NoSuchCommandException.class)
+        );
+        Assertions.assertEquals(2, exported.get());
+
+        manager.suggest(new TestCommandSender(), "met");
+        Assertions.assertEquals(1, manager.metrics().getSuggestionLatency().snapshot().getCount());
+    }
+
+    @Test
+    void testParseTimings() {
+        final CommandManager<TestCommandSender> manager = new TestCommandManager();
+        final CommandArgument<TestCommandSender, Integer> argument = IntegerArgument.of("value");
+        manager.command(manager.commandBuilder("timed").argument(argument).build());
+
+        final CommandResult<TestCommandSender> untimed = manager.executeCommand(new TestCommandSender(), "timed 1").join();
+        Assertions.assertFalse(untimed.getCommandContext().isTimingArguments());
+        Assertions.assertTrue(untimed.getCommandContext().getArgumentTimings().isEmpty());
+
+        final SamplingParseTimingRecorder<TestCommandSender> recorder = ParseTimingRecorder.always();
+        manager.setParseTimingRecorder(recorder);
+        final CommandResult<TestCommandSender> timed = manager.executeCommand(new TestCommandSender(), "timed 2").join();
+        Assertions.assertTrue(timed.getCommandContext().getArgumentTimings().get(argument).wasSuccess());
+        Assertions.assertThrows(Exception.class, () -> manager.executeCommand(new TestCommandSender(), "timed x").join());
+
+        final ArgumentTimingStatistics statistics = recorder.getStatistics(argument);
+        Assertions.assertNotNull(statistics);
+        Assertions.assertEquals(1, statistics.getSuccessCount());
+        Assertions.assertEquals(1, statistics.getFailureCount());
+        Assertions.assertEquals(2, statistics.getLatency().snapshot().getCount());
+        Assertions.assertEquals(2, recorder.getAllStatistics().size());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParseTimingRecorder.sampled(0));
+        Assertions.assertEquals(10, ParseTimingRecorder.sampled(10).getSampleRate());
+    }
+
+}
@@ -0,0 +1,188 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.TestCommandManager;
+import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.arguments.standard.StringArgument;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class CommandTracerTest {
+
+    private CommandManager<TestCommandSender> manager;
+    private RecordingTracer tracer;
+
+    @BeforeEach
+    void setup() {
+        this.manager = new TestCommandManager();
+        this.tracer = new RecordingTracer();
+        this.manager.setCommandTracer(this.tracer);
+        this.manager.command(this.manager.commandBuilder("traced")
+                .argument(IntegerArgument.of("value"))
+                .handler(c -> {
+                }));
+    }
+
+    @Test
+    void testExecutionSpans() {
+        this.manager.executeCommand(new TestCommandSender(), "traced 1").join();
+        Assertions.assertEquals(Arrays.asList(
+                "begin EXECUTE",
+                "begin PARSE",
+                "begin ARGUMENT_PARSE",
+                "end ARGUMENT_PARSE null traced null",
+                "begin ARGUMENT_PARSE",
+                "end ARGUMENT_PARSE traced value null",
+                "end PARSE traced null null",
+                "begin HANDLER",
+                "end HANDLER traced null null",
+                "end EXECUTE traced null null"
+        ), this.tracer.events);
+    }
+
+    @Test
+    void testArgumentFailureSpans() {
+        Assertions.assertThrows(
+                Exception.class,
+                () -> this.manager.executeCommand(new TestCommandSender(), "traced x").join()
+        );
+        Assertions.assertEquals(Arrays.asList(
+                "begin EXECUTE",
+                "begin PARSE",
+                "begin ARGUMENT_PARSE",
+                "end ARGUMENT_PARSE null traced null",
+                "begin ARGUMENT_PARSE",
+                "end ARGUMENT_PARSE traced value IntegerParseException",
+                "end PARSE null null ArgumentParseException",
+                "end EXECUTE null null ArgumentParseException"
+        ), this.tracer.events);
+    }
+
+    @Test
+    void testHandlerFailureSpans() {
+        this.manager.command(this.manager.commandBuilder("failing")
+                .handler(c -> {
+                    throw new IllegalStateException();
+                }));
+        this.tracer.events.clear();
+        Assertions.assertThrows(
+                Exception.class,
+                () -> this.manager.executeCommand(new TestCommandSender(), "failing").join()
+        );
+        final List<String> events = this.tracer.events;
+        Assertions.assertEquals("begin HANDLER", events.get(events.size() - 3));
+        Assertions.assertEquals("end HANDLER failing null IllegalStateException", events.get(events.size() - 2));
+        Assertions.assertTrue(events.get(events.size() - 1).startsWith("end EXECUTE failing null"));
+    }
+
+    @Test
+    void testThrowingParserSpans() {
+        this.manager.command(this.manager.commandBuilder("throwing")
+                .argument(CommandArgument.<TestCommandSender, Integer>ofType(Integer.class, "value")
+                        .withParser((context, input) -> {
+                            throw new IllegalStateException();
+                        })
+                        .build())
+                .handler(c -> {
+                }));
+        this.tracer.events.clear();
+        Assertions.assertThrows(
+                Exception.class,
+                () -> this.manager.executeCommand(new TestCommandSender(), "throwing 1").join()
+        );
+        final List<String> events = this.tracer.events;
+        Assertions.assertTrue(events.contains("end ARGUMENT_PARSE throwing value IllegalStateException"), events::toString);
+        Assertions.assertTrue(events.contains("end PARSE null null IllegalStateException"), events::toString);
+    }
+
+    @Test
+    void testThrowingSuggestionSpans() {
+        this.manager.command(this.manager.commandBuilder("throwing")
+                .argument(StringArgument.<TestCommandSender>newBuilder("value")
+                        .withSuggestionsProvider((context, input) -> {
+                            throw new IllegalStateException();
+                        }))
+                .handler(c -> {
+                }));
+        this.tracer.events.clear();
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> this.manager.suggest(new TestCommandSender(), "throwing ")
+        );
+        Assertions.assertEquals(Arrays.asList(
+                "begin SUGGEST",
+                "end SUGGEST null null IllegalStateException"
+        ), this.tracer.events);
+    }
+
+    @Test
+    void testSuggestionSpans() {
+        this.manager.suggest(new TestCommandSender(), "traced ");
+        Assertions.assertEquals(Arrays.asList(
+                "begin SUGGEST",
+                "end SUGGEST null null null"
+        ), this.tracer.events);
+    }
+
+    @Test
+    void testUntracedPhases() {
+        this.manager.setCommandTracer(CommandTracer.none());
+        this.manager.executeCommand(new TestCommandSender(), "traced 1").join();
+        this.manager.suggest(new TestCommandSender(), "traced ");
+        Assertions.assertTrue(this.tracer.events.isEmpty());
+    }
+
+
+    private static final class RecordingTracer implements CommandTracer {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public Span begin(final Phase phase) {
+            this.events.add("begin " + phase);
+            return (senderType, command, argument, failure) -> {
+                Assertions.assertEquals(TestCommandSender.class, senderType);
+                this.events.add(String.join(
+                        " ",
+                        "end",
+                        phase.name(),
+                        command == null ? "null" : command.getArguments().get(0).getName(),
+                        argument == null ? "null" : argument.getName(),
+                        failure == null ? "null" : failure.getClass().getSimpleName()
+                ));
+            };
+        }
+
+    }
+
+}
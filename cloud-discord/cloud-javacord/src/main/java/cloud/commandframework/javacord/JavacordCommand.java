@@ -27,6 +27,7 @@ import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.exceptions.ArgumentParseException;
 import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.exceptions.ExceptionHandlerRegistry;
 import cloud.commandframework.exceptions.InvalidCommandSenderException;
 import cloud.commandframework.exceptions.InvalidSyntaxException;
 import cloud.commandframework.exceptions.NoPermissionException;
@@ -34,17 +35,20 @@ import cloud.commandframework.exceptions.NoSuchCommandException;
 import cloud.commandframework.javacord.sender.JavacordCommandSender;
 import cloud.commandframework.javacord.sender.JavacordPrivateSender;
 import cloud.commandframework.javacord.sender.JavacordServerSender;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.javacord.api.entity.message.MessageAuthor;
 import org.javacord.api.event.message.MessageCreateEvent;
 import org.javacord.api.listener.message.MessageCreateListener;
 
-import java.util.concurrent.CompletionException;
-
 public class JavacordCommand<C> implements MessageCreateListener {
 
     private static final String MESSAGE_INTERNAL_ERROR = "An internal error occurred while attempting to perform this command.";
     private static final String MESSAGE_NO_PERMS = "I'm sorry, but you do not have the permission to do this :/";
+    private static final Logger LOGGER = LogManager.getLogger(JavacordCommand.class);
+    private static final ExceptionHandlerRegistry<JavacordCommandSender> DEFAULT_EXCEPTION_HANDLERS =
+            createDefaultExceptionHandlers();
 
     private final JavacordCommandManager<C> manager;
     private final CommandArgument<C, ?> command;
@@ -57,6 +61,31 @@ public class JavacordCommand<C> implements MessageCreateListener {
         this.manager = manager;
     }
 
+    private static @NonNull ExceptionHandlerRegistry<JavacordCommandSender> createDefaultExceptionHandlers() {
+        return new ExceptionHandlerRegistry<JavacordCommandSender>()
+                .register(NoSuchCommandException.class, (commandSender, e) -> {
+                    //Ignore, should never happen
+                })
+                .register(InvalidSyntaxException.class, (commandSender, e) -> commandSender.sendErrorMessage(
+                        "Invalid Command Syntax. Correct command syntax is: `"
+                                + e.getCorrectSyntax()
+                                + "`"
+                ))
+                .register(InvalidCommandSenderException.class, (commandSender, e) -> commandSender.sendErrorMessage(e.getMessage()))
+                .register(NoPermissionException.class, (commandSender, e) -> commandSender.sendErrorMessage(MESSAGE_NO_PERMS))
+                .register(ArgumentParseException.class, (commandSender, e) -> commandSender.sendErrorMessage(
+                        "Invalid Command Argument: `" + e.getCause().getMessage() + "`"
+                ))
+                .register(CommandExecutionException.class, (commandSender, e) -> {
+                    commandSender.sendErrorMessage(MESSAGE_INTERNAL_ERROR);
+                    LOGGER.error("Exception executing command handler", e.getCause());
+                })
+                .register(Throwable.class, (commandSender, e) -> {
+                    commandSender.sendErrorMessage(e.getMessage());
+                    LOGGER.error("An unhandled exception was thrown during command execution", e);
+                });
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public final void onMessageCreate(final @NonNull MessageCreateEvent event) {
@@ -97,81 +126,8 @@ public class JavacordCommand<C> implements MessageCreateListener {
                     if (throwable == null) {
                         return;
                     }
-                    final Throwable finalThrowable = throwable;
-
-                    if (throwable instanceof CompletionException) {
-                        throwable = throwable.getCause();
-                    }
-
-                    if (throwable instanceof NoSuchCommandException) {
-                        //Ignore, should never happen
-                        return;
-                    }
-
-                    if (throwable instanceof InvalidSyntaxException) {
-                        manager.handleException(
-                                sender,
-                                InvalidSyntaxException.class,
-                                (InvalidSyntaxException) throwable,
-                                (c, e) -> commandSender.sendErrorMessage(
-                                        "Invalid Command Syntax. Correct command syntax is: `"
-                                                + e.getCorrectSyntax()
-                                                + "`")
-                        );
-
-                        return;
-                    }
-
-                    if (throwable instanceof InvalidCommandSenderException) {
-                        manager.handleException(
-                                sender,
-                                InvalidCommandSenderException.class,
-                                (InvalidCommandSenderException) throwable,
-                                (c, e) -> commandSender.sendErrorMessage(e.getMessage())
-                        );
-
-                        return;
-                    }
-
-                    if (throwable instanceof NoPermissionException) {
-                        manager.handleException(
-                                sender,
-                                NoPermissionException.class,
-                                (NoPermissionException) throwable,
-                                (c, e) -> commandSender.sendErrorMessage(MESSAGE_NO_PERMS)
-                        );
-
-                        return;
-                    }
-
-                    if (throwable instanceof ArgumentParseException) {
-                        manager.handleException(
-                                sender,
-                                ArgumentParseException.class,
-                                (ArgumentParseException) throwable,
-                                (c, e) -> commandSender.sendErrorMessage(
-                                        "Invalid Command Argument: `" + e.getCause().getMessage() + "`")
-                        );
-
-                        return;
-                    }
-
-                    if (throwable instanceof CommandExecutionException) {
-                        manager.handleException(
-                                sender,
-                                CommandExecutionException.class,
-                                (CommandExecutionException) throwable,
-                                (c, e) -> {
-                                    commandSender.sendErrorMessage(MESSAGE_INTERNAL_ERROR);
-                                    finalThrowable.getCause().printStackTrace();
-                                }
-                        );
-
-                        return;
-                    }
-
-                    commandSender.sendErrorMessage(throwable.getMessage());
-                    throwable.printStackTrace();
+                    manager.handleExecutionFailure(sender, throwable, (c, e) ->
+                            DEFAULT_EXCEPTION_HANDLERS.handle(commandSender, e));
                 });
     }
 
@@ -25,6 +25,7 @@ package cloud.commandframework.jda;
 
 import cloud.commandframework.exceptions.ArgumentParseException;
 import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.exceptions.ExceptionHandlerRegistry;
 import cloud.commandframework.exceptions.InvalidCommandSenderException;
 import cloud.commandframework.exceptions.InvalidSyntaxException;
 import cloud.commandframework.exceptions.NoPermissionException;
@@ -33,6 +34,8 @@ import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * JDA Command Listener
@@ -47,8 +50,10 @@ public class JDACommandListener<C> extends ListenerAdapter {
     private static final String MESSAGE_NO_PERMS = "I'm sorry, but you do not have permission to perform this command. "
             + "Please contact the server administrators if you believe that this is in error.";
     private static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    private static final Logger LOGGER = LoggerFactory.getLogger(JDACommandListener.class);
 
     private final JDACommandManager<C> commandManager;
+    private final ExceptionHandlerRegistry<MessageReceivedEvent> defaultExceptionHandlers;
 
     /**
      * Construct a new JDA Command Listener
@@ -57,6 +62,32 @@ public class JDACommandListener<C> extends ListenerAdapter {
      */
     public JDACommandListener(final @NonNull JDACommandManager<C> commandManager) {
         this.commandManager = commandManager;
+        this.defaultExceptionHandlers = this.createDefaultExceptionHandlers();
+    }
+
+    private @NonNull ExceptionHandlerRegistry<MessageReceivedEvent> createDefaultExceptionHandlers() {
+        return new ExceptionHandlerRegistry<MessageReceivedEvent>()
+                .register(InvalidSyntaxException.class, (event, e) -> this.sendMessage(
+                        event,
+                        MESSAGE_INVALID_SYNTAX
+                                + this.commandManager.getPrefixMapper().apply(this.commandManager.getCommandSenderMapper().apply(event))
+                                + e.getCorrectSyntax()
+                ))
+                .register(InvalidCommandSenderException.class, (event, e) -> this.sendMessage(event, e.getMessage()))
+                .register(NoPermissionException.class, (event, e) -> this.sendMessage(event, MESSAGE_NO_PERMS))
+                .register(NoSuchCommandException.class, (event, e) -> this.sendMessage(event, MESSAGE_UNKNOWN_COMMAND))
+                .register(ArgumentParseException.class, (event, e) -> this.sendMessage(
+                        event,
+                        "Invalid Command Argument: " + e.getCause().getMessage()
+                ))
+                .register(CommandExecutionException.class, (event, e) -> {
+                    this.sendMessage(
+                            event,
+                            MESSAGE_INTERNAL_ERROR
+                    );
+                    LOGGER.error("Exception executing command handler", e.getCause());
+                })
+                .register(Throwable.class, (event, e) -> this.sendMessage(event, e.getMessage()));
     }
 
     @Override
@@ -82,55 +113,8 @@ public class JDACommandListener<C> extends ListenerAdapter {
                     if (throwable == null) {
                         return;
                     }
-
-                    if (throwable instanceof InvalidSyntaxException) {
-                        this.commandManager.handleException(sender,
-                                InvalidSyntaxException.class,
-                                (InvalidSyntaxException) throwable, (c, e) -> this.sendMessage(
-                                        event,
-                                        MESSAGE_INVALID_SYNTAX + prefix + ((InvalidSyntaxException) throwable)
-                                                .getCorrectSyntax()
-                                )
-                        );
-                    } else if (throwable instanceof InvalidCommandSenderException) {
-                        this.commandManager.handleException(sender,
-                                InvalidCommandSenderException.class,
-                                (InvalidCommandSenderException) throwable, (c, e) ->
-                                        this.sendMessage(event, throwable.getMessage())
-                        );
-                    } else if (throwable instanceof NoPermissionException) {
-                        this.commandManager.handleException(sender,
-                                NoPermissionException.class,
-                                (NoPermissionException) throwable, (c, e) ->
-                                        this.sendMessage(event, MESSAGE_NO_PERMS)
-                        );
-                    } else if (throwable instanceof NoSuchCommandException) {
-                        this.commandManager.handleException(sender,
-                                NoSuchCommandException.class,
-                                (NoSuchCommandException) throwable, (c, e) ->
-                                        this.sendMessage(event, MESSAGE_UNKNOWN_COMMAND)
-                        );
-                    } else if (throwable instanceof ArgumentParseException) {
-                        this.commandManager.handleException(sender, ArgumentParseException.class,
-                                (ArgumentParseException) throwable, (c, e) -> this.sendMessage(
-                                        event,
-                                        "Invalid Command Argument: " + throwable.getCause()
-                                                .getMessage()
-                                )
-                        );
-                    } else if (throwable instanceof CommandExecutionException) {
-                        this.commandManager.handleException(sender, CommandExecutionException.class,
-                                (CommandExecutionException) throwable, (c, e) -> {
-                                    this.sendMessage(
-                                            event,
-                                            MESSAGE_INTERNAL_ERROR
-                                    );
-                                    throwable.getCause().printStackTrace();
-                                }
-                        );
-                    } else {
-                        this.sendMessage(event, throwable.getMessage());
-                    }
+                    this.commandManager.handleExecutionFailure(sender, throwable, (c, e) ->
+                            this.defaultExceptionHandlers.handle(event, e));
                 });
     }
 
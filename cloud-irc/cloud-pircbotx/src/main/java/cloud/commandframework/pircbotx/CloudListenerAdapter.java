@@ -25,6 +25,7 @@ package cloud.commandframework.pircbotx;
 
 import cloud.commandframework.exceptions.ArgumentParseException;
 import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.exceptions.ExceptionHandlerRegistry;
 import cloud.commandframework.exceptions.InvalidCommandSenderException;
 import cloud.commandframework.exceptions.InvalidSyntaxException;
 import cloud.commandframework.exceptions.NoPermissionException;
@@ -32,6 +33,8 @@ import cloud.commandframework.exceptions.NoSuchCommandException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.pircbotx.hooks.ListenerAdapter;
 import org.pircbotx.hooks.types.GenericMessageEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 final class CloudListenerAdapter<C> extends ListenerAdapter {
 
@@ -40,11 +43,32 @@ final class CloudListenerAdapter<C> extends ListenerAdapter {
     private static final String MESSAGE_NO_PERMS = "I'm sorry, but you do not have permission to perform this command. "
             + "Please contact the server administrators if you believe that this is in error.";
     private static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    private static final Logger LOGGER = LoggerFactory.getLogger(CloudListenerAdapter.class);
 
     private final PircBotXCommandManager<C> manager;
+    private final ExceptionHandlerRegistry<GenericMessageEvent> defaultExceptionHandlers;
 
     CloudListenerAdapter(final @NonNull PircBotXCommandManager<C> manager) {
         this.manager = manager;
+        this.defaultExceptionHandlers = this.createDefaultExceptionHandlers();
+    }
+
+    private @NonNull ExceptionHandlerRegistry<GenericMessageEvent> createDefaultExceptionHandlers() {
+        return new ExceptionHandlerRegistry<GenericMessageEvent>()
+                .register(InvalidSyntaxException.class, (event, e) -> event.respondWith(
+                        MESSAGE_INVALID_SYNTAX + this.manager.getCommandPrefix() + e.getCorrectSyntax()
+                ))
+                .register(InvalidCommandSenderException.class, (event, e) -> event.respondWith(e.getMessage()))
+                .register(NoPermissionException.class, (event, e) -> event.respondWith(MESSAGE_NO_PERMS))
+                .register(NoSuchCommandException.class, (event, e) -> event.respondWith(MESSAGE_UNKNOWN_COMMAND))
+                .register(ArgumentParseException.class, (event, e) -> event.respondWith(
+                        "Invalid Command Argument: " + e.getCause().getMessage()
+                ))
+                .register(CommandExecutionException.class, (event, e) -> {
+                    event.respondWith(MESSAGE_INTERNAL_ERROR);
+                    LOGGER.error("Exception executing command handler", e.getCause());
+                })
+                .register(Throwable.class, (event, e) -> event.respondWith(e.getMessage()));
     }
 
     @Override
@@ -59,50 +83,8 @@ final class CloudListenerAdapter<C> extends ListenerAdapter {
                     if (throwable == null) {
                         return;
                     }
-                    final Throwable finalThrowable = throwable;
-
-                    if (throwable instanceof InvalidSyntaxException) {
-                        this.manager.handleException(sender,
-                                InvalidSyntaxException.class,
-                                (InvalidSyntaxException) throwable, (c, e) -> event.respondWith(
-                                        MESSAGE_INVALID_SYNTAX + this.manager.getCommandPrefix()
-                                                + ((InvalidSyntaxException) throwable).getCorrectSyntax()
-                                )
-                        );
-                    } else if (throwable instanceof InvalidCommandSenderException) {
-                        this.manager.handleException(sender,
-                                InvalidCommandSenderException.class,
-                                (InvalidCommandSenderException) throwable, (c, e) ->
-                                        event.respondWith(throwable.getMessage())
-                        );
-                    } else if (throwable instanceof NoPermissionException) {
-                        this.manager.handleException(sender,
-                                NoPermissionException.class,
-                                (NoPermissionException) throwable, (c, e) ->
-                                        event.respondWith(MESSAGE_NO_PERMS)
-                        );
-                    } else if (throwable instanceof NoSuchCommandException) {
-                        this.manager.handleException(sender,
-                                NoSuchCommandException.class,
-                                (NoSuchCommandException) throwable, (c, e) ->
-                                        event.respondWith(MESSAGE_UNKNOWN_COMMAND)
-                        );
-                    } else if (throwable instanceof ArgumentParseException) {
-                        this.manager.handleException(sender, ArgumentParseException.class,
-                                (ArgumentParseException) throwable, (c, e) -> event.respondWith(
-                                        "Invalid Command Argument: " + throwable.getCause().getMessage()
-                                )
-                        );
-                    } else if (throwable instanceof CommandExecutionException) {
-                        this.manager.handleException(sender, CommandExecutionException.class,
-                                (CommandExecutionException) throwable, (c, e) -> {
-                                    event.respondWith(MESSAGE_INTERNAL_ERROR);
-                                    finalThrowable.getCause().printStackTrace();
-                                }
-                        );
-                    } else {
-                        event.respondWith(throwable.getMessage());
-                    }
+                    this.manager.handleExecutionFailure(sender, throwable, (c, e) ->
+                            this.defaultExceptionHandlers.handle(event, e));
                 });
     }
 
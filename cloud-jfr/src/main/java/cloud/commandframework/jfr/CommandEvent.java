@@ -0,0 +1,86 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.jfr;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.metrics.CommandTracer;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.StringJoiner;
+
+/**
+ * Base of the flight recorder events that are emitted by {@link JfrCommandTracer}. The concrete events only
+ * declare the name, label and description of the event type.
+ * <p>
+ * The fields are package-private, as the flight recorder does not record private fields of super classes
+ */
+@Category({"Cloud", "Commands"})
+@StackTrace(false)
+abstract class CommandEvent extends Event implements CommandTracer.Span {
+
+    @Label("Command")
+    String command;
+
+    @Label("Argument")
+    String argument;
+
+    @Label("Sender Type")
+    String senderType;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Override
+    public final void complete(
+            final @NonNull Class<?> senderType,
+            final @Nullable Command<?> command,
+            final @Nullable CommandArgument<?, ?> argument,
+            final @Nullable Throwable failure
+    ) {
+        this.end();
+        if (!this.shouldCommit()) {
+            return;
+        }
+        this.command = command == null ? null : describe(command);
+        this.argument = argument == null ? null : argument.getName();
+        this.senderType = senderType.getName();
+        this.outcome = failure == null ? "success" : failure.getClass().getName();
+        this.commit();
+    }
+
+    private static @NonNull String describe(final @NonNull Command<?> command) {
+        final StringJoiner joiner = new StringJoiner(" ");
+        for (final CommandArgument<?, ?> argument : command.getArguments()) {
+            joiner.add(argument.getName());
+        }
+        return joiner.toString();
+    }
+
+}
@@ -0,0 +1,112 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.jfr;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.metrics.CommandTracer;
+import jdk.jfr.EventType;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * {@link CommandTracer} that emits JDK Flight Recorder events. Every {@link CommandTracer.Phase phase} has its own
+ * event type in the {@code Cloud/Commands} category, which records the command, the argument, the type of the sender
+ * and the outcome of the phase. Events are only created while a recording has enabled them, which is checked against
+ * the event type of the phase before any event is allocated.
+ * <p>
+ * Requires a JVM with flight recorder support, such as OpenJDK 8u262 or later
+ */
+public final class JfrCommandTracer implements CommandTracer {
+
+    private final EventType[] eventTypes = new EventType[Phase.values().length];
+
+    /**
+     * Create a new tracer
+     */
+    public JfrCommandTracer() {
+        for (final Phase phase : Phase.values()) {
+            final Class<? extends CommandEvent> eventClass = eventClass(phase);
+            if (eventClass != null) {
+                this.eventTypes[phase.ordinal()] = EventType.getEventType(eventClass);
+            }
+        }
+    }
+
+    /**
+     * Install a new tracer into a command manager
+     *
+     * @param commandManager Command manager
+     */
+    public static void install(final @NonNull CommandManager<?> commandManager) {
+        commandManager.setCommandTracer(new JfrCommandTracer());
+    }
+
+    @Override
+    public @Nullable Span begin(final @NonNull Phase phase) {
+        final EventType eventType = this.eventTypes[phase.ordinal()];
+        if (eventType == null || !eventType.isEnabled()) {
+            return null;
+        }
+        final CommandEvent event;
+        switch (phase) {
+            case EXECUTE:
+                event = new CommandExecutionEvent();
+                break;
+            case PARSE:
+                event = new CommandParseEvent();
+                break;
+            case SUGGEST:
+                event = new CommandSuggestionEvent();
+                break;
+            case ARGUMENT_PARSE:
+                event = new ArgumentParseEvent();
+                break;
+            case HANDLER:
+                event = new CommandHandlerEvent();
+                break;
+            default:
+                return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    private static @Nullable Class<? extends CommandEvent> eventClass(final @NonNull Phase phase) {
+        switch (phase) {
+            case EXECUTE:
+                return CommandExecutionEvent.class;
+            case PARSE:
+                return CommandParseEvent.class;
+            case SUGGEST:
+                return CommandSuggestionEvent.class;
+            case ARGUMENT_PARSE:
+                return ArgumentParseEvent.class;
+            case HANDLER:
+                return CommandHandlerEvent.class;
+            default:
+                return null;
+        }
+    }
+
+}
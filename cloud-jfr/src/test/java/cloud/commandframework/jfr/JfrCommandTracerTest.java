@@ -0,0 +1,124 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.jfr;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.execution.CommandExecutionCoordinator;
+import cloud.commandframework.internal.CommandRegistrationHandler;
+import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import cloud.commandframework.metrics.CommandTracer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class JfrCommandTracerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecordedEvents() throws Exception {
+        final CommandManager<Sender> manager = createManager();
+        final Path file = this.directory.resolve("commands.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandExecutionEvent.class);
+            recording.enable(CommandParseEvent.class);
+            recording.enable(ArgumentParseEvent.class);
+            recording.enable(CommandHandlerEvent.class);
+            recording.enable(CommandSuggestionEvent.class);
+            recording.start();
+            manager.executeCommand(new Sender(), "traced 1").join();
+            Assertions.assertThrows(Exception.class, () -> manager.executeCommand(new Sender(), "traced x").join());
+            manager.suggest(new Sender(), "traced ");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final Map<String, Integer> counts = new HashMap<>();
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        for (final RecordedEvent event : events) {
+            final String name = event.getEventType().getName();
+            counts.merge(name, 1, Integer::sum);
+            Assertions.assertEquals(Sender.class.getName(), event.getString("senderType"));
+            if (name.equals("cloud.CommandHandler")) {
+                Assertions.assertEquals("traced value", event.getString("command"));
+                Assertions.assertEquals("success", event.getString("outcome"));
+            }
+            if (name.equals("cloud.ArgumentParse") && "value".equals(event.getString("argument"))) {
+                Assertions.assertEquals("traced value", event.getString("command"));
+            }
+        }
+        Assertions.assertEquals(2, counts.get("cloud.CommandExecution"));
+        Assertions.assertEquals(2, counts.get("cloud.CommandParse"));
+        Assertions.assertEquals(4, counts.get("cloud.ArgumentParse"));
+        Assertions.assertEquals(1, counts.get("cloud.CommandHandler"));
+        Assertions.assertEquals(1, counts.get("cloud.CommandSuggestion"));
+        Assertions.assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("cloud.CommandParse")
+                && event.getString("outcome").endsWith("ArgumentParseException")));
+    }
+
+    @Test
+    void testDisabledEvents() {
+        final CommandTracer tracer = new JfrCommandTracer();
+        for (final CommandTracer.Phase phase : CommandTracer.Phase.values()) {
+            Assertions.assertNull(tracer.begin(phase));
+        }
+    }
+
+    private static CommandManager<Sender> createManager() {
+        final CommandManager<Sender> manager = new CommandManager<Sender>(
+                CommandExecutionCoordinator.simpleCoordinator(),
+                CommandRegistrationHandler.nullCommandRegistrationHandler()
+        ) {
+            @Override
+            public boolean hasPermission(final Sender sender, final String permission) {
+                return true;
+            }
+
+            @Override
+            public CommandMeta createDefaultCommandMeta() {
+                return SimpleCommandMeta.empty();
+            }
+        };
+        JfrCommandTracer.install(manager);
+        manager.command(manager.commandBuilder("traced").argument(IntegerArgument.of("value")).handler(c -> {
+        }));
+        return manager;
+    }
+
+    private static final class Sender {
+
+    }
+
+}
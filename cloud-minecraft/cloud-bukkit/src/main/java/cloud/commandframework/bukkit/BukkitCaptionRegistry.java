@@ -86,53 +86,53 @@ public class BukkitCaptionRegistry<C> extends SimpleCaptionRegistry<C> {
 
     protected BukkitCaptionRegistry() {
         super();
-        this.registerMessageFactory(
+        this.registerMessage(
                 BukkitCaptionKeys.ARGUMENT_PARSE_FAILURE_ENCHANTMENT,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_ENCHANTMENT
+                ARGUMENT_PARSE_FAILURE_ENCHANTMENT
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 BukkitCaptionKeys.ARGUMENT_PARSE_FAILURE_MATERIAL,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_MATERIAL
+                ARGUMENT_PARSE_FAILURE_MATERIAL
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 BukkitCaptionKeys.ARGUMENT_PARSE_FAILURE_OFFLINEPLAYER,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_OFFLINEPLAYER
+                ARGUMENT_PARSE_FAILURE_OFFLINEPLAYER
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 BukkitCaptionKeys.ARGUMENT_PARSE_FAILURE_PLAYER,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_PLAYER
+                ARGUMENT_PARSE_FAILURE_PLAYER
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 BukkitCaptionKeys.ARGUMENT_PARSE_FAILURE_WORLD,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_WORLD
+                ARGUMENT_PARSE_FAILURE_WORLD
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 BukkitCaptionKeys.ARGUMENT_PARSE_FAILURE_SELECTOR_MALFORMED,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_SELECTOR_MALFORMED
+                ARGUMENT_PARSE_FAILURE_SELECTOR_MALFORMED
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 BukkitCaptionKeys.ARGUMENT_PARSE_FAILURE_SELECTOR_UNSUPPORTED,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_SELECTOR_UNSUPPORTED
+                ARGUMENT_PARSE_FAILURE_SELECTOR_UNSUPPORTED
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 BukkitCaptionKeys.ARGUMENT_PARSE_FAILURE_SELECTOR_TOO_MANY_PLAYERS,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_SELECTOR_TOO_MANY_PLAYERS
+                ARGUMENT_PARSE_FAILURE_SELECTOR_TOO_MANY_PLAYERS
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 BukkitCaptionKeys.ARGUMENT_PARSE_FAILURE_SELECTOR_TOO_MANY_ENTITIES,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_SELECTOR_TOO_MANY_ENTITIES
+                ARGUMENT_PARSE_FAILURE_SELECTOR_TOO_MANY_ENTITIES
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 BukkitCaptionKeys.ARGUMENT_PARSE_FAILURE_SELECTOR_NON_PLAYER,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_SELECTOR_NON_PLAYER
+                ARGUMENT_PARSE_FAILURE_SELECTOR_NON_PLAYER
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 BukkitCaptionKeys.ARGUMENT_PARSE_FAILURE_LOCATION_INVALID_FORMAT,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_LOCATION_INVALID_FORMAT
+                ARGUMENT_PARSE_FAILURE_LOCATION_INVALID_FORMAT
         );
-        this.registerMessageFactory(
+        this.registerMessage(
                 BukkitCaptionKeys.ARGUMENT_PARSE_FAILURE_LOCATION_MIXED_LOCAL_ABSOLUTE,
-                (caption, sender) -> ARGUMENT_PARSE_FAILURE_LOCATION_MIXED_LOCAL_ABSOLUTE
+                ARGUMENT_PARSE_FAILURE_LOCATION_MIXED_LOCAL_ABSOLUTE
         );
     }
 
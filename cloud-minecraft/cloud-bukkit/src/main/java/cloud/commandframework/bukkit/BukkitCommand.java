@@ -27,6 +27,7 @@ import cloud.commandframework.Command;
 import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.exceptions.ArgumentParseException;
 import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.exceptions.ExceptionHandlerRegistry;
 import cloud.commandframework.exceptions.InvalidCommandSenderException;
 import cloud.commandframework.exceptions.InvalidSyntaxException;
 import cloud.commandframework.exceptions.NoPermissionException;
@@ -39,7 +40,6 @@ import org.bukkit.plugin.Plugin;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.List;
-import java.util.concurrent.CompletionException;
 import java.util.logging.Level;
 
 final class BukkitCommand<C> extends org.bukkit.command.Command implements PluginIdentifiableCommand {
@@ -54,13 +54,15 @@ final class BukkitCommand<C> extends org.bukkit.command.Command implements Plugi
     private final CommandArgument<C, ?> command;
     private final BukkitCommandManager<C> manager;
     private final Command<C> cloudCommand;
+    private final ExceptionHandlerRegistry<CommandSender> defaultExceptionHandlers;
 
     BukkitCommand(
             final @NonNull String label,
             final @NonNull List<@NonNull String> aliases,
             final @NonNull Command<C> cloudCommand,
             final @NonNull CommandArgument<C, ?> command,
-            final @NonNull BukkitCommandManager<C> manager
+            final @NonNull BukkitCommandManager<C> manager,
+            final @NonNull ExceptionHandlerRegistry<CommandSender> defaultExceptionHandlers
     ) {
         super(
                 label,
@@ -74,6 +76,52 @@ final class BukkitCommand<C> extends org.bukkit.command.Command implements Plugi
         if (this.command.getOwningCommand() != null) {
             this.setPermission(this.command.getOwningCommand().getCommandPermission().toString());
         }
+        this.defaultExceptionHandlers = defaultExceptionHandlers;
+    }
+
+    /**
+     * Create the handlers of exceptions that no exception handler has been registered for. These are shared
+     * by all commands of a command manager
+     *
+     * @param manager Command manager
+     * @param <C>     Command sender type
+     * @return Default exception handlers
+     */
+    static <C> @NonNull ExceptionHandlerRegistry<CommandSender> createDefaultExceptionHandlers(
+            final @NonNull BukkitCommandManager<C> manager
+    ) {
+        return new ExceptionHandlerRegistry<CommandSender>()
+                .register(InvalidSyntaxException.class, (commandSender, e) -> commandSender.sendMessage(
+                        ChatColor.RED + "Invalid Command Syntax. "
+                                + "Correct command syntax is: "
+                                + ChatColor.GRAY + "/"
+                                + e.getCorrectSyntax()
+                ))
+                .register(InvalidCommandSenderException.class, (commandSender, e) ->
+                        commandSender.sendMessage(ChatColor.RED + e.getMessage()))
+                .register(NoPermissionException.class, (commandSender, e) -> commandSender.sendMessage(MESSAGE_NO_PERMS))
+                .register(NoSuchCommandException.class, (commandSender, e) ->
+                        commandSender.sendMessage(MESSAGE_UNKNOWN_COMMAND))
+                .register(ArgumentParseException.class, (commandSender, e) -> commandSender.sendMessage(
+                        ChatColor.RED + "Invalid Command Argument: "
+                                + ChatColor.GRAY + e.getCause().getMessage()
+                ))
+                .register(CommandExecutionException.class, (commandSender, e) -> {
+                    commandSender.sendMessage(MESSAGE_INTERNAL_ERROR);
+                    manager.getOwningPlugin().getLogger().log(
+                            Level.SEVERE,
+                            "Exception executing command handler",
+                            e.getCause()
+                    );
+                })
+                .register(Throwable.class, (commandSender, e) -> {
+                    commandSender.sendMessage(MESSAGE_INTERNAL_ERROR);
+                    manager.getOwningPlugin().getLogger().log(
+                            Level.SEVERE,
+                            "An unhandled exception was thrown during command execution",
+                            e
+                    );
+                });
     }
 
     @Override
@@ -94,69 +142,8 @@ final class BukkitCommand<C> extends org.bukkit.command.Command implements Plugi
         )
                 .whenComplete((commandResult, throwable) -> {
                     if (throwable != null) {
-                        if (throwable instanceof CompletionException) {
-                            throwable = throwable.getCause();
-                        }
-                        final Throwable finalThrowable = throwable;
-                        if (throwable instanceof InvalidSyntaxException) {
-                            this.manager.handleException(sender,
-                                    InvalidSyntaxException.class,
-                                    (InvalidSyntaxException) throwable, (c, e) ->
-                                            commandSender.sendMessage(
-                                                    ChatColor.RED + "Invalid Command Syntax. "
-                                                            + "Correct command syntax is: "
-                                                            + ChatColor.GRAY + "/"
-                                                            + ((InvalidSyntaxException) finalThrowable)
-                                                            .getCorrectSyntax())
-                            );
-                        } else if (throwable instanceof InvalidCommandSenderException) {
-                            this.manager.handleException(sender,
-                                    InvalidCommandSenderException.class,
-                                    (InvalidCommandSenderException) throwable, (c, e) ->
-                                            commandSender.sendMessage(
-                                                    ChatColor.RED + finalThrowable.getMessage())
-                            );
-                        } else if (throwable instanceof NoPermissionException) {
-                            this.manager.handleException(sender,
-                                    NoPermissionException.class,
-                                    (NoPermissionException) throwable, (c, e) ->
-                                            commandSender.sendMessage(MESSAGE_NO_PERMS)
-                            );
-                        } else if (throwable instanceof NoSuchCommandException) {
-                            this.manager.handleException(sender,
-                                    NoSuchCommandException.class,
-                                    (NoSuchCommandException) throwable, (c, e) ->
-                                            commandSender.sendMessage(MESSAGE_UNKNOWN_COMMAND)
-                            );
-                        } else if (throwable instanceof ArgumentParseException) {
-                            this.manager.handleException(sender,
-                                    ArgumentParseException.class,
-                                    (ArgumentParseException) throwable, (c, e) ->
-                                            commandSender.sendMessage(
-                                                    ChatColor.RED + "Invalid Command Argument: "
-                                                            + ChatColor.GRAY + finalThrowable.getCause()
-                                                            .getMessage())
-                            );
-                        } else if (throwable instanceof CommandExecutionException) {
-                            this.manager.handleException(sender,
-                                    CommandExecutionException.class,
-                                    (CommandExecutionException) throwable, (c, e) -> {
-                                        commandSender.sendMessage(MESSAGE_INTERNAL_ERROR);
-                                        this.manager.getOwningPlugin().getLogger().log(
-                                                Level.SEVERE,
-                                                "Exception executing command handler",
-                                                finalThrowable.getCause()
-                                        );
-                                    }
-                            );
-                        } else {
-                            commandSender.sendMessage(MESSAGE_INTERNAL_ERROR);
-                            this.manager.getOwningPlugin().getLogger().log(
-                                    Level.SEVERE,
-                                    "An unhandled exception was thrown during command execution",
-                                    throwable
-                            );
-                        }
+                        this.manager.handleExecutionFailure(sender, throwable, (c, e) ->
+                                this.defaultExceptionHandlers.handle(commandSender, e));
                     }
                 });
         return true;
@@ -179,7 +166,7 @@ final class BukkitCommand<C> extends org.bukkit.command.Command implements Plugi
 
     @Override
     public String getUsage() {
-        return this.manager.getCommandSyntaxFormatter().apply(this.cloudCommand.getArguments(), null);
+        return this.manager.getCommandTree().formatSyntax(this.cloudCommand.getArguments(), null);
     }
 
 }
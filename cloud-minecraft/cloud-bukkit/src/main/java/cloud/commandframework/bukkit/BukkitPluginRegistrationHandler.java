@@ -27,9 +27,11 @@ import cloud.commandframework.Command;
 import cloud.commandframework.CommandManager;
 import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.arguments.StaticArgument;
+import cloud.commandframework.exceptions.ExceptionHandlerRegistry;
 import cloud.commandframework.internal.CommandRegistrationHandler;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandMap;
+import org.bukkit.command.CommandSender;
 import org.bukkit.command.PluginIdentifiableCommand;
 import org.bukkit.command.SimpleCommandMap;
 import org.bukkit.help.GenericCommandHelpTopic;
@@ -52,6 +54,7 @@ public class BukkitPluginRegistrationHandler<C> implements CommandRegistrationHa
 
     private Map<String, org.bukkit.command.Command> bukkitCommands;
     private BukkitCommandManager<C> bukkitCommandManager;
+    private ExceptionHandlerRegistry<CommandSender> defaultExceptionHandlers;
     private CommandMap commandMap;
 
     BukkitPluginRegistrationHandler() {
@@ -67,6 +70,7 @@ public class BukkitPluginRegistrationHandler<C> implements CommandRegistrationHa
                 (Map<String, org.bukkit.command.Command>) knownCommands.get(commandMap);
         this.bukkitCommands = bukkitCommands;
         this.bukkitCommandManager = bukkitCommandManager;
+        this.defaultExceptionHandlers = BukkitCommand.createDefaultExceptionHandlers(bukkitCommandManager);
         Bukkit.getHelpMap().registerHelpTopicFactory(BukkitCommand.class, GenericCommandHelpTopic::new);
     }
 
@@ -89,7 +93,8 @@ public class BukkitPluginRegistrationHandler<C> implements CommandRegistrationHa
                 aliases,
                 (Command<C>) command,
                 (CommandArgument<C, ?>) commandArgument,
-                this.bukkitCommandManager
+                this.bukkitCommandManager,
+                this.defaultExceptionHandlers
         );
 
         if (this.bukkitCommandManager.getSetting(CommandManager.ManagerSettings.OVERRIDE_EXISTING_COMMANDS)) {
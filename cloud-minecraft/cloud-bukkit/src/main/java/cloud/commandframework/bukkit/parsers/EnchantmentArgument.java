@@ -172,6 +172,16 @@ public class EnchantmentArgument<C> extends CommandArgument<C, Enchantment> {
             return completions;
         }
 
+        @Override
+        public boolean isContextFree() {
+            return true;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
     }
 
 
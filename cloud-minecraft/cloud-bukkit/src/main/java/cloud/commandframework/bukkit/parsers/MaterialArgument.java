@@ -159,6 +159,21 @@ public class MaterialArgument<C> extends CommandArgument<C, Material> {
             return completions;
         }
 
+        @Override
+        public boolean isContextFree() {
+            return true;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
+        @Override
+        public boolean hasStaticSuggestions() {
+            return true;
+        }
+
     }
 
 
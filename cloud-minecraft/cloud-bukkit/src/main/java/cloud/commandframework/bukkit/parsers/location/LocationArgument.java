@@ -179,12 +179,12 @@ public final class LocationArgument<C> extends CommandArgument<C, Location> {
                         commandContext,
                         inputQueue
                 );
-                if (coordinate.getFailure().isPresent()) {
+                if (!coordinate.isSuccess()) {
                     return ArgumentParseResult.failure(
-                            coordinate.getFailure().get()
+                            coordinate.failureOrNull()
                     );
                 }
-                coordinates[i] = coordinate.getParsedValue().orElseThrow(NullPointerException::new);
+                coordinates[i] = coordinate.value();
             }
             final Location originalLocation;
             final CommandSender bukkitSender = commandContext.get("BukkitCommandSender");
@@ -27,6 +27,7 @@ import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.exceptions.ArgumentParseException;
 import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.exceptions.ExceptionHandlerRegistry;
 import cloud.commandframework.exceptions.InvalidCommandSenderException;
 import cloud.commandframework.exceptions.InvalidSyntaxException;
 import cloud.commandframework.exceptions.NoPermissionException;
@@ -38,7 +39,6 @@ import net.md_5.bungee.api.plugin.Command;
 import net.md_5.bungee.api.plugin.TabExecutor;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.util.concurrent.CompletionException;
 import java.util.logging.Level;
 
 public final class BungeeCommand<C> extends Command implements TabExecutor {
@@ -51,12 +51,14 @@ public final class BungeeCommand<C> extends Command implements TabExecutor {
 
     private final BungeeCommandManager<C> manager;
     private final CommandArgument<C, ?> command;
+    private final ExceptionHandlerRegistry<CommandSender> defaultExceptionHandlers;
 
     @SuppressWarnings("unchecked")
     BungeeCommand(
             final cloud.commandframework.@NonNull Command<C> cloudCommand,
             final @NonNull CommandArgument<C, ?> command,
-            final @NonNull BungeeCommandManager<C> manager
+            final @NonNull BungeeCommandManager<C> manager,
+            final @NonNull ExceptionHandlerRegistry<CommandSender> defaultExceptionHandlers
     ) {
         super(
                 command.getName(),
@@ -65,6 +67,67 @@ public final class BungeeCommand<C> extends Command implements TabExecutor {
         );
         this.command = command;
         this.manager = manager;
+        this.defaultExceptionHandlers = defaultExceptionHandlers;
+    }
+
+    /**
+     * Create the handlers of exceptions that no exception handler has been registered for. These are shared
+     * by all commands of a command manager
+     *
+     * @param manager Command manager
+     * @param <C>     Command sender type
+     * @return Default exception handlers
+     */
+    static <C> @NonNull ExceptionHandlerRegistry<CommandSender> createDefaultExceptionHandlers(
+            final @NonNull BungeeCommandManager<C> manager
+    ) {
+        return new ExceptionHandlerRegistry<CommandSender>()
+                .register(InvalidSyntaxException.class, (commandSender, e) -> commandSender.sendMessage(
+                        new ComponentBuilder("Invalid Command Syntax. Correct command syntax is: ")
+                                .color(ChatColor.RED)
+                                .append("/")
+                                .color(ChatColor.GRAY)
+                                .append(e.getCorrectSyntax())
+                                .color(ChatColor.GRAY)
+                                .create()
+                ))
+                .register(InvalidCommandSenderException.class, (commandSender, e) -> commandSender.sendMessage(
+                        new ComponentBuilder(e.getMessage())
+                                .color(ChatColor.RED)
+                                .create()
+                ))
+                .register(NoPermissionException.class, (commandSender, e) -> commandSender.sendMessage(
+                        new ComponentBuilder(MESSAGE_NO_PERMS)
+                                .color(ChatColor.WHITE)
+                                .create()
+                ))
+                .register(NoSuchCommandException.class, (commandSender, e) -> commandSender.sendMessage(
+                        new ComponentBuilder(MESSAGE_UNKNOWN_COMMAND)
+                                .color(ChatColor.WHITE)
+                                .create()
+                ))
+                .register(ArgumentParseException.class, (commandSender, e) -> commandSender.sendMessage(
+                        new ComponentBuilder("Invalid Command Argument: ")
+                                .color(ChatColor.GRAY)
+                                .append(e.getCause().getMessage())
+                                .create()
+                ))
+                .register(CommandExecutionException.class, (commandSender, e) -> {
+                    commandSender.sendMessage(new ComponentBuilder(MESSAGE_INTERNAL_ERROR).color(ChatColor.RED).create());
+                    manager.getOwningPlugin().getLogger().log(
+                            Level.SEVERE,
+                            "Exception executing command handler",
+                            e.getCause()
+                    );
+                })
+                .register(Throwable.class, (commandSender, e) -> {
+                    commandSender.sendMessage(new ComponentBuilder(MESSAGE_INTERNAL_ERROR).color(ChatColor.RED).create());
+                    manager.getOwningPlugin().getLogger().log(
+                            Level.SEVERE,
+                            "An unhandled exception was thrown during command execution",
+                            e
+                    );
+                });
     }
 
     @Override
@@ -81,88 +144,8 @@ public final class BungeeCommand<C> extends Command implements TabExecutor {
         )
                 .whenComplete((commandResult, throwable) -> {
                     if (throwable != null) {
-                        if (throwable instanceof CompletionException) {
-                            throwable = throwable.getCause();
-                        }
-                        final Throwable finalThrowable = throwable;
-                        if (throwable instanceof InvalidSyntaxException) {
-                            this.manager.handleException(sender,
-                                    InvalidSyntaxException.class,
-                                    (InvalidSyntaxException) throwable, (c, e) ->
-                                            commandSender.sendMessage(
-                                                    new ComponentBuilder(
-                                                            "Invalid Command Syntax. Correct command syntax is: ")
-                                                            .color(ChatColor.RED)
-                                                            .append("/")
-                                                            .color(ChatColor.GRAY)
-                                                            .append(((InvalidSyntaxException) finalThrowable)
-                                                                    .getCorrectSyntax())
-                                                            .color(ChatColor.GRAY)
-                                                            .create()
-                                            )
-                            );
-                        } else if (throwable instanceof InvalidCommandSenderException) {
-                            final Throwable finalThrowable1 = throwable;
-                            this.manager.handleException(sender,
-                                    InvalidCommandSenderException.class,
-                                    (InvalidCommandSenderException) throwable, (c, e) ->
-                                            commandSender.sendMessage(new ComponentBuilder(
-                                                    finalThrowable1.getMessage())
-                                                    .color(ChatColor.RED)
-                                                    .create())
-                            );
-                        } else if (throwable instanceof NoPermissionException) {
-                            this.manager.handleException(sender,
-                                    NoPermissionException.class,
-                                    (NoPermissionException) throwable, (c, e) ->
-                                            commandSender.sendMessage(new ComponentBuilder(
-                                                    MESSAGE_NO_PERMS)
-                                                    .color(ChatColor.WHITE)
-                                                    .create())
-                            );
-                        } else if (throwable instanceof NoSuchCommandException) {
-                            this.manager.handleException(sender,
-                                    NoSuchCommandException.class,
-                                    (NoSuchCommandException) throwable, (c, e) ->
-                                            commandSender.sendMessage(new ComponentBuilder(
-                                                    MESSAGE_UNKNOWN_COMMAND)
-                                                    .color(ChatColor.WHITE)
-                                                    .create())
-                            );
-                        } else if (throwable instanceof ArgumentParseException) {
-                            this.manager.handleException(sender,
-                                    ArgumentParseException.class,
-                                    (ArgumentParseException) throwable, (c, e) ->
-                                            commandSender.sendMessage(new ComponentBuilder(
-                                                    "Invalid Command Argument: ")
-                                                    .color(ChatColor.GRAY)
-                                                    .append(finalThrowable
-                                                            .getCause()
-                                                            .getMessage())
-                                                    .create())
-                            );
-                        } else if (throwable instanceof CommandExecutionException) {
-                            this.manager.handleException(sender,
-                                    CommandExecutionException.class,
-                                    (CommandExecutionException) throwable, (c, e) -> {
-                                        commandSender.sendMessage(new ComponentBuilder(MESSAGE_INTERNAL_ERROR)
-                                                .color(ChatColor.RED)
-                                                .create());
-                                        this.manager.getOwningPlugin().getLogger().log(
-                                                Level.SEVERE,
-                                                "Exception executing command handler",
-                                                finalThrowable.getCause()
-                                        );
-                                    }
-                            );
-                        } else {
-                            commandSender.sendMessage(new ComponentBuilder(MESSAGE_INTERNAL_ERROR).color(ChatColor.RED).create());
-                            this.manager.getOwningPlugin().getLogger().log(
-                                    Level.SEVERE,
-                                    "An unhandled exception was thrown during command execution",
-                                    throwable
-                            );
-                        }
+                        this.manager.handleExecutionFailure(sender, throwable, (c, e) ->
+                                this.defaultExceptionHandlers.handle(commandSender, e));
                     }
                 });
     }
@@ -25,7 +25,9 @@ package cloud.commandframework.bungee;
 
 import cloud.commandframework.Command;
 import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.exceptions.ExceptionHandlerRegistry;
 import cloud.commandframework.internal.CommandRegistrationHandler;
+import net.md_5.bungee.api.CommandSender;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.HashMap;
@@ -36,12 +38,14 @@ final class BungeePluginRegistrationHandler<C> implements CommandRegistrationHan
     private final Map<CommandArgument<?, ?>, net.md_5.bungee.api.plugin.Command> registeredCommands = new HashMap<>();
 
     private BungeeCommandManager<C> bungeeCommandManager;
+    private ExceptionHandlerRegistry<CommandSender> defaultExceptionHandlers;
 
     BungeePluginRegistrationHandler() {
     }
 
     void initialize(final @NonNull BungeeCommandManager<C> bungeeCommandManager) {
         this.bungeeCommandManager = bungeeCommandManager;
+        this.defaultExceptionHandlers = BungeeCommand.createDefaultExceptionHandlers(bungeeCommandManager);
     }
 
     @Override
@@ -54,7 +58,8 @@ final class BungeePluginRegistrationHandler<C> implements CommandRegistrationHan
         @SuppressWarnings("unchecked") final BungeeCommand<C> bungeeCommand = new BungeeCommand<>(
                 (Command<C>) command,
                 (CommandArgument<C, ?>) commandArgument,
-                this.bungeeCommandManager
+                this.bungeeCommandManager,
+                this.defaultExceptionHandlers
         );
         this.registeredCommands.put(commandArgument, bungeeCommand);
         this.bungeeCommandManager.getOwningPlugin().getProxy().getPluginManager()
@@ -27,6 +27,7 @@ import cloud.commandframework.Command;
 import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.exceptions.ArgumentParseException;
 import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.exceptions.ExceptionHandlerRegistry;
 import cloud.commandframework.exceptions.InvalidCommandSenderException;
 import cloud.commandframework.exceptions.InvalidSyntaxException;
 import cloud.commandframework.exceptions.NoPermissionException;
@@ -39,7 +40,6 @@ import org.cloudburstmc.server.command.data.CommandData;
 import org.cloudburstmc.server.plugin.Plugin;
 
 import java.util.List;
-import java.util.concurrent.CompletionException;
 
 final class CloudburstCommand<C> extends PluginCommand<Plugin> {
 
@@ -51,13 +51,15 @@ final class CloudburstCommand<C> extends PluginCommand<Plugin> {
 
     private final CommandArgument<C, ?> command;
     private final CloudburstCommandManager<C> manager;
+    private final ExceptionHandlerRegistry<CommandSender> defaultExceptionHandlers;
 
     CloudburstCommand(
             final @NonNull String label,
             final @NonNull List<@NonNull String> aliases,
             final @NonNull Command<C> cloudCommand,
             final @NonNull CommandArgument<C, ?> command,
-            final @NonNull CloudburstCommandManager<C> manager
+            final @NonNull CloudburstCommandManager<C> manager,
+            final @NonNull ExceptionHandlerRegistry<CommandSender> defaultExceptionHandlers
     ) {
         super(manager.getOwningPlugin(), CommandData.builder(label)
                 .addAliases(aliases.toArray(new String[0]))
@@ -66,6 +68,47 @@ final class CloudburstCommand<C> extends PluginCommand<Plugin> {
                 .build());
         this.command = command;
         this.manager = manager;
+        this.defaultExceptionHandlers = defaultExceptionHandlers;
+    }
+
+    /**
+     * Create the handlers of exceptions that no exception handler has been registered for. These are shared
+     * by all commands of a command manager
+     *
+     * @param manager Command manager
+     * @param <C>     Command sender type
+     * @return Default exception handlers
+     */
+    static <C> @NonNull ExceptionHandlerRegistry<CommandSender> createDefaultExceptionHandlers(
+            final @NonNull CloudburstCommandManager<C> manager
+    ) {
+        return new ExceptionHandlerRegistry<CommandSender>()
+                .register(InvalidSyntaxException.class, (commandSender, e) -> commandSender.sendMessage(
+                        "Invalid Command Syntax. "
+                                + "Correct command syntax is: "
+                                + "/"
+                                + e.getCorrectSyntax()
+                ))
+                .register(InvalidCommandSenderException.class, (commandSender, e) -> commandSender.sendMessage(e.getMessage()))
+                .register(NoPermissionException.class, (commandSender, e) -> commandSender.sendMessage(MESSAGE_NO_PERMS))
+                .register(NoSuchCommandException.class, (commandSender, e) -> commandSender.sendMessage(MESSAGE_UNKNOWN_COMMAND))
+                .register(ArgumentParseException.class, (commandSender, e) -> commandSender.sendMessage(
+                        "Invalid Command Argument: " + e.getCause().getMessage()
+                ))
+                .register(CommandExecutionException.class, (commandSender, e) -> {
+                    commandSender.sendMessage(MESSAGE_INTERNAL_ERROR);
+                    manager.getOwningPlugin().getLogger().error(
+                            "Exception executing command handler",
+                            e.getCause()
+                    );
+                })
+                .register(Throwable.class, (commandSender, e) -> {
+                    commandSender.sendMessage(MESSAGE_INTERNAL_ERROR);
+                    manager.getOwningPlugin().getLogger().error(
+                            "An unhandled exception was thrown during command execution",
+                            e
+                    );
+                });
     }
 
     @Override
@@ -86,65 +129,8 @@ final class CloudburstCommand<C> extends PluginCommand<Plugin> {
         )
                 .whenComplete((commandResult, throwable) -> {
                     if (throwable != null) {
-                        if (throwable instanceof CompletionException) {
-                            throwable = throwable.getCause();
-                        }
-                        final Throwable finalThrowable = throwable;
-                        if (throwable instanceof InvalidSyntaxException) {
-                            this.manager.handleException(sender,
-                                    InvalidSyntaxException.class,
-                                    (InvalidSyntaxException) throwable, (c, e) ->
-                                            commandSender.sendMessage(
-                                                    "Invalid Command Syntax. "
-                                                            + "Correct command syntax is: "
-                                                            + "/"
-                                                            + ((InvalidSyntaxException) finalThrowable)
-                                                            .getCorrectSyntax())
-                            );
-                        } else if (throwable instanceof InvalidCommandSenderException) {
-                            this.manager.handleException(sender,
-                                    InvalidCommandSenderException.class,
-                                    (InvalidCommandSenderException) throwable, (c, e) ->
-                                            commandSender.sendMessage(finalThrowable.getMessage())
-                            );
-                        } else if (throwable instanceof NoPermissionException) {
-                            this.manager.handleException(sender,
-                                    NoPermissionException.class,
-                                    (NoPermissionException) throwable, (c, e) ->
-                                            commandSender.sendMessage(MESSAGE_NO_PERMS)
-                            );
-                        } else if (throwable instanceof NoSuchCommandException) {
-                            this.manager.handleException(sender,
-                                    NoSuchCommandException.class,
-                                    (NoSuchCommandException) throwable, (c, e) ->
-                                            commandSender.sendMessage(MESSAGE_UNKNOWN_COMMAND)
-                            );
-                        } else if (throwable instanceof ArgumentParseException) {
-                            this.manager.handleException(sender,
-                                    ArgumentParseException.class,
-                                    (ArgumentParseException) throwable, (c, e) ->
-                                            commandSender.sendMessage(
-                                                    "Invalid Command Argument: "
-                                                            + finalThrowable.getCause().getMessage())
-                            );
-                        } else if (throwable instanceof CommandExecutionException) {
-                            this.manager.handleException(sender,
-                                    CommandExecutionException.class,
-                                    (CommandExecutionException) throwable, (c, e) -> {
-                                        commandSender.sendMessage(MESSAGE_INTERNAL_ERROR);
-                                        manager.getOwningPlugin().getLogger().error(
-                                                "Exception executing command handler",
-                                                finalThrowable.getCause()
-                                        );
-                                    }
-                            );
-                        } else {
-                            commandSender.sendMessage(MESSAGE_INTERNAL_ERROR);
-                            manager.getOwningPlugin().getLogger().error(
-                                    "An unhandled exception was thrown during command execution",
-                                    throwable
-                            );
-                        }
+                        this.manager.handleExecutionFailure(sender, throwable, (c, e) ->
+                                this.defaultExceptionHandlers.handle(commandSender, e));
                     }
                 });
         return true;
@@ -26,9 +26,11 @@ package cloud.commandframework.cloudburst;
 import cloud.commandframework.Command;
 import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.arguments.StaticArgument;
+import cloud.commandframework.exceptions.ExceptionHandlerRegistry;
 import cloud.commandframework.internal.CommandRegistrationHandler;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.cloudburstmc.server.Server;
+import org.cloudburstmc.server.command.CommandSender;
 import org.cloudburstmc.server.plugin.Plugin;
 
 import java.util.HashMap;
@@ -39,12 +41,14 @@ class CloudburstPluginRegistrationHandler<C> implements CommandRegistrationHandl
     private final Map<CommandArgument<?, ?>, org.cloudburstmc.server.command.Command> registeredCommands = new HashMap<>();
 
     private CloudburstCommandManager<C> cloudburstCommandManager;
+    private ExceptionHandlerRegistry<CommandSender> defaultExceptionHandlers;
 
     CloudburstPluginRegistrationHandler() {
     }
 
     void initialize(final @NonNull CloudburstCommandManager<C> cloudburstCommandManager) {
         this.cloudburstCommandManager = cloudburstCommandManager;
+        this.defaultExceptionHandlers = CloudburstCommand.createDefaultExceptionHandlers(cloudburstCommandManager);
     }
 
     @Override
@@ -61,7 +65,8 @@ class CloudburstPluginRegistrationHandler<C> implements CommandRegistrationHandl
                 ((StaticArgument<C>) commandArgument).getAlternativeAliases(),
                 (Command<C>) command,
                 (CommandArgument<C, ?>) commandArgument,
-                this.cloudburstCommandManager
+                this.cloudburstCommandManager,
+                this.defaultExceptionHandlers
         );
         this.registeredCommands.put(commandArgument, cloudburstCommand);
         Server.getInstance().getCommandRegistry().register(plugin, cloudburstCommand);
@@ -359,8 +359,8 @@ public final class MinecraftHelp<C> {
         final Audience audience = this.getAudience(sender);
         audience.sendMessage(Identity.nil(), this.basicHeader(sender));
         audience.sendMessage(Identity.nil(), this.showingResults(sender, query));
-        final String command = this.commandManager.getCommandSyntaxFormatter()
-                .apply(helpTopic.getCommand().getArguments(), null);
+        final String command = this.commandManager.getCommandTree()
+                .formatSyntax(helpTopic.getCommand().getArguments(), null);
         audience.sendMessage(
                 Identity.nil(), this.lastBranch()
                         .append(Component.text(
@@ -400,8 +400,8 @@ public final class MinecraftHelp<C> {
                 final CommandComponent<C> component = iterator.next();
                 final CommandArgument<C, ?> argument = component.getArgument();
 
-                String syntax = this.commandManager.getCommandSyntaxFormatter()
-                        .apply(Collections.singletonList(argument), null);
+                String syntax = this.commandManager.getCommandTree()
+                        .formatSyntax(Collections.singletonList(argument), null);
 
                 final TextComponent.Builder textComponent = Component.text()
                         .append(Component.text("       "))
@@ -23,7 +23,9 @@
 //
 package cloud.commandframework.paper;
 
+import cloud.commandframework.arguments.CoalescingCommandSuggestionEngine;
 import cloud.commandframework.bukkit.BukkitPluginRegistrationHandler;
+import cloud.commandframework.context.CommandContext;
 import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
 import org.bukkit.command.CommandSender;
 import org.bukkit.event.EventHandler;
@@ -36,9 +38,15 @@ import java.util.List;
 final class AsyncCommandSuggestionsListener<C> implements Listener {
 
     private final PaperCommandManager<C> paperCommandManager;
+    private final CoalescingCommandSuggestionEngine<C> suggestionEngine;
 
     AsyncCommandSuggestionsListener(final @NonNull PaperCommandManager<C> paperCommandManager) {
         this.paperCommandManager = paperCommandManager;
+        /* Only asynchronous requests are coalesced, so that tab completion on the main thread never waits for them */
+        this.suggestionEngine = new CoalescingCommandSuggestionEngine<>(
+                (context, input) -> paperCommandManager.suggest(context.getSender(), input),
+                sender -> paperCommandManager.getBackwardsCommandSenderMapper().apply(sender)
+        );
     }
 
     @EventHandler
@@ -61,8 +69,8 @@ final class AsyncCommandSuggestionsListener<C> implements Listener {
         final C cloudSender = this.paperCommandManager.getCommandSenderMapper().apply(sender);
         final String inputBuffer = this.paperCommandManager.stripNamespace(event.getBuffer());
 
-        final List<String> suggestions = new ArrayList<>(this.paperCommandManager.suggest(
-                cloudSender,
+        final List<String> suggestions = new ArrayList<>(this.suggestionEngine.getSuggestions(
+                new CommandContext<>(true, cloudSender, this.paperCommandManager),
                 inputBuffer
         ));
 
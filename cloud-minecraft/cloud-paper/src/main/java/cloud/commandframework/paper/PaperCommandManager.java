@@ -127,7 +127,12 @@ public class PaperCommandManager<C> extends BukkitCommandManager<C> {
 
     /**
      * Register asynchronous completions. This requires all argument parsers to be thread safe, and it
-     * is up to the caller to guarantee that such is the case
+     * is up to the caller to guarantee that such is the case.
+     * <p>
+     * Asynchronous suggestion requests are coalesced per sender using a
+     * {@link cloud.commandframework.arguments.CoalescingCommandSuggestionEngine}, so that a burst of completion
+     * requests from a single player does not compute outdated suggestions. Synchronous suggestion requests are not
+     * coalesced
      *
      * @throws IllegalStateException when the server does not support asynchronous completions.
      * @see #queryCapability(CloudBukkitCapabilities) Check if the capability is present
@@ -45,6 +45,8 @@ import com.velocitypowered.api.proxy.server.RegisteredServer;
 import io.leangen.geantyref.TypeToken;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.function.Function;
 
@@ -70,6 +72,7 @@ public class VelocityCommandManager<C> extends CommandManager<C> implements Brig
     public static final String ARGUMENT_PARSE_FAILURE_SERVER = "'{input}' is not a valid server";
 
     private final ProxyServer proxyServer;
+    private final Logger logger;
     private final Function<CommandSource, C> commandSenderMapper;
     private final Function<C, CommandSource> backwardsCommandSenderMapper;
 
@@ -112,6 +115,10 @@ public class VelocityCommandManager<C> extends CommandManager<C> implements Brig
         super(commandExecutionCoordinator, new VelocityPluginRegistrationHandler<>());
         ((VelocityPluginRegistrationHandler<C>) this.getCommandRegistrationHandler()).initialize(this);
         this.proxyServer = proxyServer;
+        /* Velocity names the logger of a plugin after its id */
+        this.logger = plugin == null
+                ? LoggerFactory.getLogger(VelocityCommandManager.class)
+                : LoggerFactory.getLogger(plugin.getDescription().getId());
         this.commandSenderMapper = commandSenderMapper;
         this.backwardsCommandSenderMapper = backwardsCommandSenderMapper;
 
@@ -171,6 +178,10 @@ public class VelocityCommandManager<C> extends CommandManager<C> implements Brig
         return this.proxyServer;
     }
 
+    final @NonNull Logger getLogger() {
+        return this.logger;
+    }
+
     final @NonNull Function<@NonNull CommandSource, @NonNull C> getCommandSenderMapper() {
         return this.commandSenderMapper;
     }
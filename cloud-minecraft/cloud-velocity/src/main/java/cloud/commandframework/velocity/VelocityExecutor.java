@@ -25,6 +25,7 @@ package cloud.commandframework.velocity;
 
 import cloud.commandframework.exceptions.ArgumentParseException;
 import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.exceptions.ExceptionHandlerRegistry;
 import cloud.commandframework.exceptions.InvalidCommandSenderException;
 import cloud.commandframework.exceptions.InvalidSyntaxException;
 import cloud.commandframework.exceptions.NoPermissionException;
@@ -38,7 +39,6 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.util.concurrent.CompletionException;
 import java.util.function.BiConsumer;
 
 final class VelocityExecutor<C> implements Command<CommandSource> {
@@ -50,9 +50,68 @@ final class VelocityExecutor<C> implements Command<CommandSource> {
     private static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command. Type \"/help\" for help.";
 
     private final VelocityCommandManager<C> manager;
+    private final ExceptionHandlerRegistry<CommandSource> defaultExceptionHandlers;
 
     VelocityExecutor(final @NonNull VelocityCommandManager<C> commandManager) {
         this.manager = commandManager;
+        this.defaultExceptionHandlers = this.createDefaultExceptionHandlers();
+    }
+
+    private @NonNull ExceptionHandlerRegistry<CommandSource> createDefaultExceptionHandlers() {
+        return new ExceptionHandlerRegistry<CommandSource>()
+                .register(InvalidSyntaxException.class, (source, e) -> source.sendMessage(
+                        Identity.nil(),
+                        Component.text()
+                                .append(Component.text(
+                                        "Invalid Command Syntax. Correct command syntax is: ",
+                                        NamedTextColor.RED
+                                ))
+                                .append(Component.text(
+                                        e.getCorrectSyntax(),
+                                        NamedTextColor.GRAY
+                                ))
+                                .build()
+                ))
+                .register(InvalidCommandSenderException.class, (source, e) -> source.sendMessage(
+                        Identity.nil(),
+                        Component.text(
+                                e.getMessage(),
+                                NamedTextColor.RED
+                        )
+                ))
+                .register(NoPermissionException.class, (source, e) ->
+                        source.sendMessage(Identity.nil(), Component.text(MESSAGE_NO_PERMS)))
+                .register(NoSuchCommandException.class, (source, e) ->
+                        source.sendMessage(Identity.nil(), Component.text(MESSAGE_UNKNOWN_COMMAND)))
+                .register(ArgumentParseException.class, (source, e) -> source.sendMessage(
+                        Identity.nil(),
+                        Component.text()
+                                .append(Component.text(
+                                        "Invalid Command Argument: ",
+                                        NamedTextColor.RED
+                                ))
+                                .append(Component.text(
+                                        e.getCause().getMessage(),
+                                        NamedTextColor.GRAY
+                                ))
+                ))
+                .register(CommandExecutionException.class, (source, e) -> {
+                    source.sendMessage(
+                            Identity.nil(),
+                            Component.text(
+                                    MESSAGE_INTERNAL_ERROR,
+                                    NamedTextColor.RED
+                            )
+                    );
+                    this.manager.getLogger().error("Exception executing command handler", e.getCause());
+                })
+                .register(Throwable.class, (source, e) -> {
+                    source.sendMessage(
+                            Identity.nil(),
+                            Component.text(MESSAGE_INTERNAL_ERROR, NamedTextColor.RED)
+                    );
+                    this.manager.getLogger().error("An unhandled exception was thrown during command execution", e);
+                });
     }
 
     @Override
@@ -71,102 +130,8 @@ final class VelocityExecutor<C> implements Command<CommandSource> {
     ) {
         return (result, throwable) -> {
             if (throwable != null) {
-                if (throwable instanceof CompletionException) {
-                    throwable = throwable.getCause();
-                }
-                final Throwable finalThrowable = throwable;
-                if (throwable instanceof InvalidSyntaxException) {
-                    this.manager.handleException(
-                            sender,
-                            InvalidSyntaxException.class,
-                            (InvalidSyntaxException) throwable,
-                            (c, e) ->
-                                    source.sendMessage(
-                                            Identity.nil(),
-                                            Component
-                                                    .text()
-                                                    .append(
-                                                            Component.text(
-                                                                    "Invalid Command Syntax. Correct command syntax is: ",
-                                                                    NamedTextColor.RED
-                                                            )
-                                                    ).append(
-                                                    Component.text(
-                                                            e.getCorrectSyntax(),
-                                                            NamedTextColor.GRAY
-                                                    )
-                                            ).build()
-                                    )
-                    );
-                } else if (throwable instanceof InvalidCommandSenderException) {
-                    this.manager.handleException(
-                            sender,
-                            InvalidCommandSenderException.class,
-                            (InvalidCommandSenderException) throwable,
-                            (c, e) ->
-                                    source.sendMessage(
-                                            Identity.nil(),
-                                            Component.text(
-                                                    finalThrowable.getMessage(),
-                                                    NamedTextColor.RED
-                                            )
-                                    )
-                    );
-                } else if (throwable instanceof NoPermissionException) {
-                    this.manager.handleException(
-                            sender,
-                            NoPermissionException.class,
-                            (NoPermissionException) throwable,
-                            (c, e) -> source.sendMessage(Identity.nil(), Component.text(MESSAGE_NO_PERMS))
-                    );
-                } else if (throwable instanceof NoSuchCommandException) {
-                    this.manager.handleException(
-                            sender,
-                            NoSuchCommandException.class,
-                            (NoSuchCommandException) throwable,
-                            (c, e) -> source.sendMessage(Identity.nil(), Component.text(MESSAGE_UNKNOWN_COMMAND))
-                    );
-                } else if (throwable instanceof ArgumentParseException) {
-                    this.manager.handleException(
-                            sender,
-                            ArgumentParseException.class,
-                            (ArgumentParseException) throwable,
-                            (c, e) -> source.sendMessage(
-                                    Identity.nil(),
-                                    Component.text()
-                                            .append(Component.text(
-                                                    "Invalid Command Argument: ",
-                                                    NamedTextColor.RED
-                                            ))
-                                            .append(Component.text(
-                                                    finalThrowable.getCause().getMessage(),
-                                                    NamedTextColor.GRAY
-                                            ))
-                            )
-                    );
-                } else if (throwable instanceof CommandExecutionException) {
-                    this.manager.handleException(
-                            sender,
-                            CommandExecutionException.class,
-                            (CommandExecutionException) throwable,
-                            (c, e) -> {
-                                source.sendMessage(
-                                        Identity.nil(),
-                                        Component.text(
-                                                MESSAGE_INTERNAL_ERROR,
-                                                NamedTextColor.RED
-                                        )
-                                );
-                                finalThrowable.getCause().printStackTrace();
-                            }
-                    );
-                } else {
-                    source.sendMessage(
-                            Identity.nil(),
-                            Component.text(MESSAGE_INTERNAL_ERROR, NamedTextColor.RED)
-                    );
-                    throwable.printStackTrace();
-                }
+                this.manager.handleExecutionFailure(sender, throwable, (c, e) ->
+                        this.defaultExceptionHandlers.handle(source, e));
             }
         };
     }
@@ -40,9 +40,11 @@ final class VelocityPluginRegistrationHandler<C> implements CommandRegistrationH
 
     private CloudBrigadierManager<C, CommandSource> brigadierManager;
     private VelocityCommandManager<C> manager;
+    private VelocityExecutor<C> executor;
 
     void initialize(final @NonNull VelocityCommandManager<C> velocityCommandManager) {
         this.manager = velocityCommandManager;
+        this.executor = new VelocityExecutor<>(velocityCommandManager);
         this.brigadierManager = new CloudBrigadierManager<>(
                 velocityCommandManager,
                 () -> new CommandContext<>(
@@ -71,7 +73,7 @@ final class VelocityPluginRegistrationHandler<C> implements CommandRegistrationH
                                 p
                         ),
                         true,
-                        new VelocityExecutor<>(manager)
+                        this.executor
                 )
         );
         final CommandMeta commandMeta = this.manager.getProxyServer().getCommandManager()
@@ -0,0 +1,205 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.traffic;
+
+import cloud.commandframework.metrics.LatencyHistogram;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Results of a {@link TrafficReplayer} run
+ *
+ * @since 1.4.0
+ */
+public final class ReplayReport {
+
+    private final long commands;
+    private final long durationNanos;
+    private final LatencyHistogram.Snapshot latency;
+    private final LatencyHistogram.Snapshot serviceTime;
+    private final long allocatedBytes;
+    private final Map<Class<? extends Throwable>, Long> failures;
+
+    ReplayReport(
+            final long commands,
+            final long durationNanos,
+            final LatencyHistogram.@NonNull Snapshot latency,
+            final LatencyHistogram.@NonNull Snapshot serviceTime,
+            final long allocatedBytes,
+            final @NonNull Map<Class<? extends Throwable>, Long> failures
+    ) {
+        this.commands = commands;
+        this.durationNanos = durationNanos;
+        this.latency = latency;
+        this.serviceTime = serviceTime;
+        this.allocatedBytes = allocatedBytes;
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Get the number of replayed commands
+     *
+     * @return Command count
+     */
+    public long getCommandCount() {
+        return this.commands;
+    }
+
+    /**
+     * Get the wall clock duration of the replay
+     *
+     * @return Duration in nanoseconds
+     */
+    public long getDuration() {
+        return this.durationNanos;
+    }
+
+    /**
+     * Get the number of commands executed per second
+     *
+     * @return Throughput
+     */
+    public double getThroughput() {
+        if (this.durationNanos == 0L) {
+            return 0D;
+        }
+        return this.commands / (this.durationNanos / (double) TimeUnit.SECONDS.toNanos(1L));
+    }
+
+    /**
+     * Get the time between the moment at which commands were scheduled to be executed and the completion of their
+     * execution. This includes the time that commands spent waiting for a free replay thread, so that it reflects
+     * what senders would experience when the command manager cannot keep up with the traffic
+     *
+     * @return Latency snapshot
+     */
+    public LatencyHistogram.@NonNull Snapshot getLatency() {
+        return this.latency;
+    }
+
+    /**
+     * Get the time spent executing commands, excluding any time spent waiting for a replay thread
+     *
+     * @return Service time snapshot
+     */
+    public LatencyHistogram.@NonNull Snapshot getServiceTime() {
+        return this.serviceTime;
+    }
+
+    /**
+     * Get the number of bytes allocated by the replay threads while executing commands. Allocations made by other
+     * threads, such as those of an asynchronous execution coordinator, are not included
+     *
+     * @return Allocated bytes, or {@code -1} if the JVM does not support measuring allocations
+     */
+    public long getAllocatedBytes() {
+        return this.allocatedBytes;
+    }
+
+    /**
+     * Get the average number of bytes allocated per command
+     *
+     * @return Allocated bytes per command, or {@code -1} if the JVM does not support measuring allocations
+     */
+    public double getAllocatedBytesPerCommand() {
+        if (this.allocatedBytes < 0L) {
+            return -1D;
+        }
+        return this.commands == 0L ? 0D : this.allocatedBytes / (double) this.commands;
+    }
+
+    /**
+     * Get the number of failed commands
+     *
+     * @return Failure count
+     */
+    public long getFailureCount() {
+        long failures = 0L;
+        for (final long count : this.failures.values()) {
+            failures += count;
+        }
+        return failures;
+    }
+
+    /**
+     * Get the number of failed commands by the type of the exception they failed with
+     *
+     * @return Unmodifiable failure counts
+     */
+    public @NonNull Map<@NonNull Class<? extends Throwable>, @NonNull Long> getFailureCounts() {
+        return this.failures;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(String.format(
+                Locale.ROOT,
+                "%d commands in %.3f s (%.1f/s), %d failed%n",
+                this.commands,
+                this.durationNanos / (double) TimeUnit.SECONDS.toNanos(1L),
+                this.getThroughput(),
+                this.getFailureCount()
+        ));
+        appendLatencies(builder, "latency", this.latency);
+        appendLatencies(builder, "service time", this.serviceTime);
+        if (this.allocatedBytes >= 0L) {
+            builder.append(String.format(
+                    Locale.ROOT,
+                    "allocated %d bytes (%.0f B/command)%n",
+                    this.allocatedBytes,
+                    this.getAllocatedBytesPerCommand()
+            ));
+        }
+        this.failures.forEach((type, count) -> builder.append(String.format(
+                Locale.ROOT,
+                "  %s: %d%n",
+                type.getName(),
+                count
+        )));
+        return builder.toString();
+    }
+
+    private static void appendLatencies(
+            final @NonNull StringBuilder builder,
+            final @NonNull String name,
+            final LatencyHistogram.@NonNull Snapshot snapshot
+    ) {
+        builder.append(String.format(
+                Locale.ROOT,
+                "%s: mean %.1f us, p50 %.1f us, p99 %.1f us, p99.9 %.1f us, max %.1f us%n",
+                name,
+                snapshot.getMean() / 1000D,
+                snapshot.getValueAtPercentile(50D) / 1000D,
+                snapshot.getValueAtPercentile(99D) / 1000D,
+                snapshot.getValueAtPercentile(99.9D) / 1000D,
+                snapshot.getMax() / 1000D
+        ));
+    }
+
+}
@@ -0,0 +1,61 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.traffic;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Command sender that stands in for the sender of recorded traffic, when the traffic is replayed against a command
+ * manager that is set up without a platform
+ *
+ * @since 1.4.0
+ */
+public final class StubSender {
+
+    private final String descriptor;
+
+    /**
+     * Create a new stub sender
+     *
+     * @param descriptor Sender descriptor, as recorded in the traffic log
+     */
+    public StubSender(final @NonNull String descriptor) {
+        this.descriptor = descriptor;
+    }
+
+    /**
+     * Get the descriptor of the sender
+     *
+     * @return Sender descriptor
+     */
+    public @NonNull String getDescriptor() {
+        return this.descriptor;
+    }
+
+    @Override
+    public String toString() {
+        return "StubSender{" + this.descriptor + "}";
+    }
+
+}
@@ -0,0 +1,102 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.traffic;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Layout of traffic log files. A file starts with {@link #MAGIC} and {@link #VERSION}, followed by entries. Every
+ * writer appends a session entry with the absolute time of the session, after which senders are defined once and
+ * referenced by index, and command timestamps are stored as deltas to the previous command of the session:
+ * <ul>
+ *     <li>{@link #SESSION}: varlong epoch millis</li>
+ *     <li>{@link #SENDER}: string sender descriptor, which gets the next index of the session</li>
+ *     <li>{@link #COMMAND}: zigzag encoded varlong millis since the previous command, varint sender index, string
+ *     input</li>
+ * </ul>
+ * Strings are stored as a varint byte length followed by UTF-8 bytes
+ */
+final class TrafficLogFormat {
+
+    static final int MAGIC = 0x434C5452;
+    static final byte VERSION = 1;
+
+    static final byte SESSION = 1;
+    static final byte SENDER = 2;
+    static final byte COMMAND = 3;
+
+    private TrafficLogFormat() {
+    }
+
+    static void writeVarLong(final @NonNull DataOutput output, final long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0L) {
+            output.writeByte((int) ((remaining & 0x7FL) | 0x80L));
+            remaining >>>= 7;
+        }
+        output.writeByte((int) remaining);
+    }
+
+    static long readVarLong(final @NonNull DataInput input) throws IOException {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = input.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length number");
+    }
+
+    static long zigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    static void writeString(final @NonNull DataOutput output, final @NonNull String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(output, bytes.length);
+        output.write(bytes);
+    }
+
+    static @NonNull String readString(final @NonNull DataInput input) throws IOException {
+        final long length = readVarLong(input);
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new IOException("Malformed string length: " + length);
+        }
+        final byte[] bytes = new byte[(int) length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
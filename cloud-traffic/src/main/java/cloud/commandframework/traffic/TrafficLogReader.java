@@ -0,0 +1,234 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.traffic;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of a traffic log file written by {@link TrafficLogWriter}. A record that was cut off at the end
+ * of the file, such as when the recording process was killed, is treated as the end of the log. Writers that append
+ * to the file remove such a record first
+ *
+ * @since 1.4.0
+ */
+public final class TrafficLogReader implements Closeable {
+
+    private final DataInputStream input;
+    private final List<String> senders = new ArrayList<>();
+    private long previousTimestamp;
+    private boolean session;
+
+    private TrafficLogReader(final @NonNull DataInputStream input) {
+        this.input = input;
+    }
+
+    /**
+     * Open a traffic log file
+     *
+     * @param path Path of the log file
+     * @return Reader
+     * @throws IOException If the file could not be opened, or if it is not a traffic log
+     */
+    public static @NonNull TrafficLogReader open(final @NonNull Path path) throws IOException {
+        final DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16));
+        try {
+            readHeader(input);
+        } catch (final IOException e) {
+            input.close();
+            throw e;
+        }
+        return new TrafficLogReader(input);
+    }
+
+    /**
+     * Read all records of a traffic log file
+     *
+     * @param path Path of the log file
+     * @return Records, in the order in which they were written
+     * @throws IOException If the file could not be read
+     */
+    public static @NonNull List<@NonNull TrafficRecord> readAll(final @NonNull Path path) throws IOException {
+        final List<TrafficRecord> records = new ArrayList<>();
+        try (TrafficLogReader reader = open(path)) {
+            TrafficRecord record;
+            while ((record = reader.read()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    static void readHeader(final @NonNull DataInput input) throws IOException {
+        if (input.readInt() != TrafficLogFormat.MAGIC) {
+            throw new IOException("Not a traffic log");
+        }
+        final byte version = input.readByte();
+        if (version != TrafficLogFormat.VERSION) {
+            throw new IOException("Unsupported traffic log version: " + version);
+        }
+    }
+
+    /**
+     * Get the length of the complete entries of a traffic log file, which excludes an entry that was cut off at the
+     * end of the file
+     *
+     * @param path Path of the log file
+     * @return Length in bytes of the header and all complete entries
+     * @throws IOException If the file could not be read, or if it is not a traffic log
+     */
+    static long completeLength(final @NonNull Path path) throws IOException {
+        final CountingInputStream counting = new CountingInputStream(new BufferedInputStream(
+                Files.newInputStream(path),
+                1 << 16
+        ));
+        try (TrafficLogReader reader = new TrafficLogReader(new DataInputStream(counting))) {
+            readHeader(reader.input);
+            long length = counting.count;
+            try {
+                int type;
+                while ((type = reader.input.read()) != -1) {
+                    reader.readEntry(type);
+                    length = counting.count;
+                }
+            } catch (final EOFException ignored) {
+            }
+            return length;
+        }
+    }
+
+    /**
+     * Read the next record
+     *
+     * @return Next record, or {@code null} if the end of the log has been reached
+     * @throws IOException If the log could not be read, or is malformed
+     */
+    public @Nullable TrafficRecord read() throws IOException {
+        try {
+            while (true) {
+                final int type = this.input.read();
+                if (type == -1) {
+                    return null;
+                }
+                final TrafficRecord record = this.readEntry(type);
+                if (record != null) {
+                    return record;
+                }
+            }
+        } catch (final EOFException ignored) {
+            return null;
+        }
+    }
+
+    private @Nullable TrafficRecord readEntry(final int type) throws IOException {
+        switch (type) {
+            case TrafficLogFormat.SESSION:
+                this.previousTimestamp = TrafficLogFormat.readVarLong(this.input);
+                this.senders.clear();
+                this.session = true;
+                return null;
+            case TrafficLogFormat.SENDER:
+                this.senders.add(TrafficLogFormat.readString(this.input));
+                return null;
+            case TrafficLogFormat.COMMAND:
+                return this.readCommand();
+            default:
+                throw new IOException("Unknown traffic log entry: " + type);
+        }
+    }
+
+    private @NonNull TrafficRecord readCommand() throws IOException {
+        if (!this.session) {
+            throw new IOException("Command entry outside of a session");
+        }
+        final long timestamp = this.previousTimestamp + TrafficLogFormat.unZigZag(TrafficLogFormat.readVarLong(this.input));
+        final long senderIndex = TrafficLogFormat.readVarLong(this.input);
+        if (senderIndex < 0 || senderIndex >= this.senders.size()) {
+            throw new IOException("Unknown sender index: " + senderIndex);
+        }
+        final String input = TrafficLogFormat.readString(this.input);
+        this.previousTimestamp = timestamp;
+        return new TrafficRecord(timestamp, this.senders.get((int) senderIndex), input);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.input.close();
+    }
+
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(final @NonNull InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int read = super.read();
+            if (read != -1) {
+                this.count++;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(final byte @NonNull [] b, final int off, final int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read > 0) {
+                this.count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = super.skip(n);
+            this.count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+    }
+
+}
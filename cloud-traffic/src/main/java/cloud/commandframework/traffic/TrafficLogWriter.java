@@ -0,0 +1,140 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.traffic;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Appends command traffic to a traffic log file. Each writer appends a new session to the file, so that traffic
+ * of several runs can be collected in one file. Writes are buffered until the writer is {@link #flush() flushed}
+ * or {@link #close() closed}
+ * <p>
+ * Writers are thread safe
+ *
+ * @since 1.4.0
+ */
+public final class TrafficLogWriter implements Closeable, Flushable {
+
+    private final DataOutputStream output;
+    private final Map<String, Integer> senders = new HashMap<>();
+    private long previousTimestamp;
+
+    private TrafficLogWriter(final @NonNull DataOutputStream output, final long sessionTimestamp) {
+        this.output = output;
+        this.previousTimestamp = sessionTimestamp;
+    }
+
+    /**
+     * Open a writer that appends to a traffic log file. The file is created if it does not exist. An entry that was
+     * cut off at the end of the file, such as when the recording process was killed, is removed before appending
+     *
+     * @param path Path of the log file
+     * @return Writer
+     * @throws IOException If the file could not be opened, or if it is not a traffic log
+     */
+    public static @NonNull TrafficLogWriter open(final @NonNull Path path) throws IOException {
+        final boolean empty = !Files.exists(path) || Files.size(path) == 0L;
+        if (!empty) {
+            final long completeLength = TrafficLogReader.completeLength(path);
+            if (completeLength < Files.size(path)) {
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                    channel.truncate(completeLength);
+                }
+            }
+        }
+        final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND
+        ), 1 << 16));
+        final long sessionTimestamp = System.currentTimeMillis();
+        if (empty) {
+            output.writeInt(TrafficLogFormat.MAGIC);
+            output.writeByte(TrafficLogFormat.VERSION);
+        }
+        output.writeByte(TrafficLogFormat.SESSION);
+        TrafficLogFormat.writeVarLong(output, sessionTimestamp);
+        return new TrafficLogWriter(output, sessionTimestamp);
+    }
+
+    /**
+     * Append a command that is being executed now
+     *
+     * @param sender Sender descriptor
+     * @param input  Command input
+     * @throws IOException If the command could not be written
+     */
+    public synchronized void write(final @NonNull String sender, final @NonNull String input) throws IOException {
+        this.write(System.currentTimeMillis(), sender, input);
+    }
+
+    /**
+     * Append a command record
+     *
+     * @param record Record
+     * @throws IOException If the record could not be written
+     */
+    public synchronized void write(final @NonNull TrafficRecord record) throws IOException {
+        this.write(record.getTimestamp(), record.getSender(), record.getInput());
+    }
+
+    private void write(final long timestamp, final @NonNull String sender, final @NonNull String input) throws IOException {
+        Integer senderIndex = this.senders.get(sender);
+        if (senderIndex == null) {
+            senderIndex = this.senders.size();
+            this.output.writeByte(TrafficLogFormat.SENDER);
+            TrafficLogFormat.writeString(this.output, sender);
+            this.senders.put(sender, senderIndex);
+        }
+        this.output.writeByte(TrafficLogFormat.COMMAND);
+        TrafficLogFormat.writeVarLong(this.output, TrafficLogFormat.zigZag(timestamp - this.previousTimestamp));
+        TrafficLogFormat.writeVarLong(this.output, senderIndex);
+        TrafficLogFormat.writeString(this.output, input);
+        this.previousTimestamp = timestamp;
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        this.output.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.output.close();
+    }
+
+}
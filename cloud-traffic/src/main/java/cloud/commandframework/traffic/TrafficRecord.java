@@ -0,0 +1,104 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.traffic;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Objects;
+
+/**
+ * A single recorded command execution
+ *
+ * @since 1.4.0
+ */
+public final class TrafficRecord {
+
+    private final long timestamp;
+    private final String sender;
+    private final String input;
+
+    /**
+     * Create a new traffic record
+     *
+     * @param timestamp Time at which the command was executed, in milliseconds since the epoch
+     * @param sender    Descriptor of the command sender
+     * @param input     Command input
+     */
+    public TrafficRecord(final long timestamp, final @NonNull String sender, final @NonNull String input) {
+        this.timestamp = timestamp;
+        this.sender = sender;
+        this.input = input;
+    }
+
+    /**
+     * Get the time at which the command was executed
+     *
+     * @return Milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * Get the descriptor of the command sender, as produced by the sender descriptor function of the
+     * {@link TrafficRecorder}
+     *
+     * @return Sender descriptor
+     */
+    public @NonNull String getSender() {
+        return this.sender;
+    }
+
+    /**
+     * Get the command input
+     *
+     * @return Command input
+     */
+    public @NonNull String getInput() {
+        return this.input;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final TrafficRecord that = (TrafficRecord) o;
+        return this.timestamp == that.timestamp && this.sender.equals(that.sender) && this.input.equals(that.input);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.timestamp, this.sender, this.input);
+    }
+
+    @Override
+    public String toString() {
+        return "TrafficRecord{timestamp=" + this.timestamp + ", sender='" + this.sender + "', input='" + this.input + "'}";
+    }
+
+}
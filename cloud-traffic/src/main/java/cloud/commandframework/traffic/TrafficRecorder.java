@@ -0,0 +1,123 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.traffic;
+
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.execution.preprocessor.CommandPreprocessingContext;
+import cloud.commandframework.execution.preprocessor.CommandPreprocessor;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * {@link CommandPreprocessor} that records the input and sender of every executed command to a traffic log. Register
+ * it using {@link cloud.commandframework.CommandManager#registerCommandPreProcessor(CommandPreprocessor)}.
+ * Suggestion requests are not recorded
+ * <p>
+ * Failures to write to the log never fail the command; they are counted instead
+ *
+ * @param <C> Command sender type
+ * @since 1.4.0
+ */
+public final class TrafficRecorder<C> implements CommandPreprocessor<C>, Closeable {
+
+    private final TrafficLogWriter writer;
+    private final Function<@NonNull C, @NonNull String> senderDescriptor;
+    private final LongAdder writeFailures = new LongAdder();
+
+    /**
+     * Create a new traffic recorder
+     *
+     * @param writer           Log writer
+     * @param senderDescriptor Function that describes senders, such that the sender can be stubbed during replay. This
+     *                         could for example be a player name, or the type of the sender
+     */
+    public TrafficRecorder(
+            final @NonNull TrafficLogWriter writer,
+            final @NonNull Function<@NonNull C, @NonNull String> senderDescriptor
+    ) {
+        this.writer = writer;
+        this.senderDescriptor = senderDescriptor;
+    }
+
+    /**
+     * Create a new traffic recorder that appends to a log file
+     *
+     * @param path             Path of the log file
+     * @param senderDescriptor Function that describes senders
+     * @param <C>              Command sender type
+     * @return Recorder
+     * @throws IOException If the log file could not be opened
+     */
+    public static <C> @NonNull TrafficRecorder<C> create(
+            final @NonNull Path path,
+            final @NonNull Function<@NonNull C, @NonNull String> senderDescriptor
+    ) throws IOException {
+        return new TrafficRecorder<>(TrafficLogWriter.open(path), senderDescriptor);
+    }
+
+    @Override
+    public void accept(final @NonNull CommandPreprocessingContext<C> context) {
+        final CommandContext<C> commandContext = context.getCommandContext();
+        if (commandContext.isSuggestions()) {
+            return;
+        }
+        try {
+            this.writer.write(
+                    this.senderDescriptor.apply(commandContext.getSender()),
+                    String.join(" ", context.getInputQueue())
+            );
+        } catch (final IOException e) {
+            this.writeFailures.increment();
+        }
+    }
+
+    /**
+     * Get the number of commands that could not be written to the log
+     *
+     * @return Write failure count
+     */
+    public long getWriteFailures() {
+        return this.writeFailures.sum();
+    }
+
+    /**
+     * Write buffered records to the log file
+     *
+     * @throws IOException If the records could not be written
+     */
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+
+}
@@ -0,0 +1,275 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.traffic;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.metrics.LatencyHistogram;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Replays recorded traffic against a command manager. Commands are executed on a pool of replay threads, at the
+ * time offsets at which they were recorded divided by the {@link Builder#speedUp(double) speed-up}. Commands that
+ * are due while all replay threads are busy are queued, and the time spent in the queue counts towards the
+ * {@link ReplayReport#getLatency() latency} of the command
+ * <p>
+ * Senders are created once per sender descriptor using the sender factory, and reused for all commands of the
+ * same descriptor
+ *
+ * @param <C> Command sender type
+ * @since 1.4.0
+ */
+public final class TrafficReplayer<C> {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final CommandManager<C> commandManager;
+    private final Function<@NonNull String, @NonNull C> senderFactory;
+    private final double speedUp;
+    private final int concurrency;
+
+    private TrafficReplayer(
+            final @NonNull CommandManager<C> commandManager,
+            final @NonNull Function<@NonNull String, @NonNull C> senderFactory,
+            final double speedUp,
+            final int concurrency
+    ) {
+        this.commandManager = commandManager;
+        this.senderFactory = senderFactory;
+        this.speedUp = speedUp;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Create a new replayer builder
+     *
+     * @param commandManager Command manager to replay the traffic against
+     * @param senderFactory  Factory that creates stub senders from the recorded sender descriptors
+     * @param <C>            Command sender type
+     * @return Builder
+     */
+    public static <C> @NonNull Builder<C> builder(
+            final @NonNull CommandManager<C> commandManager,
+            final @NonNull Function<@NonNull String, @NonNull C> senderFactory
+    ) {
+        return new Builder<>(commandManager, senderFactory);
+    }
+
+    /**
+     * Replay traffic and wait for all commands to complete
+     *
+     * @param records Records, ordered by their timestamps
+     * @return Report
+     * @throws InterruptedException If the thread was interrupted while replaying
+     */
+    public @NonNull ReplayReport replay(final @NonNull List<@NonNull TrafficRecord> records) throws InterruptedException {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LatencyHistogram serviceTime = new LatencyHistogram();
+        final LongAdder allocatedBytes = new LongAdder();
+        final Map<Class<? extends Throwable>, LongAdder> failures = new ConcurrentHashMap<>();
+        final Map<String, C> senders = new HashMap<>();
+        final CountDownLatch remaining = new CountDownLatch(records.size());
+        final boolean measureAllocations = isAllocationMeasurementSupported();
+
+        final ExecutorService executor = this.createExecutor();
+        final long start = System.nanoTime();
+        try {
+            final long origin = records.isEmpty() ? 0L : records.get(0).getTimestamp();
+            for (final TrafficRecord record : records) {
+                final long scheduled = start + this.offsetNanos(record.getTimestamp() - origin);
+                waitUntil(scheduled);
+                final C sender = senders.computeIfAbsent(record.getSender(), this.senderFactory);
+                executor.execute(() -> {
+                    try {
+                        final long allocatedBefore = measureAllocations ? allocatedBytes() : 0L;
+                        final long begin = System.nanoTime();
+                        final Throwable failure = this.execute(sender, record.getInput());
+                        final long end = System.nanoTime();
+                        if (measureAllocations) {
+                            allocatedBytes.add(allocatedBytes() - allocatedBefore);
+                        }
+                        serviceTime.record(end - begin);
+                        latency.record(end - scheduled);
+                        if (failure != null) {
+                            failures.computeIfAbsent(failure.getClass(), type -> new LongAdder()).increment();
+                        }
+                    } finally {
+                        remaining.countDown();
+                    }
+                });
+            }
+            remaining.await();
+        } finally {
+            executor.shutdownNow();
+        }
+        final long duration = System.nanoTime() - start;
+
+        final Map<Class<? extends Throwable>, Long> failureCounts = new HashMap<>();
+        failures.forEach((type, count) -> failureCounts.put(type, count.sum()));
+        return new ReplayReport(
+                records.size(),
+                duration,
+                latency.snapshot(),
+                serviceTime.snapshot(),
+                measureAllocations ? allocatedBytes.sum() : -1L,
+                failureCounts
+        );
+    }
+
+    private @Nullable Throwable execute(final @NonNull C sender, final @NonNull String input) {
+        try {
+            this.commandManager.executeCommand(sender, input).join();
+            return null;
+        } catch (final CompletionException e) {
+            return e.getCause() == null ? e : e.getCause();
+        } catch (final RuntimeException | Error e) {
+            /* Errors thrown by command handlers are failures of the replayed command, not of the replay */
+            return e;
+        }
+    }
+
+    private long offsetNanos(final long offsetMillis) {
+        if (Double.isInfinite(this.speedUp)) {
+            return 0L;
+        }
+        return (long) (TimeUnit.MILLISECONDS.toNanos(offsetMillis) / this.speedUp);
+    }
+
+    private @NonNull ExecutorService createExecutor() {
+        final AtomicInteger threadIndex = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                this.concurrency,
+                this.concurrency,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "cloud-traffic-replay-" + threadIndex.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    private static void waitUntil(final long deadline) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0L) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    private static boolean isAllocationMeasurementSupported() {
+        if (!(THREADS instanceof com.sun.management.ThreadMXBean)) {
+            return false;
+        }
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+        return threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+
+    /**
+     * Builder for {@link TrafficReplayer}
+     *
+     * @param <C> Command sender type
+     */
+    public static final class Builder<C> {
+
+        private final CommandManager<C> commandManager;
+        private final Function<@NonNull String, @NonNull C> senderFactory;
+        private double speedUp = 1D;
+        private int concurrency = 1;
+
+        private Builder(
+                final @NonNull CommandManager<C> commandManager,
+                final @NonNull Function<@NonNull String, @NonNull C> senderFactory
+        ) {
+            this.commandManager = commandManager;
+            this.senderFactory = senderFactory;
+        }
+
+        /**
+         * Set how many times faster than recorded the traffic is replayed. {@code 1} replays the traffic in real time,
+         * and {@link Double#POSITIVE_INFINITY} replays all commands as fast as possible. Defaults to {@code 1}
+         *
+         * @param speedUp Speed-up factor. Must be positive
+         * @return Builder instance
+         */
+        public @NonNull Builder<C> speedUp(final double speedUp) {
+            if (!(speedUp > 0D)) {
+                throw new IllegalArgumentException("The speed-up must be positive, was " + speedUp);
+            }
+            this.speedUp = speedUp;
+            return this;
+        }
+
+        /**
+         * Set the number of threads that execute commands. Defaults to {@code 1}
+         *
+         * @param concurrency Number of replay threads. Must be at least 1
+         * @return Builder instance
+         */
+        public @NonNull Builder<C> concurrency(final int concurrency) {
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("The concurrency must be at least 1, was " + concurrency);
+            }
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Build the replayer
+         *
+         * @return Replayer
+         */
+        public @NonNull TrafficReplayer<C> build() {
+            return new TrafficReplayer<>(this.commandManager, this.senderFactory, this.speedUp, this.concurrency);
+        }
+
+    }
+
+}
@@ -0,0 +1,142 @@
+//
+// MIT License
+//
+// Copyright (c) 2020 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.traffic;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.exceptions.NoSuchCommandException;
+import cloud.commandframework.execution.CommandExecutionCoordinator;
+import cloud.commandframework.internal.CommandRegistrationHandler;
+import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+class TrafficTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecordAndReplay() throws Exception {
+        final Path log = this.directory.resolve("traffic.log");
+        final CommandManager<StubSender> manager = createManager();
+        try (TrafficRecorder<StubSender> recorder = TrafficRecorder.create(log, StubSender::getDescriptor)) {
+            manager.registerCommandPreProcessor(recorder);
+            manager.executeCommand(new StubSender("alice"), "count 1").join();
+            manager.executeCommand(new StubSender("bob"), "count 2").join();
+            manager.suggest(new StubSender("alice"), "count ");
+            Assertions.assertThrows(Exception.class, () -> manager.executeCommand(new StubSender("alice"), "missing").join());
+        }
+        /* Appending starts a new session in the same file */
+        try (TrafficLogWriter writer = TrafficLogWriter.open(log)) {
+            writer.write(new TrafficRecord(1000L, "carol", "count 3"));
+        }
+
+        final List<TrafficRecord> records = TrafficLogReader.readAll(log);
+        Assertions.assertEquals(4, records.size());
+        Assertions.assertEquals("alice", records.get(0).getSender());
+        Assertions.assertEquals("count 1", records.get(0).getInput());
+        Assertions.assertEquals("bob", records.get(1).getSender());
+        Assertions.assertEquals("missing", records.get(2).getInput());
+        Assertions.assertEquals(new TrafficRecord(1000L, "carol", "count 3"), records.get(3));
+
+        final ReplayReport report = TrafficReplayer.builder(createManager(), StubSender::new)
+                .speedUp(Double.POSITIVE_INFINITY)
+                .concurrency(2)
+                .build()
+                .replay(records);
+        Assertions.assertEquals(4, report.getCommandCount());
+        Assertions.assertEquals(1L, report.getFailureCounts().get(NoSuchCommandException.class));
+        Assertions.assertEquals(4, report.getLatency().getCount());
+        Assertions.assertTrue(report.getThroughput() > 0D);
+    }
+
+    @Test
+    void testReplayErrors() throws InterruptedException {
+        final CommandManager<StubSender> manager = createManager();
+        manager.command(manager.commandBuilder("fail").handler(c -> {
+            throw new AssertionError();
+        }));
+        final ReplayReport report = TrafficReplayer.builder(manager, StubSender::new)
+                .speedUp(Double.POSITIVE_INFINITY)
+                .build()
+                .replay(Arrays.asList(new TrafficRecord(1L, "alice", "fail"), new TrafficRecord(2L, "alice", "count 1")));
+        Assertions.assertEquals(2, report.getCommandCount());
+        Assertions.assertEquals(1L, report.getFailureCounts().get(AssertionError.class));
+    }
+
+    @Test
+    void testTruncatedLog() throws IOException {
+        final Path log = this.directory.resolve("truncated.log");
+        try (TrafficLogWriter writer = TrafficLogWriter.open(log)) {
+            writer.write(new TrafficRecord(1L, "sender", "first"));
+            writer.write(new TrafficRecord(2L, "sender", "second"));
+        }
+        final byte[] bytes = Files.readAllBytes(log);
+        Files.write(log, Arrays.copyOf(bytes, bytes.length - 2));
+        Assertions.assertEquals(1, TrafficLogReader.readAll(log).size());
+
+        /* Appending removes the cut off record, so that it does not swallow the new session */
+        try (TrafficLogWriter writer = TrafficLogWriter.open(log)) {
+            writer.write(new TrafficRecord(3L, "other", "third"));
+        }
+        final List<TrafficRecord> records = TrafficLogReader.readAll(log);
+        Assertions.assertEquals(2, records.size());
+        Assertions.assertEquals(new TrafficRecord(1L, "sender", "first"), records.get(0));
+        Assertions.assertEquals(new TrafficRecord(3L, "other", "third"), records.get(1));
+
+        Files.write(log, new byte[]{1, 2, 3, 4, 5});
+        Assertions.assertThrows(IOException.class, () -> TrafficLogReader.readAll(log));
+        Assertions.assertThrows(IOException.class, () -> TrafficLogWriter.open(log));
+    }
+
+    private static CommandManager<StubSender> createManager() {
+        final CommandManager<StubSender> manager = new CommandManager<StubSender>(
+                CommandExecutionCoordinator.simpleCoordinator(),
+                CommandRegistrationHandler.nullCommandRegistrationHandler()
+        ) {
+            @Override
+            public boolean hasPermission(final StubSender sender, final String permission) {
+                return true;
+            }
+
+            @Override
+            public CommandMeta createDefaultCommandMeta() {
+                return SimpleCommandMeta.empty();
+            }
+        };
+        manager.command(manager.commandBuilder("count").argument(IntegerArgument.of("value")).handler(c -> {
+        }));
+        return manager;
+    }
+
+}